@@ -0,0 +1,205 @@
+#!/usr/bin/env python3
+"""
+Compile birds.json, bonus.json and goals.json into the binary card catalog
+(cards.bin) loaded by game.components.catalog.BinaryCatalogLoader.
+
+Usage:
+    python3 scripts/generate_card_catalog.py
+
+Run it again every time one of the json files changes (e.g. after
+generate_birds_json.py). The catalog stores a CRC32 of each json file and the
+bot falls back to parsing the json when they don't match.
+
+Layout (big-endian):
+    header      magic "WSCC", u16 version, 3 x u32 crc32 (birds, bonus, goals)
+    strings     u32 count, then count x (u16 byte length, utf-8 bytes)
+    birds       u32 count, u16 record size, then fixed-width records
+    bonuses     u32 count, u16 record size, then fixed-width records
+    goals       u32 count, u16 record size, then fixed-width records
+
+Strings are interned: every record field references an index in the string
+table. Enums are stored as the ordinal of the Java enum, 0xFF meaning null.
+"""
+
+import json
+import struct
+import sys
+import zlib
+from pathlib import Path
+
+SCRIPT_DIR = Path(__file__).resolve().parent
+PROJECT_ROOT = SCRIPT_DIR.parent
+RESOURCES = PROJECT_ROOT / "src" / "main" / "resources"
+BIRDS_PATH = RESOURCES / "birds.json"
+BONUS_PATH = RESOURCES / "bonus.json"
+GOALS_PATH = RESOURCES / "goals.json"
+OUTPUT_PATH = RESOURCES / "cards.bin"
+
+MAGIC = b"WSCC"
+VERSION = 1
+NULL_ORDINAL = 0xFF
+
+# Must match the declaration order of the Java enums
+EXPANSIONS = [
+    "originalcore", "swiftstart", "european", "oceania", "asia", "americas",
+    "promoAsia", "promoCA", "promoEurope", "promoNZ", "promoUK", "promoUS",
+]
+NEST_TYPES = ["Wild", "Bowl", "Ground", "Platform", "Cavity"]
+FOOD_TYPES = ["Invertebrate", "Seed", "Fruit", "Fish", "Rodent", "Nectar", "Wild (food)"]
+HABITATS = ["Forest", "Grassland", "Wetland"]
+LANGUAGE_BONUS_CARDS = ["Anatomist", "Cartographer", "Historian", "Photographer"]
+
+# Bird flags
+FLAG_PREDATOR = 1
+FLAG_FLOCKING = 1 << 1
+FLAG_BONUS = 1 << 2
+FLAG_FOOD_COST_OR = 1 << 3
+
+# name, scientific name, expansion, power text, wingspan, points, egg capacity,
+# nest type, habitat mask, flags, food counts, language bonus mask
+BIRD_RECORD = struct.Struct(">HHBHHBBBBB" + "B" * len(FOOD_TYPES) + "B")
+# id, name, expansion, automa compatible, automa exclusive, condition, explanatory text
+BONUS_RECORD = struct.Struct(">iHBBBHH")
+# id, name, expansion, duet, condition, explanatory text
+GOAL_RECORD = struct.Struct(">iHBBHH")
+
+
+class StringTable:
+    def __init__(self):
+        self.strings = []
+        self.index = {}
+
+    def intern(self, value):
+        if value not in self.index:
+            self.index[value] = len(self.strings)
+            self.strings.append(value)
+        return self.index[value]
+
+    def encode(self):
+        out = bytearray(struct.pack(">I", len(self.strings)))
+        for value in self.strings:
+            data = value.encode("utf-8")
+            out += struct.pack(">H", len(data)) + data
+        return bytes(out)
+
+
+def text(value):
+    """Nullable text fields are stored as empty strings."""
+    return "" if value is None else str(value)
+
+
+def as_int(value):
+    """Same semantics as Jackson's JsonNode.asInt(): null and unparsable text give 0."""
+    if value is None:
+        return 0
+    if isinstance(value, (int, float)):
+        return int(value)
+    try:
+        return int(str(value).strip())
+    except ValueError:
+        try:
+            return int(float(value))
+        except ValueError:
+            return 0
+
+
+def flag(value):
+    return value == "X"
+
+
+def ordinal(values, value):
+    return values.index(value) if value in values else NULL_ORDINAL
+
+
+def bird_record(strings, bird):
+    habitat_mask = 0
+    for i, habitat in enumerate(HABITATS):
+        if flag(bird[habitat]):
+            habitat_mask |= 1 << i
+    flags = 0
+    if flag(bird["Predator"]):
+        flags |= FLAG_PREDATOR
+    if flag(bird["Flocking"]):
+        flags |= FLAG_FLOCKING
+    if flag(bird["Bonus card"]):
+        flags |= FLAG_BONUS
+    if flag(bird["/ (food cost)"]):
+        flags |= FLAG_FOOD_COST_OR
+    language_mask = 0
+    for i, card in enumerate(LANGUAGE_BONUS_CARDS):
+        if flag(bird[card]):
+            language_mask |= 1 << i
+    food_counts = [as_int(bird[food]) for food in FOOD_TYPES]
+    return BIRD_RECORD.pack(
+        strings.intern(text(bird["Common name"])),
+        strings.intern(text(bird["Scientific name"])),
+        ordinal(EXPANSIONS, bird["Expansion"]),
+        strings.intern(text(bird["Power text"])),
+        as_int(bird["Wingspan"]),
+        as_int(bird["Victory points"]),
+        as_int(bird["Egg capacity"]),
+        ordinal(NEST_TYPES, bird["Nest type"]),
+        habitat_mask,
+        flags,
+        *food_counts,
+        language_mask,
+    )
+
+
+def bonus_record(strings, bonus):
+    name = text(bonus["Name"])
+    return BONUS_RECORD.pack(
+        as_int(bonus["id"]),
+        strings.intern(name),
+        ordinal(EXPANSIONS, bonus["Expansion"]),
+        1 if flag(bonus["Automa"]) else 0,
+        1 if "[automa]" in name else 0,
+        strings.intern(text(bonus["Condition"])),
+        strings.intern(text(bonus["Explanatory text"])),
+    )
+
+
+def goal_record(strings, goal):
+    return GOAL_RECORD.pack(
+        as_int(goal["id"]),
+        strings.intern(text(goal["Name"])),
+        ordinal(EXPANSIONS, goal["Expansion"]),
+        1 if flag(goal["Duet"]) else 0,
+        strings.intern(text(goal["Condition"])),
+        strings.intern(text(goal["Explanatory Text"])),
+    )
+
+
+def section(record_struct, records):
+    return struct.pack(">IH", len(records), record_struct.size) + b"".join(records)
+
+
+def main():
+    sources = [BIRDS_PATH, BONUS_PATH, GOALS_PATH]
+    for path in sources:
+        if not path.exists():
+            print(f"Error: {path} not found", file=sys.stderr)
+            sys.exit(1)
+    raw = [path.read_bytes() for path in sources]
+    birds, bonuses, goals = (json.loads(data.decode("utf-8")) for data in raw)
+
+    strings = StringTable()
+    bird_records = [bird_record(strings, bird) for bird in birds]
+    bonus_records = [bonus_record(strings, bonus) for bonus in bonuses]
+    goal_records = [goal_record(strings, goal) for goal in goals]
+
+    out = bytearray(MAGIC)
+    out += struct.pack(">H", VERSION)
+    out += struct.pack(">III", *(zlib.crc32(data) for data in raw))
+    out += strings.encode()
+    out += section(BIRD_RECORD, bird_records)
+    out += section(BONUS_RECORD, bonus_records)
+    out += section(GOAL_RECORD, goal_records)
+
+    OUTPUT_PATH.write_bytes(bytes(out))
+    print(f"Generated {OUTPUT_PATH} ({len(out)} bytes): {len(birds)} birds, {len(bonuses)} bonuses, "
+          f"{len(goals)} goals, {len(strings.strings)} strings")
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,74 @@
+package benchmark;
+
+import game.Game;
+import game.Player;
+import game.components.enums.FoodType;
+import game.exception.GameInputException;
+import game.service.GameService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole games of 2 players played in-process, without Discord: the starting hands, then every turn takes food from the
+ * feeder, 52 turns per game.<br/>
+ * {@code engine} plays on the game alone, {@code service} goes through the {@link GameService} with its registry and
+ * no listener. Run like {@link PlaceholderBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameSimulationBenchmark {
+
+    private static final List<Long> PLAYER_IDS = List.of(1L, 2L);
+
+    private long seed;
+
+    @Benchmark
+    public Game engine() throws GameInputException {
+        Game game = new Game(0, ++seed, 1, PLAYER_IDS);
+        game.startGame();
+        for (Player player : game.getPlayers()) {
+            pickStartingHand(player);
+            game.confirmStartingHandPick(player.getPlayerId());
+        }
+        game.startFirstTurn();
+        while (!game.isFinished()) {
+            Player player = takeFood(game);
+            game.endTurn(player);
+        }
+        return game;
+    }
+
+    @Benchmark
+    public Game service() throws GameInputException {
+        GameService service = GameService.getInstance();
+        Game game = service.createGame(0, PLAYER_IDS);
+        for (Player player : game.getPlayers()) {
+            pickStartingHand(player);
+            service.confirmStartingHandPick(game.getGameId(), player.getPlayerId());
+        }
+        service.checkAllPlayersReady(game);
+        while (!game.isFinished()) {
+            Player player = takeFood(game);
+            service.endTurn(game, player);
+        }
+        return game;
+    }
+
+    private static void pickStartingHand(Player player) {
+        player.getHand().getBirdCards().get(0).setSelected(true);
+        player.getHand().getBonusCards().get(0).setSelected(true);
+    }
+
+    private static Player takeFood(Game game) {
+        Player player = game.getCurrentPlayer();
+        FoodType food = game.getFeeder().getDiceInFeeder().get(0).getVisibleFace().getFoodType().get(0);
+        game.takeFood(player, List.of(0), List.of(food));
+        return player;
+    }
+}
@@ -0,0 +1,98 @@
+package benchmark;
+
+import game.Game;
+import game.Player;
+import game.components.enums.FoodType;
+import game.exception.GameInputException;
+import game.service.journal.GameEvent;
+import game.service.journal.GameEvent.GameCreated;
+import game.service.journal.GameJournal;
+import game.service.journal.GameSnapshot;
+import game.service.journal.JournalStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Recovery time of a game against the length of its journal: reading the journal file and replaying its events on a
+ * fresh game.<br/>
+ * Each turn of the generated journals takes food from the feeder and ends the turn, 2 events per turn. With a
+ * snapshot interval, recovery restores the latest snapshot and only replays the events after it.
+ * Run like {@link PlaceholderBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalReplayBenchmark {
+
+    private static final String GAME_ID = Game.GAME_ID_PREFIX + 1;
+
+    // 52 turns is a whole game of 2 players
+    @Param({ "10", "26", "52" })
+    private int turns;
+
+    @Param({ "0", "20" })
+    private int snapshotInterval;
+
+    private Path directory;
+    private JournalStore store;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException, GameInputException {
+        directory = Files.createTempDirectory("journal-benchmark");
+        store = new JournalStore(directory);
+        GameJournal journal = store.open(GAME_ID);
+        Game game = new Game(0, 42L, 1, List.of(1L, 2L));
+        game.setJournal(journal);
+        game.setSnapshotInterval(snapshotInterval);
+        journal.record(game.getCreatedEvent());
+        game.startGame();
+        for (Player player : game.getPlayers()) {
+            player.getHand().getBirdCards().get(0).setSelected(true);
+            player.getHand().getBonusCards().get(0).setSelected(true);
+            game.confirmStartingHandPick(player.getPlayerId());
+        }
+        game.startFirstTurn();
+        for (int i = 0; i < turns; i++) {
+            Player player = game.getCurrentPlayer();
+            FoodType food = game.getFeeder().getDiceInFeeder().get(0).getVisibleFace().getFoodType().get(0);
+            game.takeFood(player, List.of(0), List.of(food));
+            game.endTurn(player);
+        }
+        store.flush();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public Game recover() throws IOException {
+        JournalStore.Recovery recovery = store.recover(GAME_ID);
+        List<GameEvent> events = recovery.events();
+        GameSnapshot snapshot = recovery.snapshot();
+        Game game = snapshot != null ? Game.fromSnapshot(snapshot) : Game.fromEvent((GameCreated) events.get(0));
+        events.subList(snapshot != null ? 0 : 1, events.size()).forEach(game::apply);
+        return game;
+    }
+
+    @Benchmark
+    public List<GameEvent> readOnly() throws IOException {
+        return store.read(GAME_ID);
+    }
+}
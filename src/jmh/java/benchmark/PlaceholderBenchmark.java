@@ -0,0 +1,77 @@
+package benchmark;
+
+import game.components.catalog.JsonCatalogLoader;
+import game.ui.discord.enumeration.EmojiEnum;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import util.StringUtil;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Placeholder replacement over every power text of birds.json: the single pass scanner of {@link StringUtil} against
+ * the regex implementation it replaced.<br/>
+ * Compiled with the benchmark profile ({@code mvn -Pbenchmark compile}), run {@code org.openjdk.jmh.Main PlaceholderBenchmark}
+ * with target/classes and the project dependencies on the classpath
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceholderBenchmark {
+
+    private List<String> powerTexts;
+    private final StringBuilder reusableBuilder = new StringBuilder(512);
+
+    @Setup
+    public void setUp() throws IOException {
+        powerTexts = JsonCatalogLoader.load().birds().stream()
+                .map(bird -> bird.getPower().getPowerText())
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Benchmark
+    public void regex(Blackhole blackhole) {
+        for (String powerText : powerTexts) {
+            blackhole.consume(replacePlaceholdersWithRegex(powerText));
+        }
+    }
+
+    @Benchmark
+    public void scanner(Blackhole blackhole) {
+        for (String powerText : powerTexts) {
+            blackhole.consume(StringUtil.replacePlaceholders(powerText));
+        }
+    }
+
+    @Benchmark
+    public void scannerReusableBuilder(Blackhole blackhole) {
+        for (String powerText : powerTexts) {
+            reusableBuilder.setLength(0);
+            blackhole.consume(StringUtil.appendReplacingPlaceholders(reusableBuilder, powerText).length());
+        }
+    }
+
+    /**
+     * The implementation {@link StringUtil#replacePlaceholders} had before the scanner
+     */
+    private static String replacePlaceholdersWithRegex(String text) {
+        Pattern pattern = Pattern.compile("\\[([^]]+)]");
+        Matcher matcher = pattern.matcher(text);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String replacement = EmojiEnum.getEmojiIdFromPlaceholder(matcher.group(1), matcher.group(0));
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+}
@@ -1,57 +1,90 @@
 package game;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import game.components.BirdDeck;
 import game.components.BonusDeck;
 import game.components.Feeder;
-import game.components.enums.*;
-import game.components.meta.Nest;
-import game.components.meta.Power;
+import game.components.Hand;
+import game.components.catalog.CardCatalog;
+import game.components.catalog.DeckTemplate;
+import game.components.enums.Expansion;
+import game.components.enums.FoodType;
+import game.components.enums.HabitatEnum;
 import game.components.subcomponents.BirdCard;
 import game.components.subcomponents.BonusCard;
+import game.components.subcomponents.Die;
 import game.exception.GameInputException;
 import game.service.enumeration.GameState;
 import game.service.enumeration.GameStateMachine;
 import game.service.enumeration.PlayerState;
+import game.service.enumeration.PlayerStateMachine;
+import game.service.history.TurnSummary;
+import game.service.journal.GameEvent;
+import game.service.journal.GameEvent.*;
+import game.service.journal.GameJournal;
+import game.service.journal.GameSnapshot;
+import game.service.journal.GameSnapshot.PlayedBird;
+import game.service.journal.GameSnapshot.PlayerSnapshot;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
-import net.dv8tion.jda.api.entities.User;
-import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import util.LogLevel;
 import util.Logger;
-import util.StringUtil;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.*;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 @Getter
 public class Game {
 
-    // Seed
-    public static long GAME_SEED;
+    public static final String GAME_ID_PREFIX = "game_id-";
+    // 8 + 7 + 6 + 5 action cubes over the 4 rounds
+    public static final int TURNS_PER_PLAYER = 26;
+
+    // Seed, every random stream of the game is split from it until the first snapshot reseeds them
+    private final long seed;
+    @Getter(AccessLevel.NONE)
+    private SplittableRandom random;
 
     // Components
-    public List<BirdCard> birdCards;
-    public List<BonusCard> bonusCards;
+    private final List<BirdCard> birdCards;
+    private final List<BonusCard> bonusCards;
+    @Getter(AccessLevel.NONE)
+    private final BirdCard[] birdCardsById;
+    @Getter(AccessLevel.NONE)
+    private final BonusCard[] bonusCardsByCatalogIndex;
     private final List<Player> players;
     private final BirdDeck birdDeck;
     private final BonusDeck bonusDeck;
     private final Feeder feeder;
+    // Every change of the game is recorded as an event, see apply(GameEvent)
+    @Getter(AccessLevel.NONE)
+    @Setter
+    private GameJournal journal = GameJournal.NONE;
+    // A snapshot is given to the journal every snapshotInterval events, never when 0
+    @Getter(AccessLevel.NONE)
+    @Setter
+    private int snapshotInterval;
+    @Getter(AccessLevel.NONE)
+    private int eventsSinceSnapshot;
 
     // Game dynamic parameters
     @Setter
     private GameState state;
     private int currentPlayerIndex;
     private int turnCounter = 1;
+    // Turns already played, and the one being played, null outside of the turns
+    @Getter(AccessLevel.NONE)
+    private final List<TurnSummary> turnSummaries = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private TurnSummary currentTurn;
 
     // Game static parameters
     private final String gameId;
-    private final TextChannel gameChannel;
+    private final int gameNumber;
+    // Where the game is played, 0 for a game without a channel
+    private final long channelId;
     private final List<Expansion> expansions;
     private final int startingBirdHandSize;
     private final int startingBonusHandSize;
@@ -59,58 +92,68 @@ public class Game {
     // Logger
     private final Logger logger = new Logger(Game.class, LogLevel.ALL);
 
-    public Game(TextChannel gameChannel, int gameId, User... players) {
-        this(gameChannel, gameId, List.of(Expansion.values()), players);
+    public Game(long channelId, int gameId, List<Long> playerIds) {
+        this(channelId, gameId, List.of(Expansion.values()), playerIds);
     }
 
-    public Game(TextChannel gameChannel, int gameId, List<Expansion> expansions, User... players) {
-        this(gameChannel, 0, gameId, 5, 2, expansions, players);
+    public Game(long channelId, int gameId, List<Expansion> expansions, List<Long> playerIds) {
+        this(channelId, 0, gameId, 5, 2, expansions, playerIds);
     }
 
-    public Game(TextChannel gameChannel, long seed, int gameId, User... players) {
-        this(gameChannel, seed, gameId, 5, 2, List.of(Expansion.values()), players);
+    public Game(long channelId, long seed, int gameId, List<Long> playerIds) {
+        this(channelId, seed, gameId, 5, 2, List.of(Expansion.values()), playerIds);
     }
 
-    public Game(TextChannel gameChannel, long seed, int gameId, int startingBirdHandSize, int startingBonusHandSize, List<Expansion> expansions, User... playerUsers) {
-        if (playerUsers.length == 0) {
-            throw new IllegalArgumentException("Must provide at least one player name");
+    public Game(long channelId, long seed, int gameId, int startingBirdHandSize, int startingBonusHandSize, List<Expansion> expansions, List<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            throw new IllegalArgumentException("Must provide at least one player");
         }
 
-        GAME_SEED = seed == 0 ? new Random().nextLong() : seed;
-        logger.info("Setting up Game with seed : " + GAME_SEED);
+        this.seed = seed == 0 ? new SplittableRandom().nextLong() : seed;
+        this.random = new SplittableRandom(this.seed);
+        logger.info("Setting up Game with seed : " + this.seed);
 
-        this.gameId = "game_id-" + gameId;
+        this.gameId = GAME_ID_PREFIX + gameId;
+        this.gameNumber = gameId;
         this.state = GameState.CREATED;
-        this.gameChannel = gameChannel;
+        this.channelId = channelId;
         this.startingBirdHandSize = startingBirdHandSize;
         this.startingBonusHandSize = startingBonusHandSize;
 
         boolean withNectar = expansions.contains(Expansion.OCEANIA);
-        logger.debug(String.format("Parameters:\nSeed : %s\nstartingBirdHandSize : %s\nstartingBonusHandSize : %s\nexpansions : %s\nPlayers : %s",
-                GAME_SEED, startingBirdHandSize, startingBonusHandSize, expansions, StringUtil.getListAsString(Arrays.stream(playerUsers).map(User::getName).toList(), ", ")));
+        logger.debug(() -> String.format("Parameters:\nSeed : %s\nstartingBirdHandSize : %s\nstartingBonusHandSize : %s\nexpansions : %s\nPlayers : %s",
+                this.seed, startingBirdHandSize, startingBonusHandSize, expansions, playerIds));
 
         logger.unnecessary("Setting up players");
-        players = Arrays.stream(playerUsers)
-                .map(player -> new Player(player, withNectar))
+        players = playerIds.stream()
+                .map(playerId -> new Player(playerId, withNectar))
                 .collect(Collectors.toList());
         this.expansions = expansions;
 
         logger.unnecessary("Setup feeder");
-        this.feeder = new Feeder(withNectar);
+        this.feeder = new Feeder(withNectar, random.split());
+
+        CardCatalog catalog = CardCatalog.getInstance();
+        DeckTemplate deckTemplate = catalog.getDeckTemplate(expansions);
 
         logger.unnecessary("Setup bird deck");
-        getAllBirdCards();
-        birdDeck = new BirdDeck(birdCards.stream()
-                .filter(c -> expansions.contains(c.getExpansion()))
-                .collect(Collectors.toList()));
+        birdCards = Arrays.stream(deckTemplate.birdIds())
+                .mapToObj(id -> new BirdCard(catalog.getBird(id)))
+                .collect(Collectors.toList());
+        birdCardsById = new BirdCard[catalog.getBirds().size()];
+        birdCards.forEach(b -> birdCardsById[b.getId()] = b);
+        birdDeck = new BirdDeck(birdCards, random.split());
         birdDeck.shuffleDeck();
 
         logger.unnecessary("Setup bonus deck");
-        getAllBonusCards();
-        bonusDeck = new BonusDeck(bonusCards.stream()
-                .filter(c -> expansions.contains(c.getExpansion()))
-                .filter(c -> !c.isAutomaExclusive())
-                .collect(Collectors.toList()));
+        bonusCards = new ArrayList<>(deckTemplate.bonusIndexes().length);
+        bonusCardsByCatalogIndex = new BonusCard[catalog.getBonuses().size()];
+        for (int index : deckTemplate.bonusIndexes()) {
+            BonusCard bonusCard = new BonusCard(catalog.getBonuses().get(index));
+            bonusCards.add(bonusCard);
+            bonusCardsByCatalogIndex[index] = bonusCard;
+        }
+        bonusDeck = new BonusDeck(bonusCards, random.split());
         bonusDeck.shuffleDeck();
 
         // TODO: Setup EOR
@@ -118,116 +161,103 @@ public class Game {
         logger.unnecessary("Game setup completed");
     }
 
+    /**
+     * Rebuild a game from the first event of its journal
+     */
+    public static Game fromEvent(GameCreated created) {
+        return new Game(created.channelId(), created.seed(), created.gameNumber(), created.startingBirdHandSize(),
+                created.startingBonusHandSize(), created.expansions(), created.playerIds());
+    }
+
+    /**
+     * Rebuild a game from a snapshot of it
+     */
+    public static Game fromSnapshot(GameSnapshot snapshot) {
+        Game game = fromEvent(snapshot.created());
+        game.restore(snapshot);
+        return game;
+    }
+
+    /**
+     * First event of the game's journal
+     */
+    public GameCreated getCreatedEvent() {
+        return new GameCreated(seed, gameNumber, channelId,
+                players.stream().map(Player::getPlayerId).toList(),
+                startingBirdHandSize, startingBonusHandSize, expansions);
+    }
+
     /**
      * Send starting hands
      */
     public void startGame() {
-        logger.unnecessary("Send starting hands");
-        players.forEach(p -> {
-            List<BirdCard> startingBirdHand = IntStream.range(0, startingBirdHandSize).mapToObj(i -> birdDeck.drawCard()).toList();
-            startingBirdHand.forEach(p::addBirdInHand);
-            List<BonusCard> startingBonusHand = IntStream.range(0, startingBonusHandSize).mapToObj(i -> bonusDeck.drawCard()).toList();
-            startingBonusHand.forEach(p::addBonusInHand);
-        });
-
-        GameStateMachine.transition(this, GameState.STARTING_HANDS_SENT);
+        commit(new StartingHandsDealt());
     }
 
+    /**
+     * Keep the selected cards and food of the player's starting hand, the other cards are discarded
+     * @throws GameInputException if the player selected too much
+     */
     public void confirmStartingHandPick(long userId) throws GameInputException {
         Player player = getPlayerById(userId);
-        player.confirmStartingHandPick();
+        player.checkStartingHandPick();
+        List<Integer> food = Arrays.stream(FoodType.toCounts(player.getHand().getPantry())).boxed().toList();
+        commit(new StartingHandPicked(userId,
+                player.getHand().getBirdCards().stream().filter(BirdCard::isSelected).map(BirdCard::getId).toList(),
+                player.getHand().getBonusCards().stream().filter(BonusCard::isSelected).map(BonusCard::getId).toList(),
+                food));
+    }
 
-        // Discard unselected bird cards
-        for (BirdCard birdCard : player.getHand().getBirdCards().stream().filter(b -> !b.isSelected()).toList()) {
-            player.getHand().getBirdCards().remove(birdCard);
-            birdDeck.discard(birdCard);
-        }
+    /**
+     * Every player picked their starting hand, the first player starts their turn
+     */
+    public void startFirstTurn() {
+        commit(new FirstTurnStarted());
+    }
 
-        // Discard unselected bonus cards
-        for (BonusCard bonusCard : player.getHand().getBonusCards().stream().filter(b -> !b.isSelected()).toList()) {
-            player.getHand().getBonusCards().remove(bonusCard);
-            bonusDeck.discard(bonusCard);
-        }
+    /**
+     * The player ended their turn, the next player starts theirs
+     */
+    public void endTurn(Player player) {
+        commit(new TurnEnded(player.getPlayerId()));
+    }
 
-        GameStateMachine.transition(this, GameState.GAME_STARTED);
+    /**
+     * Play a bird from the player's hand
+     * @param spentFood             amount of each food type paid, indexed by {@link FoodType#ordinal()}
+     * @param birdsToRemoveEggsFrom birds paying the eggs of the habitat slot
+     * @param eggsToRemove          eggs taken from each of those birds
+     */
+    public void playBird(Player player, BirdCard birdToPlay, HabitatEnum habitatEnum, int[] spentFood, List<BirdCard> birdsToRemoveEggsFrom, int eggsToRemove) {
+        commit(new BirdPlayed(player.getPlayerId(), birdToPlay.getId(), habitatEnum,
+                Arrays.stream(spentFood).boxed().toList(),
+                birdsToRemoveEggsFrom.stream().map(BirdCard::getId).toList(),
+                eggsToRemove));
     }
 
     /**
-     * Get <b>all</b> the bonus cards from the big bonus json
+     * Lay the eggs the player placed on their birds while taking the action
+     * @return the number of eggs laid
      */
-    private void getAllBonusCards() {
-        bonusCards = new ArrayList<>();
-        try (InputStream is = Game.class.getClassLoader().getResourceAsStream(Constants.BONUS_JSON)) {
-            JsonNode root = new ObjectMapper().readTree(is);
-            Iterator<JsonNode> iter = root.elements();
-            while (iter.hasNext()) {
-                JsonNode bonusNode = iter.next();
-                BonusCard bonusCard = new BonusCard();
-                bonusCard.setId(bonusNode.get("id").asInt());
-                bonusCard.setName(bonusNode.get("Name").asText());
-                bonusCard.setCondition(bonusNode.get("Condition").asText());
-                bonusCard.setExpansion(Expansion.fromJsonName(bonusNode.get("Expansion").asText()));
-                bonusCard.setExplanatoryText(bonusNode.get("Explanatory text").asText());
-                bonusCard.setAutomaCompatible(bonusNode.get("Automa").asBoolean());
-                bonusCard.setAutomaExclusive(bonusCard.getName().contains("[automa]"));
-                bonusCards.add(bonusCard);
-            }
-        } catch (IOException e) {
-            logger.error(String.format("Couldn't get all bonus cards : %s", e.getMessage()));
-        }
+    public int layEggs(Player player) {
+        List<Integer> birdIds = new ArrayList<>();
+        List<Integer> eggs = new ArrayList<>();
+        player.getHand().getTempEggsToLay().forEach((bird, count) -> {
+            birdIds.add(bird.getId());
+            eggs.add(count);
+        });
+        player.getHand().resetTempEggs();
+        commit(new EggsLaid(player.getPlayerId(), birdIds, eggs));
+        return eggs.stream().mapToInt(Integer::intValue).sum();
     }
 
     /**
-     * Get <b>all</b> the bird cards from the big bird json
+     * Draw a bird from the deck, it is kept aside until the player confirms their draw
      */
-    private void getAllBirdCards() {
-        birdCards = new ArrayList<>();
-        try (InputStream is = Game.class.getClassLoader().getResourceAsStream(Constants.BIRD_JSON)) {
-            JsonNode root = new ObjectMapper().readTree(is);
-            Iterator<JsonNode> iter = root.elements();
-            while (iter.hasNext()) {
-                JsonNode birdNode = iter.next();
-                BirdCard birdCard = new BirdCard();
-                birdCard.setName(birdNode.get("Common name").asText());
-                birdCard.setScientificName(birdNode.get("Scientific name").asText());
-                birdCard.setExpansion(Expansion.fromJsonName(birdNode.get("Expansion").asText()));
-                birdCard.setPower(new Power());
-                birdCard.getPower().setPowerText(birdNode.get("Power text").asText());
-                birdCard.setPredator(birdNode.get("Predator").asText().equals("X"));
-                birdCard.setFlocking(birdNode.get("Flocking").asText().equals("X"));
-                birdCard.setBonus(birdNode.get("Bonus card").asText().equals("X"));
-                birdCard.setFeatherPoints(birdNode.get("Victory points").asInt());
-                NestType nestType = NestType.fromJsonName(birdNode.get("Nest type").asText());
-                int capacity = birdNode.get("Egg capacity").asInt();
-                birdCard.setNest(new Nest(capacity, nestType));
-                birdCard.setWingspan(birdNode.get("Wingspan").asInt());
-                birdCard.setHabitats(new ArrayList<>());
-                if (birdNode.get(HabitatEnum.FOREST.getJsonValue()).asText().equals("X")) birdCard.getHabitats().add(HabitatEnum.FOREST);
-                if (birdNode.get(HabitatEnum.GRASSLAND.getJsonValue()).asText().equals("X")) birdCard.getHabitats().add(HabitatEnum.GRASSLAND);
-                if (birdNode.get(HabitatEnum.WETLAND.getJsonValue()).asText().equals("X")) birdCard.getHabitats().add(HabitatEnum.WETLAND);
-                boolean or = birdNode.get("/ (food cost)").asText().equals("X");
-                if (!or) {
-                    List<FoodType> foodCost = new ArrayList<>();
-                    Arrays.stream(FoodType.values()).forEach(foodType -> {
-                        int amount = birdNode.get(foodType.getJsonName()).asInt();
-                        IntStream.range(0, amount).forEach(i -> foodCost.add(foodType));
-                    });
-                    birdCard.setFoodCost(List.of(foodCost));
-                } else {
-                    List<List<FoodType>> foodCost = Arrays.stream(FoodType.values())
-                            .filter(foodType -> birdNode.get(foodType.getJsonName()).asInt() > 0)
-                            .map(List::of)
-                            .toList();
-                    birdCard.setFoodCost(foodCost);
-                }
-                birdCard.setLanguageBonusCards(Stream.of("Anatomist", "Cartographer", "Historian", "Photographer")
-                        .filter(s -> birdNode.get(s).asText().equals("X"))
-                        .collect(Collectors.toList()));
-                birdCards.add(birdCard);
-            }
-        } catch (IOException e) {
-            logger.error(String.format("Couldn't get all bird cards : %s", e.getMessage()));
-        }
+    public BirdCard drawBirdFromDeck(Player player) {
+        commit(new BirdDrawnFromDeck(player.getPlayerId()));
+        List<BirdCard> drawnBirds = player.getHand().getTempDrawnBirds();
+        return drawnBirds.get(drawnBirds.size() - 1);
     }
 
     /**
@@ -235,34 +265,288 @@ public class Game {
      */
     public int confirmDrawBirdSelection(Player player, List<Integer> selectedTrayIndexes) {
         int drawnCards = player.getHand().getTempDrawnBirds().size() + selectedTrayIndexes.size();
-        player.getHand().getBirdCards().addAll(player.getHand().getTempDrawnBirds());
-        player.getHand().getBirdCards().addAll(this.getBirdDeck().getTrayBirds(selectedTrayIndexes));
-        player.getHand().getTempDrawnBirds().clear();
+        commit(new CardsDrawn(player.getPlayerId(), List.copyOf(selectedTrayIndexes)));
         return drawnCards;
     }
 
+    /**
+     * Take dice out of the feeder and gain their food
+     * @param dieIndexes indexes in the feeder of the dice taken
+     * @param foods      food gained from each of those dice
+     */
+    public void takeFood(Player player, List<Integer> dieIndexes, List<FoodType> foods) {
+        commit(new FoodTaken(player.getPlayerId(), List.copyOf(dieIndexes), List.copyOf(foods)));
+    }
+
+    public void rerollFeeder(Player player) {
+        commit(new FeederRerolled(player.getPlayerId()));
+    }
+
+    private void commit(GameEvent event) {
+        apply(event);
+        journal.record(event);
+        if (snapshotInterval > 0 && ++eventsSinceSnapshot >= snapshotInterval) {
+            takeSnapshot();
+        }
+    }
+
+    /**
+     * Copy the state of the game for the journal, only ids and counts are copied so the game's thread doesn't wait on
+     * the encoding or the disk.<br/>
+     * The state of a random stream can't be read, so every stream is reseeded first and the seed goes in the snapshot.<br/>
+     * Taken every snapshot interval, and before the game is evicted from memory
+     */
+    public void takeSnapshot() {
+        Reseeded reseeded = new Reseeded(random.nextLong());
+        apply(reseeded);
+        journal.record(reseeded);
+        journal.snapshot(snapshot(reseeded.seed()));
+        eventsSinceSnapshot = 0;
+    }
+
+    private GameSnapshot snapshot(long seed) {
+        List<PlayerSnapshot> playerSnapshots = players.stream().map(player -> {
+            Hand hand = player.getHand();
+            return new PlayerSnapshot(player.getPlayerId(), player.getState(),
+                    hand.getBirdCards().stream().map(BirdCard::getId).toList(),
+                    hand.getBonusCards().stream().map(BonusCard::getId).toList(),
+                    Arrays.stream(FoodType.toCounts(hand.getPantry())).boxed().toList(),
+                    hand.getTempDrawnBirds().stream().map(BirdCard::getId).toList(),
+                    Arrays.stream(HabitatEnum.values())
+                            .map(habitat -> player.getBoard().getHabitat(habitat).getBirds().stream()
+                                    .map(bird -> new PlayedBird(bird.getId(), bird.getNest().getNumberOfEggs()))
+                                    .toList())
+                            .toList());
+        }).toList();
+        return new GameSnapshot(getCreatedEvent(), seed, state, currentPlayerIndex, turnCounter, List.copyOf(turnSummaries), currentTurn, playerSnapshots,
+                birdDeck.getDrawPile().stream().map(BirdCard::getId).toList(),
+                birdDeck.getDiscardPile().stream().map(BirdCard::getId).toList(),
+                Arrays.stream(birdDeck.getTray()).map(bird -> bird == null ? -1 : bird.getId()).toList(),
+                bonusDeck.getDrawPile().stream().map(BonusCard::getId).toList(),
+                bonusDeck.getDiscardPile().stream().map(BonusCard::getId).toList(),
+                feeder.getDiceInFeeder().stream().map(Die::getVisibleFace).toList(),
+                feeder.getDiceOutOfFeeder().stream().map(Die::getVisibleFace).toList());
+    }
+
+    /**
+     * Put the game back in the state of the snapshot, on a game just created from the same {@link GameCreated}
+     */
+    private void restore(GameSnapshot snapshot) {
+        state = snapshot.state();
+        currentPlayerIndex = snapshot.currentPlayerIndex();
+        turnCounter = snapshot.turnCounter();
+        turnSummaries.addAll(snapshot.turnSummaries());
+        currentTurn = snapshot.currentTurn();
+        for (PlayerSnapshot playerSnapshot : snapshot.players()) {
+            Player player = player(playerSnapshot.playerId());
+            Hand hand = player.getHand();
+            player.setState(playerSnapshot.state());
+            playerSnapshot.birdIds().forEach(id -> hand.addBird(getBirdCardById(id)));
+            playerSnapshot.bonusIds().forEach(id -> hand.addBonus(getBonusCardById(id)));
+            setPantry(hand, playerSnapshot.food());
+            playerSnapshot.drawnBirdIds().forEach(id -> hand.getTempDrawnBirds().add(getBirdCardById(id)));
+            for (HabitatEnum habitat : HabitatEnum.values()) {
+                for (PlayedBird playedBird : playerSnapshot.habitats().get(habitat.ordinal())) {
+                    BirdCard bird = getBirdCardById(playedBird.birdId());
+                    bird.getNest().setNumberOfEggs(playedBird.eggs());
+                    player.getBoard().getHabitat(habitat).addBird(bird);
+                }
+            }
+        }
+        birdDeck.restore(snapshot.birdDrawPile().stream().map(this::getBirdCardById).toList(),
+                snapshot.birdDiscardPile().stream().map(this::getBirdCardById).toList());
+        birdDeck.restoreTray(snapshot.trayBirdIds().stream().map(id -> id < 0 ? null : getBirdCardById(id)).toList());
+        bonusDeck.restore(snapshot.bonusDrawPile().stream().map(this::getBonusCardById).toList(),
+                snapshot.bonusDiscardPile().stream().map(this::getBonusCardById).toList());
+        feeder.restore(snapshot.diceInFeeder(), snapshot.diceOutOfFeeder());
+        reseed(snapshot.seed());
+    }
+
+    /**
+     * Start every random stream of the game over from the seed, in a fixed order so a restored game gets the same
+     * streams
+     */
+    private void reseed(long seed) {
+        random = new SplittableRandom(seed);
+        feeder.reseed(random.split());
+        birdDeck.reseed(random.split());
+        bonusDeck.reseed(random.split());
+    }
+
+    /**
+     * @param food amount of each food type, indexed by {@link FoodType#ordinal()}
+     */
+    private static void setPantry(Hand hand, List<Integer> food) {
+        for (FoodType foodType : List.copyOf(hand.getPantry().keySet())) {
+            hand.setFood(foodType, food.get(foodType.ordinal()));
+        }
+    }
+
+    /**
+     * Change the state of the game as the event says. Events are applied when they happen and again, in the same
+     * order, when a game is replayed from its journal
+     */
+    public void apply(GameEvent event) {
+        switch (event) {
+            case GameCreated e -> throw new IllegalArgumentException("Game " + gameId + " is already created");
+            case StartingHandsDealt e -> {
+                logger.unnecessary("Send starting hands");
+                players.forEach(p -> {
+                    IntStream.range(0, startingBirdHandSize).mapToObj(i -> birdDeck.drawCard()).forEach(p::addBirdInHand);
+                    IntStream.range(0, startingBonusHandSize).mapToObj(i -> bonusDeck.drawCard()).forEach(p::addBonusInHand);
+                });
+                GameStateMachine.transition(this, GameState.STARTING_HANDS_SENT);
+            }
+            case StartingHandPicked e -> {
+                Player player = player(e.playerId());
+                Hand hand = player.getHand();
+                hand.getBirdCards().forEach(b -> b.setSelected(e.birdIds().contains(b.getId())));
+                hand.getBonusCards().forEach(b -> b.setSelected(e.bonusIds().contains(b.getId())));
+                setPantry(hand, e.food());
+                PlayerStateMachine.transition(player, PlayerState.READY);
+
+                // Discard unselected bird cards
+                for (BirdCard birdCard : hand.getBirdCards().stream().filter(b -> !b.isSelected()).toList()) {
+                    hand.removeBird(birdCard);
+                    birdDeck.discard(birdCard);
+                }
+
+                // Discard unselected bonus cards
+                for (BonusCard bonusCard : hand.getBonusCards().stream().filter(b -> !b.isSelected()).toList()) {
+                    hand.removeBonus(bonusCard);
+                    bonusDeck.discard(bonusCard);
+                }
+
+                if (allPlayersReady()) {
+                    GameStateMachine.transition(this, GameState.GAME_STARTED);
+                }
+            }
+            case FirstTurnStarted e -> {
+                players.forEach(player -> PlayerStateMachine.transition(player, PlayerState.WAITING_FOR_TURN));
+                startTurn();
+            }
+            case BirdPlayed e -> {
+                Player player = player(e.playerId());
+                BirdCard birdToPlay = getBirdCardById(e.birdId());
+                player.getHand().spendFood(e.spentFood().stream().mapToInt(Integer::intValue).toArray());
+                for (int birdId : e.eggBirdIds()) {
+                    BirdCard bird = getBirdCardById(birdId);
+                    bird.getNest().setNumberOfEggs(bird.getNest().getNumberOfEggs() - e.eggsPerBird());
+                }
+                player.getHand().removeBird(birdToPlay);
+                player.getBoard().getHabitat(e.habitat()).addBird(birdToPlay);
+                summarize(e.playerId(), turn -> turn.withBirdPlayed(e.birdId()));
+            }
+            case EggsLaid e -> {
+                for (int i = 0; i < e.birdIds().size(); i++) {
+                    BirdCard bird = getBirdCardById(e.birdIds().get(i));
+                    bird.getNest().setNumberOfEggs(bird.getNest().getNumberOfEggs() + e.eggs().get(i));
+                }
+                summarize(e.playerId(), turn -> turn.withEggsLaid(e.eggs().stream().mapToInt(Integer::intValue).sum()));
+            }
+            case BirdDrawnFromDeck e -> player(e.playerId()).getHand().getTempDrawnBirds().add(birdDeck.drawCard());
+            case CardsDrawn e -> {
+                Hand hand = player(e.playerId()).getHand();
+                summarize(e.playerId(), turn -> turn.withCardsDrawn(hand.getTempDrawnBirds().size() + e.trayIndexes().size()));
+                hand.getTempDrawnBirds().forEach(hand::addBird);
+                birdDeck.getTrayBirds(e.trayIndexes()).forEach(hand::addBird);
+                hand.getTempDrawnBirds().clear();
+            }
+            case FoodTaken e -> {
+                Hand hand = player(e.playerId()).getHand();
+                feeder.getDice(e.dieIndexes());
+                e.foods().forEach(food -> hand.addFood(food, 1));
+                summarize(e.playerId(), turn -> turn.withFoodGained(e.foods()));
+            }
+            case FeederRerolled e -> feeder.reRollFeeder();
+            case TurnEnded e -> {
+                PlayerStateMachine.transition(player(e.playerId()), PlayerState.WAITING_FOR_TURN);
+                if (currentTurn != null) {
+                    turnSummaries.add(currentTurn);
+                }
+                advanceTurn();
+                if (turnCounter > TURNS_PER_PLAYER) {
+                    currentTurn = null;
+                    GameStateMachine.transition(this, GameState.GAME_FINISHED);
+                } else {
+                    startTurn();
+                }
+            }
+            case Reseeded e -> reseed(e.seed());
+        }
+    }
+
     //*****************************************************************
     // STATIC MEMBERS
     //*****************************************************************
 
     public BirdCard getBirdCardById(int birdId) {
-        return birdCards.stream().filter(b -> b.getId() == birdId).findAny().orElseThrow(IllegalArgumentException::new);
+        BirdCard birdCard = birdId >= 0 && birdId < birdCardsById.length ? birdCardsById[birdId] : null;
+        if (birdCard == null) {
+            throw new IllegalArgumentException("No bird with id " + birdId + " in game `" + gameId + "`");
+        }
+        return birdCard;
     }
 
     public BonusCard getBonusCardById(int bonusId) {
-        return bonusCards.stream().filter(b -> b.getId() == bonusId).findAny().orElseThrow(IllegalArgumentException::new);
+        int index = CardCatalog.getInstance().getBonusIndex(bonusId);
+        BonusCard bonusCard = index >= 0 ? bonusCardsByCatalogIndex[index] : null;
+        if (bonusCard == null) {
+            throw new IllegalArgumentException("No bonus card with id " + bonusId + " in game `" + gameId + "`");
+        }
+        return bonusCard;
     }
 
     public Player getPlayerById(long userId) throws GameInputException {
-        return this.players.stream().filter(p -> p.getUser().getIdLong() == userId).findAny()
+        return this.players.stream().filter(p -> p.getPlayerId() == userId).findAny()
                 .orElseThrow(() -> new GameInputException("This userId is not part of game `" + gameId + "`"));
     }
 
+    /**
+     * Player of an event, an unknown player means the event doesn't belong to this game
+     */
+    private Player player(long userId) {
+        return players.stream().filter(p -> p.getPlayerId() == userId).findAny()
+                .orElseThrow(() -> new IllegalArgumentException("User " + userId + " is not part of game `" + gameId + "`"));
+    }
+
     public boolean allPlayersReady() {
         return players.stream().allMatch(p -> p.getState() == PlayerState.READY);
     }
 
-    public void advanceTurn() {
+    private void startTurn() {
+        PlayerStateMachine.transition(getCurrentPlayer(), PlayerState.PLAYING_TURN);
+        currentTurn = TurnSummary.start(getCurrentPlayer().getPlayerId(), turnCounter);
+    }
+
+    /**
+     * Add what the player did to the summary of their turn
+     */
+    private void summarize(long playerId, UnaryOperator<TurnSummary> change) {
+        if (currentTurn != null && currentTurn.playerId() == playerId) {
+            currentTurn = change.apply(currentTurn);
+        }
+    }
+
+    /**
+     * Summaries of the turns played so far, the turn being played isn't included
+     */
+    public List<TurnSummary> getTurnSummaries() {
+        return Collections.unmodifiableList(turnSummaries);
+    }
+
+    public boolean isFinished() {
+        return state == GameState.GAME_FINISHED;
+    }
+
+    /**
+     * Whether the game can be rebuilt from its journal
+     */
+    public boolean isJournaled() {
+        return journal != GameJournal.NONE;
+    }
+
+    private void advanceTurn() {
         currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
         if (currentPlayerIndex == 0) {
             turnCounter++;
@@ -8,17 +8,16 @@ import game.components.subcomponents.BonusCard;
 import game.components.subcomponents.Card;
 import game.exception.GameInputException;
 import game.service.enumeration.PlayerState;
-import game.service.enumeration.PlayerStateMachine;
 import lombok.Getter;
 import lombok.Setter;
-import net.dv8tion.jda.api.entities.User;
 import util.LogLevel;
 import util.Logger;
 
 @Getter
 @Setter
 public class Player {
-    private final User user;
+    // Id of the player outside of the game, their Discord user id for games played on Discord
+    private final long playerId;
     private final Board board;
     private final Hand hand;
 
@@ -26,12 +25,19 @@ public class Player {
 
     private final Logger logger = new Logger(Player.class, LogLevel.ALL);
 
-    public Player(User user, boolean withNectar) {
+    public Player(long playerId, boolean withNectar) {
         this.state = PlayerState.WAITING_FOR_STARTING_HAND;
-        this.user = user;
+        this.playerId = playerId;
         this.board = withNectar  ? new NectarBoard() : new Board();
         this.hand = new Hand(withNectar);
-        logger.unnecessary(user.getName() + " set up");
+        logger.unnecessary(() -> "Player " + playerId + " set up");
+    }
+
+    /**
+     * Changes every time something shown on the player's board view changes: played birds, eggs, cards in hand or food
+     */
+    public long getBoardVersion() {
+        return board.getVersion() + hand.getVersion();
     }
 
     public void addBirdInHand(BirdCard birdCard) {
@@ -42,7 +48,10 @@ public class Player {
         this.hand.addBonus(bonusCard);
     }
 
-    public void confirmStartingHandPick() throws GameInputException {
+    /**
+     * Check that the player didn't select more than they can keep in their starting hand
+     */
+    public void checkStartingHandPick() throws GameInputException {
         // Check that we didn't select too much
         int foodSelected = hand.getPantry().values().stream().mapToInt(Integer::intValue).sum();
         int birdCardsSelected = (int) hand.getBirdCards().stream().filter(Card::isSelected).count();
@@ -52,7 +61,5 @@ public class Player {
         } else if (hand.getBonusCards().stream().filter(Card::isSelected).count() > 1) {
             throw new GameInputException("You selected too many bonus cards (" + bonusCardsSelected + ")");
         }
-
-        PlayerStateMachine.transition(this, PlayerState.READY);
     }
 }
@@ -6,14 +6,18 @@ import lombok.Getter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 
 public class BirdDeck extends CardDeck<BirdCard> {
 
     @Getter
     private final BirdCard[] tray;
+    // Bumped every time a bird in the tray is replaced
+    @Getter
+    private long trayVersion;
 
-    public BirdDeck(List<BirdCard> cardDeck) {
-        super(cardDeck);
+    public BirdDeck(List<BirdCard> cardDeck, SplittableRandom random) {
+        super(cardDeck, random);
         tray = new BirdCard[3];
         refillTray();
     }
@@ -22,16 +26,28 @@ public class BirdDeck extends CardDeck<BirdCard> {
         for (int i = 0; i < tray.length; i++) {
             if (tray[i] == null) {
                 tray[i] = drawCard();
+                trayVersion++;
             }
         }
     }
 
+    /**
+     * Put the tray back as it was in a snapshot
+     */
+    public void restoreTray(List<BirdCard> birds) {
+        for (int i = 0; i < tray.length; i++) {
+            tray[i] = birds.get(i);
+        }
+        trayVersion++;
+    }
+
     public List<BirdCard> getTrayBirds(List<Integer> indexes) {
         List<BirdCard> birds = new ArrayList<>();
         for (int index : indexes) {
             // TODO: Error check
             birds.add(tray[index]);
             tray[index] = this.drawCard();
+            trayVersion++;
         }
         return birds;
     }
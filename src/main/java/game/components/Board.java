@@ -49,12 +49,30 @@ public class Board {
         };
     }
 
+    /**
+     * Changes every time something visible on the board changes
+     */
+    public long getVersion() {
+        return forest.getVersion() + grassland.getVersion() + wetland.getVersion();
+    }
+
     public List<BirdCard> getPlayedBirds() {
         return Stream.of(forest.getBirds(), grassland.getBirds(), wetland.getBirds())
                 .flatMap(Collection::stream)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Feather points of the played birds
+     */
+    public int getBirdPoints() {
+        return getPlayedBirds().stream().mapToInt(BirdCard::getFeatherPoints).sum();
+    }
+
+    public int getEggs() {
+        return getPlayedBirds().stream().mapToInt(b -> b.getNest().getNumberOfEggs()).sum();
+    }
+
     public List<BirdCard> getPlayedBirdsWithEggs() {
         return Stream.of(forest.getBirds(), grassland.getBirds(), wetland.getBirds())
                 .flatMap(Collection::stream)
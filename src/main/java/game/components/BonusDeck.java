@@ -3,9 +3,10 @@ package game.components;
 import game.components.subcomponents.BonusCard;
 
 import java.util.List;
+import java.util.SplittableRandom;
 
 public class BonusDeck extends CardDeck<BonusCard> {
-    public BonusDeck(List<BonusCard> cardDeck) {
-        super(cardDeck);
+    public BonusDeck(List<BonusCard> cardDeck, SplittableRandom random) {
+        super(cardDeck, random);
     }
 }
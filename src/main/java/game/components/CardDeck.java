@@ -1,16 +1,19 @@
 package game.components;
 
-import game.Game;
 import game.components.subcomponents.Card;
 
 import java.util.*;
 
 public abstract class CardDeck<T extends Card> {
-    private final Random random = new Random(Game.GAME_SEED);
+    private SplittableRandom random;
     private Deque<T> drawDeck;
     private final Deque<T> discardDeck;
 
-    public CardDeck(List<T> cardDeck) {
+    /**
+     * @param random the deck's own random stream, split from the game's
+     */
+    public CardDeck(List<T> cardDeck, SplittableRandom random) {
+        this.random = random;
         drawDeck = new ArrayDeque<>(cardDeck);
         discardDeck = new ArrayDeque<>();
     }
@@ -30,6 +33,36 @@ public abstract class CardDeck<T extends Card> {
         discardDeck.addLast(card);
     }
 
+    /**
+     * Cards left to draw, next card first
+     */
+    public List<T> getDrawPile() {
+        return List.copyOf(drawDeck);
+    }
+
+    /**
+     * Discarded cards, oldest first
+     */
+    public List<T> getDiscardPile() {
+        return List.copyOf(discardDeck);
+    }
+
+    /**
+     * Put the piles back as they were in a snapshot
+     */
+    public void restore(List<T> drawPile, List<T> discardPile) {
+        drawDeck = new ArrayDeque<>(drawPile);
+        discardDeck.clear();
+        discardDeck.addAll(discardPile);
+    }
+
+    /**
+     * Replace the random stream of the deck, the game does it when taking a snapshot
+     */
+    public void reseed(SplittableRandom random) {
+        this.random = random;
+    }
+
     public void shuffleDeck() {
         shuffleDiscard();
     }
@@ -41,9 +74,18 @@ public abstract class CardDeck<T extends Card> {
         shuffleDraw();
     }
 
+    /**
+     * Fisher-Yates shuffle of the draw deck
+     */
+    @SuppressWarnings("unchecked")
     private void shuffleDraw() {
-        List<T> cardList = new ArrayList<>(drawDeck);
-        Collections.shuffle(cardList, random);
-        drawDeck = new ArrayDeque<>(cardList);
+        T[] cards = (T[]) drawDeck.toArray(new Card[0]);
+        for (int i = cards.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            T card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
+        drawDeck = new ArrayDeque<>(Arrays.asList(cards));
     }
 }
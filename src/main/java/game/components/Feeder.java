@@ -1,25 +1,29 @@
 package game.components;
 
-import game.Game;
 import game.components.subcomponents.Die;
+import game.components.subcomponents.DieFace;
 import game.exception.GameInputException;
 import lombok.Getter;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 @Getter
 public class Feeder {
 
-    private final Random random = new Random(Game.GAME_SEED);
     private final List<Die> diceOutOfFeeder;
     private final List<Die> diceInFeeder;
+    // Bumped every time dice are taken or rolled
+    private long version;
 
-    public Feeder(boolean withNectar) {
-        this.diceInFeeder = IntStream.range(0, 5).mapToObj(i -> new Die(withNectar, random)).collect(Collectors.toList());
+    /**
+     * @param random the feeder's own random stream, split from the game's. Each die gets its own split of it
+     */
+    public Feeder(boolean withNectar, SplittableRandom random) {
+        this.diceInFeeder = IntStream.range(0, 5).mapToObj(i -> new Die(withNectar, random.split())).collect(Collectors.toList());
         this.diceOutOfFeeder = new ArrayList<>();
         reRollFeeder();
     }
@@ -43,6 +47,7 @@ public class Feeder {
     public Die getDie(int index) {
         Die die = diceInFeeder.remove(index);
         diceOutOfFeeder.add(die);
+        version++;
         if (diceInFeeder.size() == 0) {
             reRollFeeder();
         }
@@ -62,6 +67,7 @@ public class Feeder {
             diceOutOfFeeder.add(die);
             removed.add(die);
         }
+        version++;
         if (diceInFeeder.isEmpty()) {
             reRollFeeder();
         }
@@ -75,6 +81,34 @@ public class Feeder {
         diceInFeeder.addAll(diceOutOfFeeder);
         diceOutOfFeeder.clear();
         diceInFeeder.forEach(Die::rollDie);
+        version++;
+    }
+
+    /**
+     * Put the dice back as they were in a snapshot
+     * @param facesInFeeder    faces of the dice in the feeder, in feeder order
+     * @param facesOutOfFeeder faces of the dice taken out of it
+     */
+    public void restore(List<DieFace> facesInFeeder, List<DieFace> facesOutOfFeeder) {
+        List<Die> dice = new ArrayList<>(diceInFeeder);
+        dice.addAll(diceOutOfFeeder);
+        diceInFeeder.clear();
+        diceOutOfFeeder.clear();
+        for (int i = 0; i < dice.size(); i++) {
+            Die die = dice.get(i);
+            boolean inFeeder = i < facesInFeeder.size();
+            die.restore(inFeeder ? facesInFeeder.get(i) : facesOutOfFeeder.get(i - facesInFeeder.size()));
+            (inFeeder ? diceInFeeder : diceOutOfFeeder).add(die);
+        }
+        version++;
+    }
+
+    /**
+     * Give every die a new split of the random stream, dice in the feeder first
+     */
+    public void reseed(SplittableRandom random) {
+        diceInFeeder.forEach(die -> die.reseed(random.split()));
+        diceOutOfFeeder.forEach(die -> die.reseed(random.split()));
     }
 
     /**
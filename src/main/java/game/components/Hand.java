@@ -1,8 +1,10 @@
 package game.components;
 
+import game.components.catalog.CardCatalog;
 import game.components.enums.FoodType;
 import game.components.subcomponents.BirdCard;
 import game.components.subcomponents.BonusCard;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 
@@ -10,18 +12,30 @@ import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * Cards held by a player. The card lists and the pantry are read-only views, cards and food must be added and removed
+ * through the hand so the bird index and the version stay in sync
+ */
 @Getter
 public class Hand {
+    @Getter(AccessLevel.NONE)
     private final List<BirdCard> birdCards;
+    @Getter(AccessLevel.NONE)
+    private final Map<Integer, BirdCard> birdsById;
+    @Getter(AccessLevel.NONE)
     private final List<BonusCard> bonusCards;
+    @Getter(AccessLevel.NONE)
     private final Map<FoodType, Integer> pantry;
     private final Map<FoodType, Integer> tempPantrySpentFood;
     private final Map<FoodType, Integer> tempPantryAvailableFood;
     private final Map<BirdCard, Integer> tempEggsToLay;
     private final List<BirdCard> tempDrawnBirds;
+    // Bumped every time the cards or the food in the pantry change
+    private long version;
 
     public Hand(boolean nectar) {
         this.birdCards = new ArrayList<>();
+        this.birdsById = new HashMap<>();
         this.bonusCards = new ArrayList<>();
         this.pantry = Stream.of(FoodType.WORM, FoodType.SEED, FoodType.FRUIT, FoodType.RODENT, FoodType.FISH, FoodType.NECTAR)
                 .collect(Collectors.toMap(food -> food, food -> 0));
@@ -33,12 +47,48 @@ public class Hand {
         this.tempDrawnBirds = new ArrayList<>();
     }
 
+    public List<BirdCard> getBirdCards() {
+        return Collections.unmodifiableList(birdCards);
+    }
+
+    public List<BonusCard> getBonusCards() {
+        return Collections.unmodifiableList(bonusCards);
+    }
+
+    public Map<FoodType, Integer> getPantry() {
+        return Collections.unmodifiableMap(pantry);
+    }
+
+    public void setFood(FoodType foodType, int amount) {
+        pantry.put(foodType, amount);
+        version++;
+    }
+
+    public void addFood(FoodType foodType, int amount) {
+        pantry.merge(foodType, amount, Integer::sum);
+        version++;
+    }
+
     public void addBird(BirdCard birdCard) {
         this.birdCards.add(birdCard);
+        this.birdsById.put(birdCard.getId(), birdCard);
+        version++;
+    }
+
+    public boolean removeBird(BirdCard birdCard) {
+        this.birdsById.remove(birdCard.getId());
+        version++;
+        return this.birdCards.remove(birdCard);
     }
 
     public void addBonus(BonusCard bonusCard) {
         this.bonusCards.add(bonusCard);
+        version++;
+    }
+
+    public boolean removeBonus(BonusCard bonusCard) {
+        version++;
+        return this.bonusCards.remove(bonusCard);
     }
 
     public void resetTempPantry() {
@@ -46,20 +96,25 @@ public class Hand {
         pantry.forEach((k, v) -> tempPantryAvailableFood.put(k, pantry.get(k)));
     }
 
-    public void resetTempDrawnBirds() {
-        tempDrawnBirds.clear();
-    }
-
     public void resetPantry() {
         pantry.forEach((k, v) -> pantry.put(k, 0));
+        version++;
+    }
+
+    public Optional<BirdCard> getBirdById(int birdId) {
+        return Optional.ofNullable(birdsById.get(birdId));
     }
 
     public Optional<BirdCard> getBirdByName(@NonNull String birdName) {
-        return birdCards.stream().filter(bird -> birdName.equals(bird.getName())).findAny();
+        return getBirdById(CardCatalog.getInstance().getBirdId(birdName));
     }
 
-    public void confirmSpentFood() {
-        tempPantryAvailableFood.forEach((k, v) -> pantry.put(k, tempPantryAvailableFood.get(k)));
+    /**
+     * @param spentFood amount of each food type to take out of the pantry, indexed by {@link FoodType#ordinal()}
+     */
+    public void spendFood(int[] spentFood) {
+        pantry.replaceAll((food, amount) -> amount - spentFood[food.ordinal()]);
+        version++;
         resetTempPantry();
     }
 
@@ -87,10 +142,4 @@ public class Hand {
     public int getTotalTempEggs() {
         return tempEggsToLay.values().stream().mapToInt(Integer::intValue).sum();
     }
-
-    public void confirmLayEggs() {
-        tempEggsToLay.forEach((bird, count) ->
-                bird.getNest().setNumberOfEggs(bird.getNest().getNumberOfEggs() + count));
-        resetTempEggs();
-    }
 }
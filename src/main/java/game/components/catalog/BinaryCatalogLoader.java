@@ -0,0 +1,158 @@
+package game.components.catalog;
+
+import game.components.enums.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Reads the precompiled binary catalog generated by {@code scripts/generate_card_catalog.py}.<br/>
+ * The whole resource is bulk-read into a {@link ByteBuffer} and decoded record by record, see the script for the layout
+ */
+public class BinaryCatalogLoader {
+
+    private static final byte[] MAGIC = { 'W', 'S', 'C', 'C' };
+    private static final int VERSION = 1;
+    private static final int NULL_ORDINAL = 0xFF;
+
+    private static final int FLAG_PREDATOR = 1;
+    private static final int FLAG_FLOCKING = 1 << 1;
+    private static final int FLAG_BONUS = 1 << 2;
+    private static final int FLAG_FOOD_COST_OR = 1 << 3;
+
+    private BinaryCatalogLoader() {}
+
+    /**
+     * Load the binary catalog
+     * @throws IOException if the catalog is missing, corrupted or was compiled from different json resources
+     */
+    public static CatalogContents load() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(readResource(Constants.CARD_CATALOG_BIN));
+        try {
+            checkHeader(buffer);
+            String[] strings = readStrings(buffer);
+            return new CatalogContents(readBirds(buffer, strings), readBonuses(buffer, strings), readGoals(buffer, strings));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Corrupted card catalog " + Constants.CARD_CATALOG_BIN, e);
+        }
+    }
+
+    private static void checkHeader(ByteBuffer buffer) throws IOException {
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException(Constants.CARD_CATALOG_BIN + " is not a card catalog");
+        }
+        int version = Short.toUnsignedInt(buffer.getShort());
+        if (version != VERSION) {
+            throw new IOException("Unsupported card catalog version " + version);
+        }
+        for (String source : new String[] { Constants.BIRD_JSON, Constants.BONUS_JSON, Constants.GOAL_JSON }) {
+            long expectedCrc = Integer.toUnsignedLong(buffer.getInt());
+            CRC32 crc = new CRC32();
+            crc.update(readResource(source));
+            if (crc.getValue() != expectedCrc) {
+                throw new IOException(Constants.CARD_CATALOG_BIN + " is out of date with " + source);
+            }
+        }
+    }
+
+    private static String[] readStrings(ByteBuffer buffer) {
+        String[] strings = new String[buffer.getInt()];
+        byte[] array = buffer.array();
+        for (int i = 0; i < strings.length; i++) {
+            int length = Short.toUnsignedInt(buffer.getShort());
+            strings[i] = new String(array, buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        }
+        return strings;
+    }
+
+    private static List<BirdDefinition> readBirds(ByteBuffer buffer, String[] strings) {
+        int count = buffer.getInt();
+        int recordSize = Short.toUnsignedInt(buffer.getShort());
+        int foodTypes = FoodType.values().length;
+        List<BirdDefinition> birds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int recordStart = buffer.position();
+            String name = strings[Short.toUnsignedInt(buffer.getShort())];
+            String scientificName = strings[Short.toUnsignedInt(buffer.getShort())];
+            Expansion expansion = ordinal(Expansion.values(), buffer.get());
+            String powerText = strings[Short.toUnsignedInt(buffer.getShort())];
+            int wingspan = Short.toUnsignedInt(buffer.getShort());
+            int featherPoints = Byte.toUnsignedInt(buffer.get());
+            int nestCapacity = Byte.toUnsignedInt(buffer.get());
+            NestType nestType = ordinal(NestType.values(), buffer.get());
+            int habitatMask = Byte.toUnsignedInt(buffer.get());
+            int flags = Byte.toUnsignedInt(buffer.get());
+            byte[] foodCounts = new byte[foodTypes];
+            buffer.get(foodCounts);
+            int languageMask = Byte.toUnsignedInt(buffer.get());
+
+            // Birds are identified by their position in the catalog, same as the json loader
+            birds.add(new BirdDefinition(new BirdRecord(i, name, scientificName, expansion, powerText, wingspan,
+                    featherPoints, nestCapacity, nestType, habitatMask, foodCounts, (flags & FLAG_FOOD_COST_OR) != 0,
+                    (flags & FLAG_PREDATOR) != 0, (flags & FLAG_FLOCKING) != 0, (flags & FLAG_BONUS) != 0, languageMask)));
+            buffer.position(recordStart + recordSize);
+        }
+        return birds;
+    }
+
+    private static List<BonusDefinition> readBonuses(ByteBuffer buffer, String[] strings) {
+        int count = buffer.getInt();
+        int recordSize = Short.toUnsignedInt(buffer.getShort());
+        List<BonusDefinition> bonuses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int recordStart = buffer.position();
+            int id = buffer.getInt();
+            String name = strings[Short.toUnsignedInt(buffer.getShort())];
+            Expansion expansion = ordinal(Expansion.values(), buffer.get());
+            boolean automaCompatible = buffer.get() != 0;
+            boolean automaExclusive = buffer.get() != 0;
+            String condition = strings[Short.toUnsignedInt(buffer.getShort())];
+            String explanatoryText = strings[Short.toUnsignedInt(buffer.getShort())];
+            bonuses.add(new BonusDefinition(id, name, expansion, automaCompatible, automaExclusive, condition, explanatoryText));
+            buffer.position(recordStart + recordSize);
+        }
+        return bonuses;
+    }
+
+    private static List<GoalDefinition> readGoals(ByteBuffer buffer, String[] strings) {
+        int count = buffer.getInt();
+        int recordSize = Short.toUnsignedInt(buffer.getShort());
+        List<GoalDefinition> goals = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int recordStart = buffer.position();
+            int id = buffer.getInt();
+            String name = strings[Short.toUnsignedInt(buffer.getShort())];
+            Expansion expansion = ordinal(Expansion.values(), buffer.get());
+            boolean duet = buffer.get() != 0;
+            String condition = strings[Short.toUnsignedInt(buffer.getShort())];
+            String explanatoryText = strings[Short.toUnsignedInt(buffer.getShort())];
+            goals.add(new GoalDefinition(id, name, expansion, duet, condition, explanatoryText));
+            buffer.position(recordStart + recordSize);
+        }
+        return goals;
+    }
+
+    private static <E extends Enum<E>> E ordinal(E[] values, byte ordinal) {
+        int index = Byte.toUnsignedInt(ordinal);
+        return index == NULL_ORDINAL ? null : values[index];
+    }
+
+    private static byte[] readResource(String resource) throws IOException {
+        try (InputStream is = BinaryCatalogLoader.class.getClassLoader().getResourceAsStream(resource)) {
+            if (is == null) {
+                throw new IOException("Missing resource " + resource);
+            }
+            return is.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package game.components.catalog;
+
+import game.components.enums.FoodType;
+import game.components.enums.HabitatEnum;
+import game.components.enums.NestType;
+import game.components.meta.Power;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class BirdDefinition extends CardDefinition {
+
+    public static final List<String> LANGUAGE_BONUS_CARDS = List.of("Anatomist", "Cartographer", "Historian", "Photographer");
+
+    private final String scientificName;
+    private final Power power;
+    private final int wingspan;
+    private final int featherPoints;
+    private final int nestCapacity;
+    private final NestType nestType;
+    private final int habitatMask;
+    private final List<HabitatEnum> habitats;
+    private final boolean isPredator;
+    private final boolean isFlocking;
+    private final boolean isBonus;
+    private final List<List<FoodType>> foodCost;
+    /** {@link #foodCost} compiled into one count vector per alternative, indexed by {@link FoodType#ordinal()}. Shared, never modify */
+    private final int[][] foodCostVectors;
+    private final List<String> languageBonusCards;
+    private final BirdText text;
+
+    public BirdDefinition(BirdRecord bird) {
+        super(bird.id(), bird.name(), bird.expansion());
+        this.scientificName = bird.scientificName();
+        this.power = new Power();
+        this.power.setPowerText(bird.powerText());
+        this.wingspan = bird.wingspan();
+        this.featherPoints = bird.featherPoints();
+        this.nestCapacity = bird.nestCapacity();
+        this.nestType = bird.nestType();
+        this.habitatMask = bird.habitatMask();
+        this.isPredator = bird.predator();
+        this.isFlocking = bird.flocking();
+        this.isBonus = bird.bonus();
+
+        List<HabitatEnum> habitatList = new ArrayList<>();
+        for (HabitatEnum habitat : HabitatEnum.values()) {
+            if ((habitatMask & (1 << habitat.ordinal())) != 0) habitatList.add(habitat);
+        }
+        this.habitats = List.copyOf(habitatList);
+
+        FoodType[] foodTypes = FoodType.values();
+        List<List<FoodType>> cost = new ArrayList<>();
+        if (!bird.foodCostOr()) {
+            List<FoodType> alternative = new ArrayList<>();
+            for (FoodType foodType : foodTypes) {
+                for (int n = 0; n < bird.foodCounts()[foodType.ordinal()]; n++) alternative.add(foodType);
+            }
+            cost.add(List.copyOf(alternative));
+        } else {
+            for (FoodType foodType : foodTypes) {
+                if (bird.foodCounts()[foodType.ordinal()] > 0) cost.add(List.of(foodType));
+            }
+        }
+        this.foodCost = List.copyOf(cost);
+        this.foodCostVectors = new int[foodCost.size()][];
+        for (int i = 0; i < foodCost.size(); i++) {
+            foodCostVectors[i] = FoodType.toCounts(foodCost.get(i));
+        }
+
+        List<String> languageCards = new ArrayList<>();
+        for (int i = 0; i < LANGUAGE_BONUS_CARDS.size(); i++) {
+            if ((bird.languageBonusMask() & (1 << i)) != 0) languageCards.add(LANGUAGE_BONUS_CARDS.get(i));
+        }
+        this.languageBonusCards = List.copyOf(languageCards);
+        this.text = new BirdText(bird, habitats, foodCost);
+    }
+
+    public boolean canLiveIn(HabitatEnum habitat) {
+        return (habitatMask & (1 << habitat.ordinal())) != 0;
+    }
+}
@@ -0,0 +1,18 @@
+package game.components.catalog;
+
+import game.components.enums.Expansion;
+import game.components.enums.NestType;
+
+/**
+ * Raw, typed fields of a bird as stored in the catalog sources.<br/>
+ * Habitats and language bonus cards are bitmasks, the food cost is a count per {@link game.components.enums.FoodType#ordinal()}
+ *
+ * @param habitatMask       bit {@code i} set if the bird can live in {@code HabitatEnum.values()[i]}
+ * @param foodCounts        amount of each food type in the cost
+ * @param foodCostOr        true if the cost is <b>one</b> of the listed foods (slash cost)
+ * @param languageBonusMask bit {@code i} set if the bird counts for {@link BirdDefinition#LANGUAGE_BONUS_CARDS}{@code [i]}
+ */
+public record BirdRecord(int id, String name, String scientificName, Expansion expansion, String powerText,
+                         int wingspan, int featherPoints, int nestCapacity, NestType nestType, int habitatMask,
+                         byte[] foodCounts, boolean foodCostOr, boolean predator, boolean flocking, boolean bonus,
+                         int languageBonusMask) {}
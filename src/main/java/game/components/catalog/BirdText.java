@@ -0,0 +1,90 @@
+package game.components.catalog;
+
+import game.components.enums.FoodType;
+import game.components.enums.HabitatEnum;
+import game.ui.discord.enumeration.EmojiEnum;
+import lombok.AccessLevel;
+import lombok.Getter;
+import util.StringUtil;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Display text of a bird that never changes, built once when the catalog is loaded.<br/>
+ * Rendering a bird only joins these fragments with what does change, like the eggs in its nest
+ */
+@Getter
+public class BirdText {
+
+    // Habitat emojis
+    private final String habitats;
+    // "Food: " followed by the food cost emojis, alternatives separated by " / "
+    private final String foodCost;
+    // Nest type emoji and egg capacity
+    private final String nest;
+    // Feather points and wingspan
+    private final String points;
+    // Power text with its placeholders replaced by emojis, empty if the bird has no power
+    private final String power;
+    // Every fragment above, one per line, as shown in the tray
+    private final String details;
+    @Getter(AccessLevel.NONE)
+    private final String cardPrefix;
+    // eggs[n] is n egg emojis, for every egg count the nest can hold
+    @Getter(AccessLevel.NONE)
+    private final String[] eggs;
+
+    /**
+     * @param birdHabitats habitats the bird lives in
+     * @param birdFoodCost alternatives of the bird's food cost
+     */
+    BirdText(BirdRecord bird, List<HabitatEnum> birdHabitats, List<List<FoodType>> birdFoodCost) {
+        this.habitats = birdHabitats.stream()
+                .map(HabitatEnum::getEmoji)
+                .map(EmojiEnum::getEmoteId)
+                .collect(Collectors.joining(" "));
+
+        if (birdFoodCost.isEmpty() || birdFoodCost.stream().allMatch(List::isEmpty)) {
+            this.foodCost = "Food: " + EmojiEnum.NO_FOOD.getEmoteId();
+        } else {
+            this.foodCost = "Food: " + birdFoodCost.stream()
+                    .map(alt -> alt.stream()
+                            .map(f -> f.getEmoji().getEmoteId())
+                            .collect(Collectors.joining("")))
+                    .collect(Collectors.joining(" / "));
+        }
+
+        // Some birds have no nest at all
+        String nestType = bird.nestType() == null ? "" : bird.nestType().getEmoji().getEmoteId() + " ";
+        this.nest = nestType + EmojiEnum.EGG.getEmoteId() + " x" + bird.nestCapacity();
+        this.points = EmojiEnum.FEATHER_POINTS.getEmoteId() + " " + bird.featherPoints() + " | " + bird.wingspan() + "cm";
+
+        String powerText = bird.powerText();
+        this.power = StringUtil.isEmpty(powerText) ? "" : StringUtil.replacePlaceholders(powerText);
+
+        this.details = habitats + "\n" + foodCost + "\n" + nest + "\n" + points + "\n" +
+                (power.isEmpty() ? "" : "\n*" + power + "*");
+
+        this.cardPrefix = EmojiEnum.CARD.getEmoteId() + " " + bird.name() + " ";
+        this.eggs = new String[bird.nestCapacity() + 1];
+        for (int i = 0; i < eggs.length; i++) {
+            eggs[i] = EmojiEnum.EGG.getEmoteId().repeat(i);
+        }
+    }
+
+    /**
+     * @return n egg emojis
+     */
+    public String eggs(int n) {
+        if (n <= 0) return "";
+        return n < eggs.length ? eggs[n] : EmojiEnum.EGG.getEmoteId().repeat(n);
+    }
+
+    /**
+     * Card emoji, name and the eggs in the nest, as the bird is listed on a board or in a hand
+     */
+    public String asCard(int numberOfEggs) {
+        return cardPrefix + eggs(numberOfEggs);
+    }
+}
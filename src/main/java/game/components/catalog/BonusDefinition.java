@@ -0,0 +1,21 @@
+package game.components.catalog;
+
+import game.components.enums.Expansion;
+import lombok.Getter;
+
+@Getter
+public class BonusDefinition extends CardDefinition {
+    private final boolean automaCompatible;
+    private final boolean automaExclusive;
+    private final String condition;
+    private final String explanatoryText;
+
+    public BonusDefinition(int id, String name, Expansion expansion, boolean automaCompatible, boolean automaExclusive,
+                           String condition, String explanatoryText) {
+        super(id, name, expansion);
+        this.automaCompatible = automaCompatible;
+        this.automaExclusive = automaExclusive;
+        this.condition = condition;
+        this.explanatoryText = explanatoryText;
+    }
+}
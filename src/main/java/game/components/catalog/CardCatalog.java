@@ -0,0 +1,177 @@
+package game.components.catalog;
+
+import game.components.enums.Expansion;
+import lombok.AccessLevel;
+import lombok.Getter;
+import util.LogLevel;
+import util.Logger;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Process-wide, immutable catalog of every bird, bonus and goal card.<br/>
+ * The catalog is loaded once, the first time it is accessed, and the resulting definitions are shared by every
+ * {@link game.Game}. The precompiled binary catalog is used when it is available and up to date, the json resources otherwise.<br/>
+ * Cards are indexed by id in dense arrays and birds by name in a hash index, so every lookup is constant time
+ */
+@Getter
+public class CardCatalog {
+
+    // Logger
+    private static final Logger logger = new Logger(CardCatalog.class, LogLevel.ALL);
+    private static final CardCatalog INSTANCE = new CardCatalog();
+
+    private final List<BirdDefinition> birds;
+    private final List<BonusDefinition> bonuses;
+    private final List<GoalDefinition> goals;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Integer> birdIdsByName;
+    @Getter(AccessLevel.NONE)
+    private final IdIndex<BonusDefinition> bonusesById;
+    @Getter(AccessLevel.NONE)
+    private final IdIndex<GoalDefinition> goalsById;
+    @Getter(AccessLevel.NONE)
+    private final Map<Expansion, int[]> birdIndexesByExpansion;
+    @Getter(AccessLevel.NONE)
+    private final Map<Expansion, int[]> bonusIndexesByExpansion;
+    @Getter(AccessLevel.NONE)
+    private final Map<Integer, DeckTemplate> deckTemplates = new ConcurrentHashMap<>();
+
+    private CardCatalog() {
+        long start = System.currentTimeMillis();
+        CatalogContents contents;
+        String source;
+        try {
+            contents = BinaryCatalogLoader.load();
+            source = "binary catalog";
+        } catch (IOException e) {
+            logger.warn(String.format("Couldn't load the binary card catalog, falling back to json : %s", e.getMessage()));
+            contents = JsonCatalogLoader.load();
+            source = "json";
+        }
+        this.birds = Collections.unmodifiableList(contents.birds());
+        this.bonuses = Collections.unmodifiableList(contents.bonuses());
+        this.goals = Collections.unmodifiableList(contents.goals());
+        this.birdIdsByName = new HashMap<>(birds.size() * 2);
+        birds.forEach(bird -> birdIdsByName.put(bird.getName(), bird.getId()));
+        this.bonusesById = new IdIndex<>(bonuses);
+        this.goalsById = new IdIndex<>(goals);
+        this.birdIndexesByExpansion = indexesByExpansion(birds, bird -> true);
+        this.bonusIndexesByExpansion = indexesByExpansion(bonuses, bonus -> !bonus.isAutomaExclusive());
+        logger.info(String.format("Card catalog loaded from %s in %dms (%d birds, %d bonuses, %d goals)",
+                source, System.currentTimeMillis() - start, birds.size(), bonuses.size(), goals.size()));
+    }
+
+    public static CardCatalog getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Birds are identified by their position in the catalog, so the bird list is already indexed by id
+     */
+    public BirdDefinition getBird(int birdId) {
+        return birds.get(birdId);
+    }
+
+    /**
+     * @return the id of the bird with this exact name, -1 if there is none
+     */
+    public int getBirdId(String birdName) {
+        return birdIdsByName.getOrDefault(birdName, -1);
+    }
+
+    public BonusDefinition getBonus(int bonusId) {
+        return bonuses.get(getBonusIndex(bonusId));
+    }
+
+    /**
+     * @return the position of the bonus card in {@link #getBonuses()}, -1 if there is none with this id
+     */
+    public int getBonusIndex(int bonusId) {
+        return bonusesById.indexOf(bonusId);
+    }
+
+    public GoalDefinition getGoal(int goalId) {
+        return goals.get(goalsById.indexOf(goalId));
+    }
+
+    /**
+     * Cards of a combination of expansions. The template is built the first time the mix is asked for and cached
+     */
+    public DeckTemplate getDeckTemplate(Collection<Expansion> expansions) {
+        int mask = 0;
+        for (Expansion expansion : expansions) {
+            mask |= 1 << expansion.ordinal();
+        }
+        return deckTemplates.computeIfAbsent(mask, this::buildDeckTemplate);
+    }
+
+    private DeckTemplate buildDeckTemplate(int expansionMask) {
+        return new DeckTemplate(expansionMask,
+                concat(birdIndexesByExpansion, expansionMask),
+                concat(bonusIndexesByExpansion, expansionMask));
+    }
+
+    /**
+     * Concatenate the catalog positions of every expansion in the mask. Positions are sorted back into catalog order so
+     * a given seed shuffles the decks the same way whatever the order the expansions are stored in
+     */
+    private static int[] concat(Map<Expansion, int[]> indexesByExpansion, int expansionMask) {
+        int size = 0;
+        for (Expansion expansion : Expansion.values()) {
+            if ((expansionMask & (1 << expansion.ordinal())) != 0) size += indexesByExpansion.get(expansion).length;
+        }
+        int[] indexes = new int[size];
+        int position = 0;
+        for (Expansion expansion : Expansion.values()) {
+            if ((expansionMask & (1 << expansion.ordinal())) == 0) continue;
+            int[] expansionIndexes = indexesByExpansion.get(expansion);
+            System.arraycopy(expansionIndexes, 0, indexes, position, expansionIndexes.length);
+            position += expansionIndexes.length;
+        }
+        Arrays.sort(indexes);
+        return indexes;
+    }
+
+    /**
+     * Catalog positions of the cards of each expansion that can be put in a deck
+     */
+    private static <T extends CardDefinition> Map<Expansion, int[]> indexesByExpansion(List<T> cards, Predicate<T> inDeck) {
+        Map<Expansion, int[]> indexesByExpansion = new EnumMap<>(Expansion.class);
+        for (Expansion expansion : Expansion.values()) {
+            indexesByExpansion.put(expansion, IntStream.range(0, cards.size())
+                    .filter(i -> cards.get(i).getExpansion() == expansion && inDeck.test(cards.get(i)))
+                    .toArray());
+        }
+        return indexesByExpansion;
+    }
+
+    /**
+     * Dense array mapping a card id to its position in the catalog.<br/>
+     * Bonus and goal ids are contiguous ranges (1000+, 2000+) so the array is offset by the smallest id
+     */
+    private static class IdIndex<T extends CardDefinition> {
+        private final int firstId;
+        private final int[] indexes;
+
+        private IdIndex(List<T> cards) {
+            int min = cards.stream().mapToInt(CardDefinition::getId).min().orElse(0);
+            int max = cards.stream().mapToInt(CardDefinition::getId).max().orElse(-1);
+            this.firstId = min;
+            this.indexes = new int[max - min + 1];
+            Arrays.fill(indexes, -1);
+            for (int i = 0; i < cards.size(); i++) {
+                indexes[cards.get(i).getId() - firstId] = i;
+            }
+        }
+
+        private int indexOf(int id) {
+            int offset = id - firstId;
+            return offset < 0 || offset >= indexes.length ? -1 : indexes[offset];
+        }
+    }
+}
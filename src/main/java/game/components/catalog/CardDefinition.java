@@ -0,0 +1,21 @@
+package game.components.catalog;
+
+import game.components.enums.Expansion;
+import lombok.Getter;
+
+/**
+ * Static, immutable data shared by every copy of a card.<br/>
+ * Definitions are loaded once by the {@link CardCatalog} and referenced by the per-game card instances
+ */
+@Getter
+public abstract class CardDefinition {
+    private final int id;
+    private final String name;
+    private final Expansion expansion;
+
+    protected CardDefinition(int id, String name, Expansion expansion) {
+        this.id = id;
+        this.name = name;
+        this.expansion = expansion;
+    }
+}
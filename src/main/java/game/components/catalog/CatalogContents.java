@@ -0,0 +1,8 @@
+package game.components.catalog;
+
+import java.util.List;
+
+/**
+ * Every card definition produced by a catalog loader
+ */
+public record CatalogContents(List<BirdDefinition> birds, List<BonusDefinition> bonuses, List<GoalDefinition> goals) {}
@@ -0,0 +1,11 @@
+package game.components.catalog;
+
+/**
+ * Cards making up the decks of a game for one combination of expansions, in catalog order.<br/>
+ * Templates are built once per expansion mix by {@link CardCatalog#getDeckTemplate} and shared by every game using that mix
+ *
+ * @param expansionMask bit {@code i} set if {@code Expansion.values()[i]} is part of the mix
+ * @param birdIds       ids of the birds in the bird deck
+ * @param bonusIndexes  positions in {@link CardCatalog#getBonuses()} of the bonus cards in the bonus deck, automa exclusive cards left out
+ */
+public record DeckTemplate(int expansionMask, int[] birdIds, int[] bonusIndexes) {}
@@ -0,0 +1,21 @@
+package game.components.catalog;
+
+import game.components.enums.Expansion;
+import lombok.Getter;
+
+/**
+ * End of round goal tile
+ */
+@Getter
+public class GoalDefinition extends CardDefinition {
+    private final boolean duet;
+    private final String condition;
+    private final String explanatoryText;
+
+    public GoalDefinition(int id, String name, Expansion expansion, boolean duet, String condition, String explanatoryText) {
+        super(id, name, expansion);
+        this.duet = duet;
+        this.condition = condition;
+        this.explanatoryText = explanatoryText;
+    }
+}
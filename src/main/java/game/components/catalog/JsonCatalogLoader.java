@@ -0,0 +1,190 @@
+package game.components.catalog;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import game.components.enums.*;
+import util.LogLevel;
+import util.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the catalog by parsing the json resources. This is the source of truth the binary catalog is compiled from.<br/>
+ * The files are read with a streaming {@link JsonParser}: each object is mapped field by field straight into its typed
+ * record, unknown fields are skipped and no intermediate tree is built
+ */
+public class JsonCatalogLoader {
+
+    // Logger
+    private static final Logger logger = new Logger(JsonCatalogLoader.class, LogLevel.ALL);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final Map<String, Integer> HABITAT_BITS = new HashMap<>();
+    private static final Map<String, Integer> FOOD_INDEXES = new HashMap<>();
+    private static final Map<String, Integer> LANGUAGE_BONUS_BITS = new HashMap<>();
+
+    static {
+        for (HabitatEnum habitat : HabitatEnum.values()) {
+            HABITAT_BITS.put(habitat.getJsonValue(), 1 << habitat.ordinal());
+        }
+        for (FoodType foodType : FoodType.values()) {
+            FOOD_INDEXES.put(foodType.getJsonName(), foodType.ordinal());
+        }
+        for (int i = 0; i < BirdDefinition.LANGUAGE_BONUS_CARDS.size(); i++) {
+            LANGUAGE_BONUS_BITS.put(BirdDefinition.LANGUAGE_BONUS_CARDS.get(i), 1 << i);
+        }
+    }
+
+    private JsonCatalogLoader() {}
+
+    public static CatalogContents load() {
+        return new CatalogContents(
+                readAll(Constants.BIRD_JSON, "bird cards", (parser, index) -> new BirdDefinition(readBird(parser, index))),
+                readAll(Constants.BONUS_JSON, "bonus cards", (parser, index) -> readBonus(parser)),
+                readAll(Constants.GOAL_JSON, "goals", (parser, index) -> readGoal(parser)));
+    }
+
+    /**
+     * Maps the object the parser is positioned on, the parser must be left on its {@link JsonToken#END_OBJECT}
+     */
+    @FunctionalInterface
+    private interface ObjectReader<T> {
+        T read(JsonParser parser, int index) throws IOException;
+    }
+
+    /**
+     * Get <b>all</b> the objects of a json array resource
+     */
+    private static <T> List<T> readAll(String resource, String description, ObjectReader<T> reader) {
+        List<T> objects = new ArrayList<>();
+        try (InputStream is = JsonCatalogLoader.class.getClassLoader().getResourceAsStream(resource)) {
+            if (is == null) {
+                throw new IOException("Missing resource " + resource);
+            }
+            try (JsonParser parser = JSON_FACTORY.createParser(is)) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IOException(resource + " is not a json array");
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    objects.add(reader.read(parser, objects.size()));
+                }
+            }
+        } catch (IOException e) {
+            logger.error(String.format("Couldn't get all %s : %s", description, e.getMessage()));
+        }
+        return objects;
+    }
+
+    /**
+     * Birds don't have an id in the json, they're identified by their position in the file
+     */
+    private static BirdRecord readBird(JsonParser parser, int index) throws IOException {
+        String name = "", scientificName = "", powerText = "";
+        Expansion expansion = null;
+        NestType nestType = null;
+        int wingspan = 0, featherPoints = 0, nestCapacity = 0, habitatMask = 0, languageBonusMask = 0;
+        boolean foodCostOr = false, predator = false, flocking = false, bonus = false;
+        byte[] foodCounts = new byte[FoodType.values().length];
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "Common name" -> name = text(parser);
+                case "Scientific name" -> scientificName = text(parser);
+                case "Expansion" -> expansion = Expansion.fromJsonName(text(parser));
+                case "Power text" -> powerText = text(parser);
+                case "Wingspan" -> wingspan = parser.getValueAsInt(0);
+                case "Victory points" -> featherPoints = parser.getValueAsInt(0);
+                case "Egg capacity" -> nestCapacity = parser.getValueAsInt(0);
+                case "Nest type" -> nestType = NestType.fromJsonName(text(parser));
+                case "Predator" -> predator = isChecked(parser);
+                case "Flocking" -> flocking = isChecked(parser);
+                case "Bonus card" -> bonus = isChecked(parser);
+                case "/ (food cost)" -> foodCostOr = isChecked(parser);
+                default -> {
+                    Integer habitatBit = HABITAT_BITS.get(field);
+                    Integer foodIndex = FOOD_INDEXES.get(field);
+                    Integer languageBonusBit = LANGUAGE_BONUS_BITS.get(field);
+                    if (habitatBit != null) {
+                        if (isChecked(parser)) habitatMask |= habitatBit;
+                    } else if (foodIndex != null) {
+                        foodCounts[foodIndex] = (byte) parser.getValueAsInt(0);
+                    } else if (languageBonusBit != null) {
+                        if (isChecked(parser)) languageBonusMask |= languageBonusBit;
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        return new BirdRecord(index, name, scientificName, expansion, powerText, wingspan, featherPoints, nestCapacity,
+                nestType, habitatMask, foodCounts, foodCostOr, predator, flocking, bonus, languageBonusMask);
+    }
+
+    private static BonusDefinition readBonus(JsonParser parser) throws IOException {
+        int id = 0;
+        String name = "", condition = "", explanatoryText = "";
+        Expansion expansion = null;
+        boolean automaCompatible = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> id = parser.getValueAsInt(0);
+                case "Name" -> name = text(parser);
+                case "Expansion" -> expansion = Expansion.fromJsonName(text(parser));
+                case "Automa" -> automaCompatible = isChecked(parser);
+                case "Condition" -> condition = text(parser);
+                case "Explanatory text" -> explanatoryText = text(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new BonusDefinition(id, name, expansion, automaCompatible, name.contains("[automa]"), condition, explanatoryText);
+    }
+
+    private static GoalDefinition readGoal(JsonParser parser) throws IOException {
+        int id = 0;
+        String name = "", condition = "", explanatoryText = "";
+        Expansion expansion = null;
+        boolean duet = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> id = parser.getValueAsInt(0);
+                case "Name" -> name = text(parser);
+                case "Expansion" -> expansion = Expansion.fromJsonName(text(parser));
+                case "Duet" -> duet = isChecked(parser);
+                case "Condition" -> condition = text(parser);
+                case "Explanatory Text" -> explanatoryText = text(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new GoalDefinition(id, name, expansion, duet, condition, explanatoryText);
+    }
+
+    /**
+     * Text of the current scalar value, empty if it is null
+     */
+    private static String text(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? "" : parser.getValueAsString("");
+    }
+
+    /**
+     * Boolean columns are either {@code "X"} or null
+     */
+    private static boolean isChecked(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_STRING
+                && parser.getTextLength() == 1
+                && parser.getTextCharacters()[parser.getTextOffset()] == 'X';
+    }
+}
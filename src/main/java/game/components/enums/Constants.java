@@ -3,4 +3,6 @@ package game.components.enums;
 public class Constants {
     public static final String BIRD_JSON = "birds.json";
     public static final String BONUS_JSON = "bonus.json";
+    public static final String GOAL_JSON = "goals.json";
+    public static final String CARD_CATALOG_BIN = "cards.bin";
 }
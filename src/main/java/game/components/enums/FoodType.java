@@ -2,8 +2,6 @@ package game.components.enums;
 
 import game.ui.discord.enumeration.EmojiEnum;
 import lombok.Getter;
-import util.LogLevel;
-import util.Logger;
 
 import java.util.Arrays;
 import java.util.List;
@@ -19,8 +17,6 @@ public enum FoodType {
     NECTAR("Nectar", "Nectar", EmojiEnum.NECTAR),
     WILD("Wild (food)", "Wild", EmojiEnum.WILD);
 
-    private static final Logger logger = new Logger(FoodType.class, LogLevel.ALL);
-
     @Getter
     private final String jsonName;
     @Getter
@@ -45,15 +41,31 @@ public enum FoodType {
     }
 
     public static FoodType fromJsonName(String jsonName) {
-        logger.debug("Getting food type from json name " + jsonName);
         return jsonNameMap.get(jsonName);
     }
 
     public static FoodType fromDisplayName(String displayName) {
-        logger.debug("Getting food type from display name " + displayName);
         return displayNameMap.get(displayName);
     }
 
+    /**
+     * Count of each food type in the list, indexed by {@link #ordinal()}
+     */
+    public static int[] toCounts(List<FoodType> foods) {
+        int[] counts = new int[values().length];
+        foods.forEach(food -> counts[food.ordinal()]++);
+        return counts;
+    }
+
+    /**
+     * Amount of each food type in the map, indexed by {@link #ordinal()}. Missing types count as 0
+     */
+    public static int[] toCounts(Map<FoodType, Integer> foods) {
+        int[] counts = new int[values().length];
+        foods.forEach((food, amount) -> counts[food.ordinal()] = amount);
+        return counts;
+    }
+
     public static List<FoodType> getStartingHandFoodTypes() {
         return List.of(WORM, SEED, FRUIT, FISH, RODENT);
     }
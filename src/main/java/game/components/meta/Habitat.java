@@ -1,18 +1,24 @@
 package game.components.meta;
 
+import game.components.catalog.CardCatalog;
 import game.components.subcomponents.BirdCard;
+import lombok.AccessLevel;
 import lombok.Getter;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 @Getter
 public class Habitat {
 
     public static final int numberOfSpaceInHabitat = 5;
 
+    @Getter(AccessLevel.NONE)
     private final List<BirdCard> birds = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private final Map<Integer, BirdCard> birdsById = new HashMap<>();
     private final boolean nectarBoard;
+    @Getter(AccessLevel.NONE)
+    private long version;
 
     public Habitat(boolean nectarBoard) {
         this.nectarBoard = nectarBoard;
@@ -28,7 +34,35 @@ public class Habitat {
         return 2;
     }
 
+    /**
+     * Birds in the order they were played, read-only
+     */
+    public List<BirdCard> getBirds() {
+        return Collections.unmodifiableList(birds);
+    }
+
     public void addBird(BirdCard birdToPlay) {
         birds.add(birdToPlay);
+        birdsById.put(birdToPlay.getId(), birdToPlay);
+        version++;
+    }
+
+    /**
+     * Changes every time a bird is played in the habitat or the eggs on one of its birds change
+     */
+    public long getVersion() {
+        long nestVersions = 0;
+        for (BirdCard bird : birds) {
+            nestVersions += bird.getNest().getVersion();
+        }
+        return version + nestVersions;
+    }
+
+    public Optional<BirdCard> getBirdById(int birdId) {
+        return Optional.ofNullable(birdsById.get(birdId));
+    }
+
+    public Optional<BirdCard> getBirdByName(String birdName) {
+        return getBirdById(CardCatalog.getInstance().getBirdId(birdName));
     }
 }
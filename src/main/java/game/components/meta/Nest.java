@@ -2,18 +2,23 @@ package game.components.meta;
 
 import game.components.enums.NestType;
 import lombok.Getter;
-import lombok.Setter;
 
 @Getter
 public class Nest {
     private final int capacity;
     private final NestType type;
-    @Setter
     private int numberOfEggs;
+    // Bumped every time the number of eggs changes
+    private long version;
 
     public Nest(int capacity, NestType nestType) {
         this.capacity = capacity;
         this.type = nestType;
         this.numberOfEggs = 0;
     }
+
+    public void setNumberOfEggs(int numberOfEggs) {
+        this.numberOfEggs = numberOfEggs;
+        version++;
+    }
 }
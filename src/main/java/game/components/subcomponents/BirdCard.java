@@ -1,35 +1,80 @@
 package game.components.subcomponents;
 
+import game.components.catalog.BirdDefinition;
+import game.components.catalog.BirdText;
 import game.components.enums.FoodType;
 import game.components.enums.HabitatEnum;
 import game.components.meta.Nest;
 import game.components.meta.Power;
-import game.ui.discord.enumeration.EmojiEnum;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.util.List;
 
 @Getter
-@Setter
 public class BirdCard extends Card {
-    private String scientificName;
-    private Power power;
-    private String trivia; // TODO: Not included
-    private int wingspan;
-    private int featherPoints;
-    private Nest nest;
-    private List<HabitatEnum> habitats;
-    private boolean isPredator;
-    private boolean isFlocking;
-    private boolean isBonus;
-    private List<List<FoodType>> foodCost;
-    private List<String> languageBonusCards;
-    private boolean facingLeft;
-    private boolean facingRight;
+    private final BirdDefinition definition;
+    private final Nest nest;
+    @Setter
+    private int tuckedCards;
+    @Setter
+    private int cachedFood;
+
+    public BirdCard(BirdDefinition definition) {
+        this.definition = definition;
+        this.nest = new Nest(definition.getNestCapacity(), definition.getNestType());
+    }
+
+    public String getScientificName() {
+        return definition.getScientificName();
+    }
+
+    public Power getPower() {
+        return definition.getPower();
+    }
+
+    public int getWingspan() {
+        return definition.getWingspan();
+    }
+
+    public int getFeatherPoints() {
+        return definition.getFeatherPoints();
+    }
+
+    public List<HabitatEnum> getHabitats() {
+        return definition.getHabitats();
+    }
+
+    public boolean isPredator() {
+        return definition.isPredator();
+    }
+
+    public boolean isFlocking() {
+        return definition.isFlocking();
+    }
+
+    public boolean isBonus() {
+        return definition.isBonus();
+    }
+
+    public List<List<FoodType>> getFoodCost() {
+        return definition.getFoodCost();
+    }
+
+    public int[][] getFoodCostVectors() {
+        return definition.getFoodCostVectors();
+    }
+
+    public List<String> getLanguageBonusCards() {
+        return definition.getLanguageBonusCards();
+    }
+
+    public BirdText getText() {
+        return definition.getText();
+    }
 
     @Override
     public String toString() {
-        return EmojiEnum.CARD.getEmoteId() + " " + getName() + " " + String.valueOf(EmojiEnum.EGG.getEmoteId()).repeat(Math.max(0, getNest().getNumberOfEggs()));
+        return getText().asCard(getNest().getNumberOfEggs());
     }
 }
@@ -1,13 +1,29 @@
 package game.components.subcomponents;
 
+import game.components.catalog.BonusDefinition;
 import lombok.Getter;
-import lombok.Setter;
 
 @Getter
-@Setter
 public class BonusCard extends Card {
-    private boolean automaCompatible;
-    private boolean automaExclusive;
-    private String condition;
-    private String explanatoryText;
+    private final BonusDefinition definition;
+
+    public BonusCard(BonusDefinition definition) {
+        this.definition = definition;
+    }
+
+    public boolean isAutomaCompatible() {
+        return definition.isAutomaCompatible();
+    }
+
+    public boolean isAutomaExclusive() {
+        return definition.isAutomaExclusive();
+    }
+
+    public String getCondition() {
+        return definition.getCondition();
+    }
+
+    public String getExplanatoryText() {
+        return definition.getExplanatoryText();
+    }
 }
@@ -1,14 +1,30 @@
 package game.components.subcomponents;
 
+import game.components.catalog.CardDefinition;
 import game.components.enums.Expansion;
 import lombok.Getter;
 import lombok.Setter;
 
+/**
+ * A single copy of a card in a game. The static data lives in the shared {@link CardDefinition}, only the per-game
+ * state is held here
+ */
 @Getter
 @Setter
-public class Card {
-    private int id;
-    private String name;
-    private Expansion expansion;
+public abstract class Card {
     private boolean selected = false;
+
+    public abstract CardDefinition getDefinition();
+
+    public int getId() {
+        return getDefinition().getId();
+    }
+
+    public String getName() {
+        return getDefinition().getName();
+    }
+
+    public Expansion getExpansion() {
+        return getDefinition().getExpansion();
+    }
 }
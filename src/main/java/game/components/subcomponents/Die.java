@@ -2,16 +2,16 @@ package game.components.subcomponents;
 
 import lombok.Getter;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 public class Die {
 
-    private final Random random;
+    private SplittableRandom random;
     @Getter
     private DieFace visibleFace;
     private final boolean nectarDie;
 
-    public Die(boolean nectarDie, Random random) {
+    public Die(boolean nectarDie, SplittableRandom random) {
         this.nectarDie = nectarDie;
         this.random = random;
         rollDie();
@@ -25,4 +25,15 @@ public class Die {
                 DieFace.getNectarFaces()[random.nextInt(DieFace.getNectarFaces().length)] :
                 DieFace.getRegularFaces()[random.nextInt(DieFace.getRegularFaces().length)];
     }
+
+    /**
+     * Show the face the die had in a snapshot
+     */
+    public void restore(DieFace face) {
+        visibleFace = face;
+    }
+
+    public void reseed(SplittableRandom random) {
+        this.random = random;
+    }
 }
@@ -0,0 +1,167 @@
+package game.service;
+
+import game.ui.discord.MessageView;
+import lombok.Getter;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.exceptions.RateLimitedException;
+import util.LogLevel;
+import util.Logger;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends the messages posted in game channels outside of interactions: announcements and turn prompts.<br/>
+ * Messages for a channel wait a short window, then every message queued for that channel is merged into as few
+ * Discord messages as possible: consecutive texts are joined, and a message with components takes the texts queued
+ * before it. Each channel is drained by one sender at a time, in order, so a rate limited channel keeps merging what
+ * gets queued while it waits.<br/>
+ * Interaction acknowledgements never go through the outbox, they are answered straight away and never wait behind an
+ * announcement
+ */
+public class ChannelOutbox {
+
+    // Logger
+    private static final Logger logger = new Logger(ChannelOutbox.class, LogLevel.ALL);
+    private static final int MAX_ATTEMPTS = 5;
+    private static final int METRICS_LOG_INTERVAL = 1000;
+
+    /**
+     * Sends one message to a channel
+     */
+    @FunctionalInterface
+    public interface Transport {
+        /**
+         * @throws RateLimitedException if Discord asked to retry later
+         */
+        void send(long channelId, MessageView message) throws RateLimitedException;
+    }
+
+    private final Transport transport;
+    private final long windowMillis;
+    private final Map<Long, ChannelQueue> channels = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "channel-outbox");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Senders block while a channel is rate limited
+    private final Executor senders = Executors.newVirtualThreadPerTaskExecutor();
+    @Getter
+    private final OutboxMetrics metrics = new OutboxMetrics();
+
+    private static class ChannelQueue {
+        private final Queue<MessageView> messages = new ArrayDeque<>();
+        private boolean draining;
+    }
+
+    /**
+     * @param window how long messages wait for others to be merged with
+     */
+    public ChannelOutbox(Transport transport, Duration window) {
+        this.transport = transport;
+        this.windowMillis = window.toMillis();
+    }
+
+    public void send(long channelId, String content) {
+        send(channelId, new MessageView(content, List.of()));
+    }
+
+    public void send(long channelId, MessageView message) {
+        ChannelQueue queue = channels.computeIfAbsent(channelId, id -> new ChannelQueue());
+        synchronized (queue) {
+            queue.messages.add(message);
+            metrics.queued();
+            if (!queue.draining) {
+                queue.draining = true;
+                scheduler.schedule(() -> senders.execute(() -> drain(channelId, queue)), windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void drain(long channelId, ChannelQueue queue) {
+        while (true) {
+            List<MessageView> batch;
+            synchronized (queue) {
+                if (queue.messages.isEmpty()) {
+                    queue.draining = false;
+                    return;
+                }
+                batch = new ArrayList<>(queue.messages);
+                queue.messages.clear();
+            }
+            metrics.dequeued(batch.size());
+            for (MessageView message : merge(batch, Message.MAX_CONTENT_LENGTH)) {
+                sendWithRetries(channelId, message);
+            }
+        }
+    }
+
+    private void sendWithRetries(long channelId, MessageView message) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transport.send(channelId, message);
+                metrics.sent();
+                if (metrics.getSent() % METRICS_LOG_INTERVAL == 0) {
+                    logger.info("Outbox : " + metrics);
+                }
+                return;
+            } catch (RateLimitedException e) {
+                metrics.rateLimited();
+                if (attempt >= MAX_ATTEMPTS) {
+                    metrics.failed();
+                    logger.error("Dropped message to channel " + channelId + " after " + attempt + " rate limited attempts : " + metrics);
+                    return;
+                }
+                logger.warn("Channel " + channelId + " rate limited, retrying in " + e.getRetryAfter() + "ms");
+                try {
+                    Thread.sleep(Math.max(e.getRetryAfter(), 0));
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    metrics.failed();
+                    return;
+                }
+            } catch (RuntimeException e) {
+                metrics.failed();
+                logger.error("Could not send message to channel " + channelId + " : " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Merge a batch of messages, in order: consecutive texts are joined on new lines as long as they fit in one
+     * message, and a message with components takes the texts before it
+     */
+    public static List<MessageView> merge(List<MessageView> batch, int maxLength) {
+        List<MessageView> merged = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        for (MessageView message : batch) {
+            if (!text.isEmpty() && text.length() + 1 + message.content().length() > maxLength) {
+                merged.add(new MessageView(text.toString(), List.of()));
+                text.setLength(0);
+            }
+            if (!text.isEmpty()) {
+                text.append('\n');
+            }
+            text.append(message.content());
+            if (!message.components().isEmpty()) {
+                merged.add(new MessageView(text.toString(), message.components()));
+                text.setLength(0);
+            }
+        }
+        if (!text.isEmpty()) {
+            merged.add(new MessageView(text.toString(), List.of()));
+        }
+        return merged;
+    }
+}
@@ -3,19 +3,26 @@ package game.service;
 import game.Game;
 import game.Player;
 import game.exception.GameInputException;
+import game.ui.discord.ComponentIdCodec;
+import game.ui.discord.MessageView;
 import game.ui.discord.enumeration.Constants;
+import game.ui.discord.enumeration.DiscordObject;
 import lombok.Getter;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
-import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+import net.dv8tion.jda.api.exceptions.RateLimitedException;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.GenericComponentInteractionCreateEvent;
+import net.dv8tion.jda.api.interactions.Interaction;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
 import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import util.LogLevel;
 import util.Logger;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public class DiscordBotService {
 
@@ -25,6 +32,9 @@ public class DiscordBotService {
 
     @Getter
     private JDA jda;
+    // Game channel messages are batched for a short while to stay clear of the per-channel rate limits
+    @Getter
+    private final ChannelOutbox outbox = new ChannelOutbox(this::sendNow, Duration.ofMillis(300));
 
     private DiscordBotService() {}
 
@@ -36,11 +46,48 @@ public class DiscordBotService {
         this.jda = jda;
     }
 
-    public void sendMessage(TextChannel gameChannel, String message) {
-        gameChannel.sendMessage(message).queue();
+    /**
+     * Post a message in a game channel, through the {@link ChannelOutbox}
+     */
+    public void sendMessage(long channelId, String message) {
+        outbox.send(channelId, message);
+    }
+
+    public void sendMessage(long channelId, MessageView message) {
+        outbox.send(channelId, message);
+    }
+
+    /**
+     * Mention of a player, their player id is their Discord user id
+     */
+    public static String mention(long playerId) {
+        return "<@" + playerId + ">";
+    }
+
+    /**
+     * Name of a player, asked to Discord as the user caches may be off. Blocks, not to be called on the gateway threads
+     */
+    public String getPlayerName(long playerId) {
+        try {
+            return jda.retrieveUserById(playerId).complete().getName();
+        } catch (RuntimeException e) {
+            logger.warn("Could not find the name of user " + playerId + " : " + e);
+            return Long.toString(playerId);
+        }
+    }
+
+    private void sendNow(long channelId, MessageView message) throws RateLimitedException {
+        TextChannel channel = jda.getTextChannelById(channelId);
+        if (channel == null) {
+            logger.warn("Channel " + channelId + " not found, dropping message");
+            return;
+        }
+        channel.sendMessage(message.content())
+                .setComponents(message.components())
+                .complete(false);
     }
 
-    public Game getGameFromId(GenericInteractionCreateEvent event, String gameId) throws GameInputException {
+    public Game getGameFromId(Interaction event, String gameId) throws GameInputException {
         Game currentGame = GameService.getInstance().getGame(gameId);
         if (currentGame == null) {
             throw new GameInputException("No active game found with game id `" + gameId + "`");
@@ -50,33 +97,68 @@ public class DiscordBotService {
         return currentGame;
     }
 
-    public record GameContext(String componentId, String gameId, Game game, Player player) {}
+    /**
+     * Game and player an interaction is about. For component interactions, the component clicked and its index in its
+     * group of numbered components (die, bird, tray slot...), slash commands have no component
+     * @param nonce nonce of the turn session the component was rendered for, 0 if it isn't tied to one
+     */
+    public record GameContext(DiscordObject component, int index, String gameId, Game game, Player player, int nonce) {}
 
-    public static Optional<GameContext> resolveGameContext(SlashCommandInteractionEvent event) {
+    /**
+     * Hand an interaction over to its game's mailbox, so it doesn't run on the JDA event thread.<br/>
+     * If the game is overloaded or gone, the interaction is rejected with an ephemeral reply instead
+     */
+    public static void dispatch(IReplyCallback event, String gameId, Runnable handler) {
+        if (!GameService.getInstance().execute(gameId, handler)) {
+            event.reply(GameService.getInstance().isActive(gameId)
+                    ? "Game `" + gameId + "` is busy, please try again in a moment"
+                    : "No active game found with game id `" + gameId + "`").setEphemeral(true).queue();
+        }
+    }
+
+    /**
+     * Hand a slash command about a game over to the game's mailbox. The game and the player are looked up by the task,
+     * an evicted game is brought back there, off the JDA event thread
+     */
+    public static void dispatch(SlashCommandInteractionEvent event, Consumer<GameContext> handler) {
         String gameId;
-        Game currentGame;
-        Player currentPlayer;
         try {
             gameId = DiscordBotService.resolveGameId(event);
-            currentGame = DiscordBotService.getInstance().getGameFromId(event, gameId);
-            currentPlayer = currentGame.getPlayerById(event.getUser().getIdLong());
-            return Optional.of(new GameContext("", gameId, currentGame, currentPlayer));
         } catch (GameInputException ex) {
             event.reply(ex.getMessage()).setEphemeral(true).queue();
-            return Optional.empty();
+            return;
+        }
+        dispatch(event, gameId, () -> resolveGameContext(event, gameId, null, 0, 0).ifPresent(handler));
+    }
+
+    /**
+     * Same as {@link #dispatch(SlashCommandInteractionEvent, Consumer)} for a component, the game comes from its id
+     */
+    public static void dispatch(GenericComponentInteractionCreateEvent event, Consumer<GameContext> handler) {
+        long componentId = ComponentIdCodec.decode(event.getComponentId());
+        if (componentId == ComponentIdCodec.INVALID) {
+            DiscordBotService.getInstance().logger.warn("Unknown component id : " + event.getComponentId());
+            event.reply("This menu is no longer supported").setEphemeral(true).queue();
+            return;
         }
+        String gameId = Game.GAME_ID_PREFIX + ComponentIdCodec.gameNumber(componentId);
+        dispatch(event, gameId, () -> resolveGameContext(event, gameId, ComponentIdCodec.object(componentId),
+                ComponentIdCodec.index(componentId), ComponentIdCodec.nonce(componentId)).ifPresent(handler));
     }
 
-    public static Optional<GameContext> resolveGameContext(GenericComponentInteractionCreateEvent event) {
-        String[] arr = event.getComponentId().split(":");
-        String componentId = arr[0];
-        String gameId = arr[1];
-        Game currentGame;
-        Player currentPlayer;
+    /**
+     * Runs on the game's mailbox
+     */
+    private static Optional<GameContext> resolveGameContext(IReplyCallback event, String gameId, DiscordObject component, int index, int nonce) {
         try {
-            currentGame = DiscordBotService.getInstance().getGameFromId(event, gameId);
-            currentPlayer = currentGame.getPlayerById(event.getUser().getIdLong());
-            return java.util.Optional.of(new GameContext(componentId, gameId, currentGame, currentPlayer));
+            Game currentGame = DiscordBotService.getInstance().getGameFromId(event, gameId);
+            Player currentPlayer = currentGame.getPlayerById(event.getUser().getIdLong());
+            GameContext gameContext = new GameContext(component, index, gameId, currentGame, currentPlayer, nonce);
+            if (nonce != 0) {
+                // On the mailbox, after every task queued before: a session started by one of them is already live
+                GameService.getInstance().getTurnSession(currentGame, currentPlayer, nonce);
+            }
+            return Optional.of(gameContext);
         } catch (GameInputException ex) {
             event.reply(ex.getMessage()).setEphemeral(true).queue();
             return Optional.empty();
@@ -94,10 +176,10 @@ public class DiscordBotService {
         if (gameId != null) {
             return gameId;
         }
-        List<Game> activeGames = GameService.getInstance().getActiveGames(event.getUser().getIdLong());
-        if (activeGames.isEmpty()) {
+        List<String> gameIds = GameService.getInstance().getActiveGameIds(event.getUser().getIdLong());
+        if (gameIds.isEmpty()) {
             throw new GameInputException("You have no active games. Please provide a game ID or create a game first.");
         }
-        return activeGames.get(0).getGameId();
+        return gameIds.get(0);
     }
 }
@@ -0,0 +1,96 @@
+package game.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the game interaction dispatcher, shared by every {@link GameMailbox}.<br/>
+ * Queue wait is the time between an interaction being accepted and its handler starting, handler time is the time the
+ * handler itself takes
+ */
+public class DispatchMetrics {
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    private final LongAdder totalHandlerNanos = new LongAdder();
+    private final AtomicLong maxHandlerNanos = new AtomicLong();
+
+    /**
+     * Reserve a slot in the queues
+     * @return false if the dispatcher already holds {@code capacity} pending tasks
+     */
+    boolean tryEnqueue(int capacity) {
+        int depth = queueDepth.incrementAndGet();
+        if (depth > capacity) {
+            queueDepth.decrementAndGet();
+            return false;
+        }
+        maxQueueDepth.accumulateAndGet(depth, Math::max);
+        return true;
+    }
+
+    void dequeued(long queueWaitNanos) {
+        queueDepth.decrementAndGet();
+        totalQueueWaitNanos.add(queueWaitNanos);
+    }
+
+    void accepted() {
+        accepted.increment();
+    }
+
+    void rejected() {
+        rejected.increment();
+    }
+
+    void completed(long handlerNanos) {
+        completed.increment();
+        totalHandlerNanos.add(handlerNanos);
+        maxHandlerNanos.accumulateAndGet(handlerNanos, Math::max);
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    public double getAverageQueueWaitMillis() {
+        long count = completed.sum();
+        return count == 0 ? 0 : totalQueueWaitNanos.sum() / 1e6 / count;
+    }
+
+    public double getAverageHandlerMillis() {
+        long count = completed.sum();
+        return count == 0 ? 0 : totalHandlerNanos.sum() / 1e6 / count;
+    }
+
+    public double getMaxHandlerMillis() {
+        return maxHandlerNanos.get() / 1e6;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("queue depth %d (max %d), %d accepted, %d rejected, %d completed, avg wait %.2fms, avg handler %.2fms, max handler %.2fms",
+                getQueueDepth(), getMaxQueueDepth(), getAccepted(), getRejected(), getCompleted(),
+                getAverageQueueWaitMillis(), getAverageHandlerMillis(), getMaxHandlerMillis());
+    }
+}
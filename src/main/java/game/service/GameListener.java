@@ -0,0 +1,27 @@
+package game.service;
+
+import game.Game;
+import game.Player;
+import game.components.enums.HabitatEnum;
+import game.components.subcomponents.BirdCard;
+import game.service.history.FinishedGame;
+
+/**
+ * What happens in the games of a {@link GameService}, for whoever shows them to the players. Called on the game's
+ * thread.<br/>
+ * The Discord bot posts them in the game channels, a service without a listener runs its games headless
+ */
+public interface GameListener {
+
+    GameListener NONE = new GameListener() {};
+
+    default void turnStarted(Game game, Player player) {}
+
+    default void birdPlayed(Game game, Player player, BirdCard bird, HabitatEnum habitat) {}
+
+    default void eggsLaid(Game game, Player player, int eggs) {}
+
+    default void cardsDrawn(Game game, Player player, int cards) {}
+
+    default void gameFinished(Game game, FinishedGame finishedGame) {}
+}
@@ -0,0 +1,110 @@
+package game.service;
+
+import util.LogLevel;
+import util.Logger;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the tasks of one game one after the other, in submission order, on a shared worker pool.<br/>
+ * Tasks of different games run in parallel, so the state of a game is only ever touched by one thread at a time
+ * without any global lock. The queue is bounded, tasks offered to a full mailbox are rejected
+ */
+public class GameMailbox implements Executor {
+
+    // Logger
+    private static final Logger logger = new Logger(GameMailbox.class, LogLevel.ALL);
+    // Tasks run before handing the worker back to the pool, so a busy game can't starve the others
+    private static final int BATCH_SIZE = 16;
+
+    private final String gameId;
+    private final Executor workers;
+    private final int capacity;
+    private final int dispatcherCapacity;
+    private final DispatchMetrics metrics;
+    private final Queue<QueuedTask> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private record QueuedTask(Runnable task, long enqueuedAt) {}
+
+    public GameMailbox(String gameId, Executor workers) {
+        this(gameId, workers, Integer.MAX_VALUE, Integer.MAX_VALUE, new DispatchMetrics());
+    }
+
+    /**
+     * @param capacity           maximum pending tasks of this game
+     * @param dispatcherCapacity maximum pending tasks of every game sharing the metrics
+     */
+    public GameMailbox(String gameId, Executor workers, int capacity, int dispatcherCapacity, DispatchMetrics metrics) {
+        this.gameId = gameId;
+        this.workers = workers;
+        this.capacity = capacity;
+        this.dispatcherCapacity = dispatcherCapacity;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Queue a task
+     * @return false if the task was rejected because the game or the dispatcher is overloaded
+     */
+    public boolean offer(Runnable task) {
+        if (depth.incrementAndGet() > capacity) {
+            depth.decrementAndGet();
+            metrics.rejected();
+            return false;
+        }
+        if (!metrics.tryEnqueue(dispatcherCapacity)) {
+            depth.decrementAndGet();
+            metrics.rejected();
+            return false;
+        }
+        metrics.accepted();
+        tasks.add(new QueuedTask(task, System.nanoTime()));
+        schedule();
+        return true;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!offer(task)) {
+            throw new RejectedExecutionException("Mailbox of game " + gameId + " is full");
+        }
+    }
+
+    public int getQueueDepth() {
+        return depth.get();
+    }
+
+    private void schedule() {
+        if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+            workers.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            QueuedTask queued;
+            for (int i = 0; i < BATCH_SIZE && (queued = tasks.poll()) != null; i++) {
+                depth.decrementAndGet();
+                long start = System.nanoTime();
+                metrics.dequeued(start - queued.enqueuedAt());
+                try {
+                    queued.task().run();
+                } catch (RuntimeException e) {
+                    logger.error(String.format("Task failed in game %s : %s", gameId, e));
+                } finally {
+                    metrics.completed(System.nanoTime() - start);
+                }
+            }
+        } finally {
+            scheduled.set(false);
+            schedule();
+        }
+    }
+}
@@ -4,24 +4,39 @@ import game.Game;
 import game.Player;
 import game.components.enums.FoodType;
 import game.components.enums.HabitatEnum;
+import game.components.meta.BoardAction;
 import game.components.meta.GameAction;
+import game.components.meta.Habitat;
 import game.components.subcomponents.BirdCard;
 import game.exception.GameInputException;
 import game.service.enumeration.PlayerState;
-import game.service.enumeration.PlayerStateMachine;
-import game.ui.discord.enumeration.DiscordObject;
+import game.service.history.FinishedGame;
+import game.service.history.HistoryEntry;
+import game.service.history.HistoryStore;
+import game.service.journal.GameEvent;
+import game.service.journal.GameEvent.GameCreated;
+import game.service.journal.GameJournal;
+import game.service.journal.GameSnapshot;
+import game.service.journal.JournalStore;
 import lombok.Getter;
-import net.dv8tion.jda.api.entities.User;
-import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
-import net.dv8tion.jda.api.interactions.components.buttons.Button;
+import lombok.Setter;
 import util.LogLevel;
 import util.Logger;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
+/**
+ * Runs the games on plain player and channel ids, what happens in them is told to the {@link GameListener}
+ */
 public class GameService {
 
     // Logger
@@ -29,7 +44,47 @@ public class GameService {
     private static final GameService INSTANCE = new GameService();
 
     @Getter
-    private Map<String, Game> activeGames = new HashMap<>();
+    private final Map<String, Game> activeGames = new ConcurrentHashMap<>();
+    private final Map<String, GameMailbox> mailboxes = new ConcurrentHashMap<>();
+    // Ids of the active games of each user, in creation order
+    private final Map<Long, Set<String>> gameIdsByPlayer = new ConcurrentHashMap<>();
+    private final AtomicInteger nextGameId = new AtomicInteger();
+
+    // Interaction dispatcher: every mailbox drains on its own virtual thread
+    private static final int MAILBOX_CAPACITY = 32;
+    private static final int DISPATCHER_CAPACITY = 2048;
+    private static final int METRICS_LOG_INTERVAL = 1000;
+    private final ExecutorService gameWorkers = Executors.newVirtualThreadPerTaskExecutor();
+    @Getter
+    private final DispatchMetrics dispatchMetrics = new DispatchMetrics();
+
+    // Discord interaction tokens are only valid for 15 minutes, a menu older than that can't be used anyway
+    @Getter
+    private final TurnSessionStore turnSessions = new TurnSessionStore(Duration.ofMinutes(15));
+
+    // Journal of every active game, null if games are not journaled
+    private JournalStore journalStore;
+    // Events between two snapshots of a game, bounds the events replayed to recover it
+    private static final int SNAPSHOT_INTERVAL = 200;
+    // Finished games, null if they are not kept
+    private HistoryStore historyStore;
+
+    @Setter
+    private GameListener listener = GameListener.NONE;
+    // Name of a player id, kept with the final boards of the history
+    @Setter
+    private LongFunction<String> playerNames = Long::toString;
+
+    // Idle games are snapshotted to their journal and dropped from memory, see enableEviction. An evicted game keeps
+    // its mailbox, its interactions are queued first and the game is brought back by the task looking it up
+    private final Set<String> evictedGames = ConcurrentHashMap.newKeySet();
+    // Evicted games being brought back, so a game looked up by several threads at once is only replayed once
+    private final Map<String, CompletableFuture<Game>> rehydrations = new ConcurrentHashMap<>();
+    // Last lookup of each game in memory, from the eviction clock
+    private final Map<String, Long> lastAccess = new ConcurrentHashMap<>();
+    private long idleNanos;
+    private LongSupplier clock = System::nanoTime;
+    private ScheduledExecutorService evictor;
 
     private GameService() {}
 
@@ -37,42 +92,420 @@ public class GameService {
         return INSTANCE;
     }
 
-    public Game createGame(TextChannel gameChannel, List<User> playerList) {
-        Game game = new Game(gameChannel, activeGames.values().size(), playerList.toArray(new User[0]));
-        activeGames.put(game.getGameId(), game);
+    /**
+     * Create and start a game. The game is only registered once it is fully set up, so no interaction can see it half built
+     */
+    public Game createGame(long channelId, List<Long> playerIds) {
+        return createGame(channelId, playerIds, true);
+    }
+
+    /**
+     * @param journaled false for a game set up outside of its events, like a test board: it is never journaled, so it
+     *                  is neither recovered nor evicted
+     */
+    public Game createGame(long channelId, List<Long> playerIds, boolean journaled) {
+        Game game = new Game(channelId, nextGameId.getAndIncrement(), playerIds);
+        if (journaled && journalStore != null) {
+            try {
+                GameJournal journal = journalStore.open(game.getGameId());
+                journal.record(game.getCreatedEvent());
+                game.setJournal(journal);
+                game.setSnapshotInterval(SNAPSHOT_INTERVAL);
+            } catch (IOException e) {
+                logger.error("Could not open the journal of " + game.getGameId() + ", the game won't survive a restart : " + e);
+            }
+        }
         game.startGame();
+        register(game);
+        return game;
+    }
+
+    private void register(Game game) {
+        mailboxes.computeIfAbsent(game.getGameId(), gameId -> new GameMailbox(gameId, gameWorkers, MAILBOX_CAPACITY, DISPATCHER_CAPACITY, dispatchMetrics));
+        activeGames.put(game.getGameId(), game);
+        lastAccess.put(game.getGameId(), clock.getAsLong());
+        game.getPlayers().forEach(p -> gameIdsByPlayer.compute(p.getPlayerId(), (id, gameIds) -> {
+            Set<String> ids = gameIds == null ? new CopyOnWriteArraySet<>() : gameIds;
+            ids.add(game.getGameId());
+            return ids;
+        }));
+    }
+
+    /**
+     * Unregister a game that is over
+     */
+    public void removeGame(String gameId) {
+        Game game = getGame(gameId);
+        if (game == null) {
+            return;
+        }
+        activeGames.remove(gameId);
+        evictedGames.remove(gameId);
+        lastAccess.remove(gameId);
+        mailboxes.remove(gameId);
+        turnSessions.endGame(gameId);
+        if (journalStore != null) {
+            try {
+                journalStore.delete(gameId);
+            } catch (IOException e) {
+                logger.warn("Could not delete the journal of " + gameId + " : " + e);
+            }
+        }
+        game.getPlayers().forEach(p -> gameIdsByPlayer.computeIfPresent(p.getPlayerId(), (id, gameIds) -> {
+            gameIds.remove(gameId);
+            return gameIds.isEmpty() ? null : gameIds;
+        }));
+    }
+
+    /**
+     * Journal every game created from now on in the directory
+     */
+    public void enableJournal(Path directory) throws IOException {
+        journalStore = new JournalStore(directory);
+    }
+
+    /**
+     * Write every event still queued for the journals
+     */
+    public void closeJournal() throws IOException {
+        if (journalStore != null) {
+            journalStore.close();
+            journalStore = null;
+        }
+    }
+
+    /**
+     * Keep every game finished from now on in the directory
+     */
+    public void enableHistory(Path directory) throws IOException {
+        historyStore = new HistoryStore(directory);
+        // The journals of finished games are deleted, only the history still knows their ids
+        historyStore.gameIds().forEach(this::reserveGameId);
+    }
+
+    public void closeHistory() throws IOException {
+        if (historyStore != null) {
+            historyStore.close();
+            historyStore = null;
+        }
+    }
+
+    /**
+     * Games of a player finished since the given time, newest first, read from the history index only
+     */
+    public List<HistoryEntry> getGameHistory(long playerId, Instant since, int limit) {
+        return historyStore == null ? List.of() : historyStore.byPlayer(playerId, since, limit);
+    }
+
+    /**
+     * Announce the final scores of a game that is over, keep it in the history and unregister it.<br/>
+     * A game that can't be written to the history stays registered with its journal, it is finished again on the next
+     * recovery
+     */
+    private void finishGame(Game game) {
+        FinishedGame finishedGame = FinishedGame.of(game, System.currentTimeMillis(), playerNames);
+        logger.info("Game " + game.getGameId() + " is over");
+        listener.gameFinished(game, finishedGame);
+        if (historyStore != null) {
+            try {
+                if (!historyStore.append(finishedGame)) {
+                    HistoryEntry kept = historyStore.getEntry(game.getGameId()).orElseThrow();
+                    if (kept.playerIds().equals(finishedGame.toEntry().playerIds()) && kept.scores().equals(finishedGame.toEntry().scores())) {
+                        logger.info("Game " + game.getGameId() + " was already in the history");
+                    } else {
+                        logger.error("Another game " + game.getGameId() + " is already in the history, the result of this one is not kept");
+                    }
+                }
+            } catch (IOException e) {
+                logger.error("Could not keep " + game.getGameId() + " in the history : " + e);
+                return;
+            }
+        }
+        removeGame(game.getGameId());
+    }
+
+    /**
+     * Rebuild the games left unfinished by the previous run from their latest snapshot and the events journaled after
+     * it, then register them again.<br/>
+     * Each game is replayed on its own virtual thread, a journal that can't be replayed is left untouched
+     * @return the recovered games still being played, the ones recovered finished are moved to the history
+     */
+    public List<Game> recoverGames() throws IOException, InterruptedException {
+        if (journalStore == null) {
+            return List.of();
+        }
+        long start = System.nanoTime();
+        List<String> gameIds = journalStore.list();
+        List<Callable<Game>> replays = new ArrayList<>();
+        for (String gameId : gameIds) {
+            // New games must not reuse the id of any journal, even one that can't be replayed
+            if (!reserveGameId(gameId)) {
+                logger.warn("Ignoring journal " + gameId);
+                continue;
+            }
+            replays.add(() -> replay(gameId));
+        }
+        List<Game> recovered = new ArrayList<>();
+        for (Future<Game> replay : gameWorkers.invokeAll(replays)) {
+            try {
+                Game game = replay.get();
+                register(game);
+                if (game.isFinished()) {
+                    // The last turn was journaled but the game never made it to the history
+                    finishGame(game);
+                    continue;
+                }
+                recovered.add(game);
+            } catch (ExecutionException e) {
+                logger.error("Could not recover a game : " + e.getCause());
+            }
+        }
+        logger.info(String.format("Recovered %d of %d games in %d ms", recovered.size(), replays.size(), (System.nanoTime() - start) / 1_000_000));
+        return recovered;
+    }
+
+    /**
+     * Keep new games from taking this id or any before it
+     * @return false if it is not a game id
+     */
+    private boolean reserveGameId(String gameId) {
+        if (!gameId.startsWith(Game.GAME_ID_PREFIX)) {
+            return false;
+        }
+        try {
+            int gameNumber = Integer.parseInt(gameId.substring(Game.GAME_ID_PREFIX.length()));
+            nextGameId.accumulateAndGet(gameNumber + 1, Math::max);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private Game replay(String gameId) throws IOException {
+        JournalStore.Recovery recovery = journalStore.recover(gameId);
+        List<GameEvent> events = recovery.events();
+        GameSnapshot snapshot = recovery.snapshot();
+        if (snapshot == null && (events.isEmpty() || !(events.get(0) instanceof GameCreated))) {
+            throw new IOException("The journal of " + gameId + " doesn't start with the creation of the game");
+        }
+        Game game = snapshot != null ? Game.fromSnapshot(snapshot) : Game.fromEvent((GameCreated) events.get(0));
+        if (!game.getGameId().equals(gameId)) {
+            throw new IOException("The journal of " + gameId + " belongs to " + game.getGameId());
+        }
+        events.subList(snapshot != null ? 0 : 1, events.size()).forEach(game::apply);
+        game.setJournal(journalStore.open(gameId));
+        game.setSnapshotInterval(SNAPSHOT_INTERVAL);
+        logger.debug("Replayed %d events of %s%s", events.size(), gameId, snapshot != null ? " after its snapshot" : "");
         return game;
     }
 
+    /**
+     * Run a task on the game's mailbox. Every task touching the state of a game must go through here: tasks of a game
+     * run one at a time in submission order, tasks of different games run in parallel on virtual threads
+     * @return false if there is no such game, or the task was rejected because the game or the dispatcher has too many
+     * pending tasks
+     */
+    public boolean execute(String gameId, Runnable task) {
+        GameMailbox mailbox = mailboxes.get(gameId);
+        if (mailbox == null) {
+            logger.warn("No mailbox for game " + gameId + ", dropping the task");
+            return false;
+        }
+        boolean accepted = mailbox.offer(task);
+        if (!accepted) {
+            logger.warn(String.format("Rejected task for game %s (%d pending) : %s", gameId, mailbox.getQueueDepth(), dispatchMetrics));
+        } else if (dispatchMetrics.getAccepted() % METRICS_LOG_INTERVAL == 0) {
+            logger.info("Dispatcher : " + dispatchMetrics);
+        }
+        return accepted;
+    }
+
     public void confirmStartingHandPick(String gameId, long userId) throws GameInputException {
-        Game game = activeGames.get(gameId);
+        Game game = getGame(gameId);
         game.confirmStartingHandPick(userId);
     }
 
+    /**
+     * A game in memory, an evicted game is brought back from its journal first.<br/>
+     * Games are evicted from their mailbox, so a game looked up by a task of its mailbox stays in memory until the task
+     * is done
+     * @return null if there is no such active game
+     */
     public Game getGame(String gameId) {
-        return activeGames.get(gameId);
+        Game game = activeGames.get(gameId);
+        if (game == null) {
+            // Looked up again if it isn't evicted, it may have just been brought back
+            game = evictedGames.contains(gameId) ? bringBack(gameId) : activeGames.get(gameId);
+        }
+        if (game != null) {
+            lastAccess.put(gameId, clock.getAsLong());
+        }
+        return game;
+    }
+
+    /**
+     * Bring an evicted game back, the threads looking it up at the same time wait for the first one to replay it
+     */
+    private Game bringBack(String gameId) {
+        CompletableFuture<Game> rehydration = new CompletableFuture<>();
+        CompletableFuture<Game> running = rehydrations.putIfAbsent(gameId, rehydration);
+        if (running != null) {
+            return running.join();
+        }
+        try {
+            // Another thread may have brought it back between the two lookups
+            Game game = activeGames.get(gameId);
+            if (game == null && evictedGames.contains(gameId)) {
+                game = rehydrate(gameId);
+            }
+            rehydration.complete(game);
+            return game;
+        } finally {
+            rehydration.complete(null);
+            rehydrations.remove(gameId, rehydration);
+        }
+    }
+
+    /**
+     * Drop games nobody looked up for longer than the idle time from memory, they are brought back by {@link #getGame}.
+     * Idle games are looked for every quarter of the idle time. Needs the journal
+     */
+    public void enableEviction(Duration idleTime) {
+        if (!enableEviction(idleTime, System::nanoTime)) {
+            return;
+        }
+        long period = Math.max(idleTime.toMillis() / 4, 1000);
+        evictor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "game-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleAtFixedRate(this::evictIdleGames, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Same as {@link #enableEviction(Duration)} without the sweeps, games are only evicted by calling
+     * {@link #evictIdleGames()}
+     * @param clock source of the current time in nanoseconds
+     * @return false if there is no journal to evict games to
+     */
+    public boolean enableEviction(Duration idleTime, LongSupplier clock) {
+        if (journalStore == null) {
+            logger.warn("Idle games can't be evicted without a journal");
+            return false;
+        }
+        this.idleNanos = idleTime.toNanos();
+        this.clock = clock;
+        activeGames.keySet().forEach(gameId -> lastAccess.put(gameId, clock.getAsLong()));
+        return true;
+    }
+
+    /**
+     * Queue the eviction of every idle game on its mailbox, after the tasks already queued
+     * @return the number of games queued for eviction
+     */
+    public int evictIdleGames() {
+        if (idleNanos == 0) {
+            return 0;
+        }
+        int queued = 0;
+        for (Map.Entry<String, Game> entry : activeGames.entrySet()) {
+            if (entry.getValue().isJournaled() && isIdle(entry.getKey()) && execute(entry.getKey(), () -> evict(entry.getKey(), entry.getValue()))) {
+                queued++;
+            }
+        }
+        return queued;
+    }
+
+    /**
+     * Stop looking for idle games, the games already evicted are still brought back when looked up
+     */
+    public void disableEviction() {
+        if (evictor != null) {
+            evictor.shutdownNow();
+            evictor = null;
+        }
+        idleNanos = 0;
+        clock = System::nanoTime;
+    }
+
+    /**
+     * @return true if the game is being played, in memory or evicted
+     */
+    public boolean isActive(String gameId) {
+        return mailboxes.containsKey(gameId) || evictedGames.contains(gameId);
+    }
+
+    public boolean isEvicted(String gameId) {
+        return evictedGames.contains(gameId);
+    }
+
+    private boolean isIdle(String gameId) {
+        Long accessed = lastAccess.get(gameId);
+        return accessed != null && clock.getAsLong() - accessed >= idleNanos;
+    }
+
+    /**
+     * Runs on the game's mailbox. The game is snapshotted so bringing it back only restores the snapshot, then its
+     * journal is closed and everything pointing to it is dropped, except its mailbox and its id in the players' active
+     * games. A game whose snapshot can't be written stays in memory
+     */
+    private void evict(String gameId, Game game) {
+        GameMailbox mailbox = mailboxes.get(gameId);
+        if (activeGames.get(gameId) != game || !isIdle(gameId) || mailbox == null || mailbox.getQueueDepth() > 0) {
+            return;
+        }
+        game.takeSnapshot();
+        try {
+            journalStore.flush();
+        } catch (IOException e) {
+            logger.error("Keeping " + gameId + " in memory, its snapshot was not written : " + e);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        journalStore.close(gameId);
+        // Marked evicted before it leaves the registry, so a lookup in between still finds it one way or the other
+        evictedGames.add(gameId);
+        activeGames.remove(gameId);
+        lastAccess.remove(gameId);
+        turnSessions.endGame(gameId);
+        logger.debug("Evicted idle game %s", gameId);
+    }
+
+    /**
+     * Called by a single thread per game, see {@link #bringBack}
+     */
+    private Game rehydrate(String gameId) {
+        long start = System.nanoTime();
+        try {
+            // The journal closed by the eviction may still be queued
+            journalStore.flush();
+            Game game = replay(gameId);
+            register(game);
+            evictedGames.remove(gameId);
+            logger.debug("Brought %s back in %d µs", gameId, (System.nanoTime() - start) / 1000);
+            return game;
+        } catch (IOException | RuntimeException e) {
+            logger.error("Could not bring " + gameId + " back : " + e);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
     }
 
     private void startFirstTurn(Game game) {
         // Send message to say every player is ready and the game is starting
         logger.info("Game " + game.getGameId() + " is starting");
-        game.getPlayers().forEach(player -> PlayerStateMachine.transition(player, PlayerState.WAITING_FOR_TURN));
-        Player firstPlayer = game.getPlayers().get(game.getCurrentPlayerIndex());
-        startTurnForPlayer(game, firstPlayer);
+        game.startFirstTurn();
+        startTurnForPlayer(game, game.getCurrentPlayer());
     }
 
     private void startTurnForPlayer(Game game, Player player) {
-        logger.info("Starting turn for player " + player.getUser().getName());
-        PlayerStateMachine.transition(player, PlayerState.PLAYING_TURN);
-        String gameId = game.getGameId();
-        Button takeTurnButton = Button.success(DiscordObject.PROMPT_TAKE_TURN_BUTTON.name() + ":" + gameId, "\uD83C\uDFAF Take Turn");
-        Button seeBoardButton = Button.secondary(DiscordObject.PROMPT_SEE_BOARD_BUTTON.name() + ":" + gameId, "\uD83D\uDCCB See Board");
-        Button seeFeederButton = Button.secondary(DiscordObject.PROMPT_SEE_FEEDER_BUTTON.name() + ":" + gameId, "\uD83C\uDFB2 See Feeder");
-        Button seeTrayButton = Button.secondary(DiscordObject.PROMPT_SEE_TRAY_BUTTON.name() + ":" + gameId, "\uD83D\uDC26 See Tray");
-        game.getGameChannel().sendMessage(
-                player.getUser().getAsMention() + " please take your turn (turn " + game.getTurnCounter() + ")")
-                .addActionRow(takeTurnButton, seeBoardButton, seeFeederButton, seeTrayButton)
-                .queue();
+        logger.info("Starting turn for player %d", player.getPlayerId());
+        listener.turnStarted(game, player);
     }
 
     public void checkAllPlayersReady(Game game) {
@@ -81,27 +514,34 @@ public class GameService {
         }
     }
 
+    /**
+     * Ids of the active games of a user, in creation order, evicted games included
+     */
+    public List<String> getActiveGameIds(long playerId) {
+        return List.copyOf(gameIdsByPlayer.getOrDefault(playerId, Set.of()));
+    }
+
+    /**
+     * Active games of a user still in memory, in creation order
+     */
     public List<Game> getActiveGames(long playerId) {
-        return activeGames
-                .values()
+        return gameIdsByPlayer.getOrDefault(playerId, Set.of())
                 .stream()
-                .filter(g -> g.getPlayers().stream().anyMatch(p -> p.getUser().getIdLong() == playerId))
+                .map(activeGames::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
     /**
-     * Check if we used enough food to play a bird
-     * @param foodCosts the food cost of the bird we want to play, it's a list to account for slashes
-     * @param spentFood the food we are spending
+     * Check if we used enough food to play a bird, over count vectors indexed by {@link FoodType#ordinal()}, without allocating
+     * @param foodCosts one count vector per alternative of the cost, see {@link BirdCard#getFoodCostVectors()}
+     * @param spentFood amount spent of each food type, left untouched
      * @return negative if we spent too little, positive if we spent too much, 0 if OK
      */
-    public int checkFoodCost(List<List<FoodType>> foodCosts, Map<FoodType, Integer> spentFood) {
-        if (foodCosts.size() == 1) {
-            return checkFoodCostNoSlash(foodCosts.get(0), new HashMap<>(spentFood));
-        }
+    public int checkFoodCost(int[][] foodCosts, int[] spentFood) {
         int res = 10000;
-        for (List<FoodType> foodCost : foodCosts) {
-            res = checkFoodCostNoSlash(foodCost, new HashMap<>(spentFood));
+        for (int[] foodCost : foodCosts) {
+            res = checkFoodCostNoSlash(foodCost, spentFood);
             if (res == 0) {
                 return 0;
             }
@@ -109,66 +549,156 @@ public class GameService {
         return res;
     }
 
-    public int checkFoodCostNoSlash(List<FoodType> foodCost, Map<FoodType, Integer> spentFood) {
+    public int checkFoodCostNoSlash(int[] foodCost, int[] spentFood) {
+        int wild = FoodType.WILD.ordinal();
         int leftoverFood = 0; // Food still unpaid from the food cost
         int unspentFood = 0; // Food we still have in hand after paying the cost
-        int wildFood = 0;
-        for (FoodType foodInCost : foodCost) {
-            if (foodInCost == FoodType.WILD) {
-                wildFood++;
-            } else if (spentFood.getOrDefault(foodInCost, 0) > 0) {
-                spentFood.put(foodInCost, spentFood.get(foodInCost) - 1);
-            } else {
-                leftoverFood++;
+        int wildFood = foodCost[wild];
+        for (int i = 0; i < spentFood.length; i++) {
+            int cost = i == wild ? 0 : foodCost[i];
+            int paid = Math.min(cost, Math.max(spentFood[i], 0));
+            leftoverFood += cost - paid;
+            unspentFood += spentFood[i] - paid;
+        }
+        // Wild food is paid with any unspent food, then any 2 unspent food pay for 1 missing
+        int paidWithAnyFood = Math.min(wildFood, Math.max(unspentFood, 0));
+        unspentFood -= paidWithAnyFood;
+        leftoverFood += wildFood - paidWithAnyFood;
+        int paidTwoForOne = Math.min(Math.max(unspentFood, 0) / 2, leftoverFood);
+        unspentFood -= 2 * paidTwoForOne;
+        leftoverFood -= paidTwoForOne;
+        return unspentFood - leftoverFood;
+    }
+
+    /**
+     * Whether some of the food in the pantry pays the cost exactly, see {@link #checkFoodCostNoSlash(int[], int[])}.<br/>
+     * Food matching the cost is used first, the rest of the pantry must cover 1 food per wild and 2 food per missing one.
+     * Like the checker, the last missing food only needs 1 more
+     * @param foodCosts one count vector per alternative of the cost
+     * @param pantry    amount of each food type available
+     */
+    public boolean canAffordFoodCost(int[][] foodCosts, int[] pantry) {
+        int wild = FoodType.WILD.ordinal();
+        for (int[] foodCost : foodCosts) {
+            int missingFood = 0;
+            int surplusFood = 0;
+            for (int i = 0; i < pantry.length; i++) {
+                int cost = i == wild ? 0 : foodCost[i];
+                int paid = Math.min(cost, pantry[i]);
+                missingFood += cost - paid;
+                surplusFood += pantry[i] - paid;
+            }
+            if (surplusFood >= foodCost[wild] + Math.max(2 * missingFood - 1, 0)) {
+                return true;
             }
         }
-        unspentFood += spentFood.values().stream().mapToInt(i -> i).sum();
-        while (wildFood > 0 && unspentFood > 0) {
-            unspentFood--;
-            wildFood--;
+        return false;
+    }
+
+    /**
+     * Habitats a bird can be played in right now: a slot is open and the board has enough eggs to pay for it
+     * @return bit {@code i} set if {@code HabitatEnum.values()[i]} is open
+     */
+    public int getOpenHabitatMask(Player player) {
+        int eggsOnBoard = 0;
+        for (HabitatEnum habitatEnum : HabitatEnum.values()) {
+            for (BirdCard bird : player.getBoard().getHabitat(habitatEnum).getBirds()) {
+                eggsOnBoard += bird.getNest().getNumberOfEggs();
+            }
         }
-        leftoverFood += wildFood;
-        while (unspentFood > 1 && leftoverFood > 0) {
-            unspentFood -= 2;
-            leftoverFood--;
+        int openHabitatMask = 0;
+        for (HabitatEnum habitatEnum : HabitatEnum.values()) {
+            Habitat habitat = player.getBoard().getHabitat(habitatEnum);
+            if (!habitat.isHabitatFull() && habitat.getNumberOfEggsToSpend() <= eggsOnBoard) {
+                openHabitatMask |= 1 << habitatEnum.ordinal();
+            }
         }
-        return unspentFood - leftoverFood;
+        return openHabitatMask;
     }
 
-    public void confirmPlayBird(Game currentGame, Player currentPlayer, BirdCard birdToPlay, HabitatEnum habitatEnum, List<BirdCard> birdsToRemoveEggsFrom, int eggsToRemove) {
-        // Process the food
-        currentPlayer.getHand().confirmSpentFood();
+    /**
+     * Every bird in the player's hand that can be played right now, with the habitats it can go in.<br/>
+     * A bird is playable if the pantry can pay one of its food cost alternatives and one of its habitats is open
+     */
+    public List<PlayableBird> getPlayableBirds(Player player) {
+        int openHabitatMask = getOpenHabitatMask(player);
+        if (openHabitatMask == 0) {
+            return List.of();
+        }
+        int[] pantry = FoodType.toCounts(player.getHand().getPantry());
+        List<PlayableBird> playableBirds = new ArrayList<>();
+        for (BirdCard bird : player.getHand().getBirdCards()) {
+            int habitatMask = bird.getDefinition().getHabitatMask() & openHabitatMask;
+            if (habitatMask != 0 && canAffordFoodCost(bird.getFoodCostVectors(), pantry)) {
+                playableBirds.add(new PlayableBird(bird, habitatMask));
+            }
+        }
+        return playableBirds;
+    }
 
-        // Remove the eggs
-        birdsToRemoveEggsFrom.forEach(b -> b.getNest().setNumberOfEggs(b.getNest().getNumberOfEggs() - eggsToRemove));
+    /**
+     * @param habitatMask bit {@code i} set if the bird can be played in {@code HabitatEnum.values()[i]}
+     */
+    public record PlayableBird(BirdCard bird, int habitatMask) {
+        public List<HabitatEnum> getHabitats() {
+            return Arrays.stream(HabitatEnum.values()).filter(h -> (habitatMask & (1 << h.ordinal())) != 0).toList();
+        }
+    }
 
-        // Remove the bird from hand and put it in the habitat
-        currentPlayer.getHand().getBirdCards().remove(birdToPlay);
-        currentPlayer.getBoard().getHabitat(habitatEnum).addBird(birdToPlay);
+    public void confirmPlayBird(Game currentGame, Player currentPlayer, BirdCard birdToPlay, HabitatEnum habitatEnum, List<BirdCard> birdsToRemoveEggsFrom, int eggsToRemove) {
+        // Pay the food and the eggs, then move the bird from the hand to the habitat
+        currentGame.playBird(currentPlayer, birdToPlay, habitatEnum, FoodType.toCounts(currentPlayer.getHand().getTempPantrySpentFood()),
+                birdsToRemoveEggsFrom, eggsToRemove);
 
-        // Send message
-        currentGame.getGameChannel().sendMessage(
-                currentPlayer.getUser().getAsMention() + " played " + birdToPlay.getName() + " in their " + habitatEnum.getJsonValue()
-        ).queue();
+        listener.birdPlayed(currentGame, currentPlayer, birdToPlay, habitatEnum);
 
         // End turn
         endTurn(currentGame, currentPlayer);
     }
 
     public void confirmLayEggs(Game currentGame, Player currentPlayer, int totalEggs) {
-        currentGame.getGameChannel().sendMessage(
-                currentPlayer.getUser().getAsMention() + " laid " + totalEggs + " egg" + (totalEggs != 1 ? "s" : "")
-        ).queue();
+        listener.eggsLaid(currentGame, currentPlayer, totalEggs);
 
         endTurn(currentGame, currentPlayer);
     }
 
+    /**
+     * Start the session of the action a player picked for their turn
+     */
+    public TurnSession startTurnSession(Game game, Player player, BoardAction action) {
+        return turnSessions.start(game.getGameId(), player.getPlayerId(), action);
+    }
+
+    /**
+     * Session of the action the player is taking
+     * @throws GameInputException if the player isn't taking that action, or took too long and the session expired
+     */
+    public TurnSession getTurnSession(Game game, Player player, BoardAction action) throws GameInputException {
+        return turnSessions.get(game.getGameId(), player.getPlayerId())
+                .filter(session -> session.getAction() == action)
+                .orElseThrow(() -> new GameInputException("This menu has expired, please take your turn again"));
+    }
+
+    /**
+     * Session a menu was rendered for, components carry the nonce of their session. To be called from the game's
+     * mailbox, where sessions are started and ended
+     * @throws GameInputException if that session ended or was replaced by a newer one
+     */
+    public TurnSession getTurnSession(Game game, Player player, int nonce) throws GameInputException {
+        return turnSessions.get(game.getGameId(), player.getPlayerId())
+                .filter(session -> session.getNonce() == nonce)
+                .orElseThrow(() -> new GameInputException("This menu has expired, please take your turn again"));
+    }
+
     public void endTurn(Game currentGame, Player currentPlayer) {
-        logger.info("Ending turn for player " + currentPlayer.getUser().getName());
-        PlayerStateMachine.transition(currentPlayer, PlayerState.WAITING_FOR_TURN);
-        currentGame.advanceTurn();
-        Player nextPlayer = currentGame.getPlayers().get(currentGame.getCurrentPlayerIndex());
-        startTurnForPlayer(currentGame, nextPlayer);
+        logger.info("Ending turn for player %d", currentPlayer.getPlayerId());
+        turnSessions.end(currentGame.getGameId(), currentPlayer.getPlayerId());
+        currentGame.endTurn(currentPlayer);
+        if (currentGame.isFinished()) {
+            finishGame(currentGame);
+            return;
+        }
+        startTurnForPlayer(currentGame, currentGame.getCurrentPlayer());
     }
 
     /**
@@ -181,9 +711,7 @@ public class GameService {
     }
 
     public void confirmDrawCards(Game currentGame, Player currentPlayer, int totalCards) {
-        currentGame.getGameChannel().sendMessage(
-                currentPlayer.getUser().getAsMention() + " drew " + totalCards + " card" + (totalCards != 1 ? "s" : "")
-        ).queue();
+        listener.cardsDrawn(currentGame, currentPlayer, totalCards);
 
         endTurn(currentGame, currentPlayer);
     }
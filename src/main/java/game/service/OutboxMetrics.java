@@ -0,0 +1,73 @@
+package game.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the {@link ChannelOutbox}.<br/>
+ * Queued messages are the ones handed to the outbox, sent messages the ones that reached Discord after batching, so
+ * the difference is the number of messages saved by merging them
+ */
+public class OutboxMetrics {
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    void queued() {
+        queued.increment();
+        maxQueueDepth.accumulateAndGet(queueDepth.incrementAndGet(), Math::max);
+    }
+
+    void dequeued(int count) {
+        queueDepth.addAndGet(-count);
+    }
+
+    void sent() {
+        sent.increment();
+    }
+
+    void rateLimited() {
+        rateLimited.increment();
+    }
+
+    void failed() {
+        failed.increment();
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    public long getQueued() {
+        return queued.sum();
+    }
+
+    public long getSent() {
+        return sent.sum();
+    }
+
+    /**
+     * Number of 429 answers, each one is retried after the delay Discord asked for
+     */
+    public long getRateLimited() {
+        return rateLimited.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("queue depth %d (max %d), %d queued, %d sent, %d rate limited, %d failed",
+                getQueueDepth(), getMaxQueueDepth(), getQueued(), getSent(), getRateLimited(), getFailed());
+    }
+}
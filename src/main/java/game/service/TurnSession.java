@@ -0,0 +1,68 @@
+package game.service;
+
+import game.components.enums.FoodType;
+import game.components.enums.HabitatEnum;
+import game.components.meta.BoardAction;
+import game.components.subcomponents.BirdCard;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.*;
+
+/**
+ * State of the action a player is taking during their turn, from the moment they pick it in the action menu until the
+ * turn ends.<br/>
+ * Interaction handlers read and update it instead of parsing it back from the content of the Discord message.
+ * Sessions are only touched from the game's mailbox, so they need no synchronisation, except their last access that
+ * new sessions of other games read to sweep the expired ones
+ */
+@Getter
+@Setter
+public class TurnSession {
+
+    private final String gameId;
+    private final long userId;
+    private final BoardAction action;
+    // Identifies the components rendered for this session, so a menu left over from an older one can be told apart
+    private final int nonce;
+
+    // Play bird
+    private BirdCard bird;
+    // Habitat the bird is played in, or habitat whose birds are shown when laying eggs
+    private HabitatEnum habitat;
+
+    // Gain food
+    private int maxFood;
+    // Die index -> food picked from it, the second food of a dual-food die can be picked instead of the first
+    private final Map<Integer, FoodType> selectedDice = new LinkedHashMap<>();
+    // Food gained before rerolling the feeder
+    private final List<FoodType> foodGained = new ArrayList<>();
+
+    // Lay eggs
+    private int maxEggs;
+
+    // Draw cards
+    private int maxDraw;
+    private final Set<Integer> selectedTrayIndexes = new TreeSet<>();
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile long lastAccessNanos;
+
+    TurnSession(String gameId, long userId, BoardAction action, int nonce, long now) {
+        this.gameId = gameId;
+        this.userId = userId;
+        this.action = action;
+        this.nonce = nonce;
+        this.lastAccessNanos = now;
+    }
+
+    boolean isExpired(long now, long ttlNanos) {
+        return now - lastAccessNanos > ttlNanos;
+    }
+
+    void touch(long now) {
+        this.lastAccessNanos = now;
+    }
+}
@@ -0,0 +1,92 @@
+package game.service;
+
+import game.components.meta.BoardAction;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory {@link TurnSession}s, keyed by game and user.<br/>
+ * A session that hasn't been read for longer than the time to live is dropped: expired sessions are evicted when they
+ * are looked up and swept every time a new one is started
+ */
+public class TurnSessionStore {
+
+    // Session nonces are between 1 and 2^NONCE_BITS - 1, 0 is left for components that don't belong to a session
+    public static final int NONCE_BITS = 19;
+
+    private final Map<Key, TurnSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger nextNonce = new AtomicInteger();
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    private record Key(String gameId, long userId) {}
+
+    public TurnSessionStore(Duration ttl) {
+        this(ttl, System::nanoTime);
+    }
+
+    /**
+     * @param clock source of the current time in nanoseconds
+     */
+    public TurnSessionStore(Duration ttl, LongSupplier clock) {
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Start a new session for the action a user picked, replacing the one they had in that game
+     */
+    public TurnSession start(String gameId, long userId, BoardAction action) {
+        long now = clock.getAsLong();
+        sessions.values().removeIf(session -> session.isExpired(now, ttlNanos));
+        TurnSession session = new TurnSession(gameId, userId, action, nextNonce(), now);
+        sessions.put(new Key(gameId, userId), session);
+        return session;
+    }
+
+    /**
+     * @return the live session of the user in that game, empty if there is none or it expired
+     */
+    public Optional<TurnSession> get(String gameId, long userId) {
+        Key key = new Key(gameId, userId);
+        TurnSession session = sessions.get(key);
+        if (session == null) {
+            return Optional.empty();
+        }
+        long now = clock.getAsLong();
+        if (session.isExpired(now, ttlNanos)) {
+            sessions.remove(key, session);
+            return Optional.empty();
+        }
+        session.touch(now);
+        return Optional.of(session);
+    }
+
+    private int nextNonce() {
+        int nonce;
+        do {
+            nonce = nextNonce.incrementAndGet() & ((1 << NONCE_BITS) - 1);
+        } while (nonce == 0);
+        return nonce;
+    }
+
+    public void end(String gameId, long userId) {
+        sessions.remove(new Key(gameId, userId));
+    }
+
+    /**
+     * Drop the sessions of every player of a game
+     */
+    public void endGame(String gameId) {
+        sessions.keySet().removeIf(key -> key.gameId().equals(gameId));
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+}
@@ -3,5 +3,6 @@ package game.service.enumeration;
 public enum GameState {
     CREATED,
     STARTING_HANDS_SENT,
-    GAME_STARTED
+    GAME_STARTED,
+    GAME_FINISHED
 }
@@ -8,6 +8,7 @@ public class GameStateMachine {
         return switch (from) {
             case CREATED -> to == GameState.STARTING_HANDS_SENT;
             case STARTING_HANDS_SENT -> to == GameState.GAME_STARTED;
+            case GAME_STARTED -> to == GameState.GAME_FINISHED;
             default -> false;
         };
     }
@@ -0,0 +1,57 @@
+package game.service.history;
+
+import game.Game;
+import game.Player;
+import game.components.enums.HabitatEnum;
+import game.service.journal.GameSnapshot.PlayedBird;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * What is kept of a game once it is over: the final boards and the summary of every turn
+ * @param finishedAt epoch milliseconds
+ * @param boards     one per player, in turn order
+ */
+public record FinishedGame(String gameId, long finishedAt, List<FinalBoard> boards, List<TurnSummary> turns) {
+
+    /**
+     * @param habitats birds played in each habitat with their eggs, indexed by {@link HabitatEnum#ordinal()}
+     */
+    public record FinalBoard(long playerId, String playerName, int birdPoints, int eggs, List<List<PlayedBird>> habitats) {
+
+        /**
+         * Bonus cards, end of round goals, cached food and tucked cards aren't played yet, they score nothing
+         */
+        public int score() {
+            return birdPoints + eggs;
+        }
+    }
+
+    /**
+     * @param playerNames name of a player id
+     */
+    public static FinishedGame of(Game game, long finishedAt, LongFunction<String> playerNames) {
+        List<FinalBoard> boards = game.getPlayers().stream().map(player -> finalBoard(player, playerNames.apply(player.getPlayerId()))).toList();
+        return new FinishedGame(game.getGameId(), finishedAt, boards, List.copyOf(game.getTurnSummaries()));
+    }
+
+    private static FinalBoard finalBoard(Player player, String playerName) {
+        List<List<PlayedBird>> habitats = Arrays.stream(HabitatEnum.values())
+                .map(habitat -> player.getBoard().getHabitat(habitat).getBirds().stream()
+                        .map(bird -> new PlayedBird(bird.getId(), bird.getNest().getNumberOfEggs()))
+                        .toList())
+                .toList();
+        return new FinalBoard(player.getPlayerId(), playerName, player.getBoard().getBirdPoints(),
+                player.getBoard().getEggs(), habitats);
+    }
+
+    /**
+     * What the history index keeps in memory
+     */
+    public HistoryEntry toEntry() {
+        return new HistoryEntry(gameId, finishedAt, boards.stream().map(FinalBoard::playerId).toList(),
+                boards.stream().map(FinalBoard::score).toList());
+    }
+}
@@ -0,0 +1,135 @@
+package game.service.history;
+
+import game.components.enums.HabitatEnum;
+import game.service.history.FinishedGame.FinalBoard;
+import game.service.journal.GameEventCodec;
+import game.service.journal.GameSnapshot.PlayedBird;
+import game.service.journal.GameSnapshotCodec;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary form of a {@link FinishedGame}, framed like the events of {@link GameEventCodec}.<br/>
+ * The payload starts with the fields of its {@link HistoryEntry}, so the index can be rebuilt without decoding the
+ * boards and turns behind them
+ */
+public class FinishedGameCodec {
+
+    private static final byte VERSION = 1;
+
+    private FinishedGameCodec() {}
+
+    public static byte[] encode(FinishedGame game) {
+        return GameEventCodec.frame(out -> {
+            out.writeByte(VERSION);
+            writeUtf(out, game.gameId());
+            out.writeLong(game.finishedAt());
+            out.writeShort(game.boards().size());
+            for (FinalBoard board : game.boards()) {
+                out.writeLong(board.playerId());
+                out.writeShort(board.score());
+            }
+            for (FinalBoard board : game.boards()) {
+                writeUtf(out, board.playerName());
+                out.writeShort(board.birdPoints());
+                out.writeShort(board.eggs());
+                for (HabitatEnum habitat : HabitatEnum.values()) {
+                    List<PlayedBird> birds = board.habitats().get(habitat.ordinal());
+                    out.writeShort(birds.size());
+                    for (PlayedBird bird : birds) {
+                        out.writeInt(bird.birdId());
+                        out.writeShort(bird.eggs());
+                    }
+                }
+            }
+            out.writeShort(game.turns().size());
+            for (TurnSummary turn : game.turns()) {
+                GameSnapshotCodec.writeTurn(out, turn);
+            }
+        });
+    }
+
+    /**
+     * Only the index fields of a payload
+     * @throws IllegalArgumentException if the payload can't be read
+     */
+    public static HistoryEntry decodeEntry(ByteBuffer payload) {
+        try {
+            return readEntry(payload);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated finished game", e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the payload can't be read
+     */
+    public static FinishedGame decode(ByteBuffer payload) {
+        try {
+            HistoryEntry entry = readEntry(payload);
+            List<FinalBoard> boards = new ArrayList<>(entry.playerIds().size());
+            for (long playerId : entry.playerIds()) {
+                String playerName = readUtf(payload);
+                int birdPoints = Short.toUnsignedInt(payload.getShort());
+                int eggs = Short.toUnsignedInt(payload.getShort());
+                List<List<PlayedBird>> habitats = new ArrayList<>();
+                for (int h = 0; h < HabitatEnum.values().length; h++) {
+                    int birdCount = Short.toUnsignedInt(payload.getShort());
+                    List<PlayedBird> birds = new ArrayList<>(birdCount);
+                    for (int b = 0; b < birdCount; b++) {
+                        birds.add(new PlayedBird(payload.getInt(), Short.toUnsignedInt(payload.getShort())));
+                    }
+                    habitats.add(birds);
+                }
+                boards.add(new FinalBoard(playerId, playerName, birdPoints, eggs, habitats));
+            }
+            int turnCount = Short.toUnsignedInt(payload.getShort());
+            List<TurnSummary> turns = new ArrayList<>(turnCount);
+            for (int i = 0; i < turnCount; i++) {
+                turns.add(GameSnapshotCodec.readTurn(payload));
+            }
+            return new FinishedGame(entry.gameId(), entry.finishedAt(), boards, turns);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated finished game", e);
+        }
+    }
+
+    private static HistoryEntry readEntry(ByteBuffer payload) {
+        byte version = payload.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unknown finished game version " + version);
+        }
+        String gameId = readUtf(payload);
+        long finishedAt = payload.getLong();
+        int playerCount = Short.toUnsignedInt(payload.getShort());
+        List<Long> playerIds = new ArrayList<>(playerCount);
+        List<Integer> scores = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            playerIds.add(payload.getLong());
+            scores.add(Short.toUnsignedInt(payload.getShort()));
+        }
+        return new HistoryEntry(gameId, finishedAt, playerIds, scores);
+    }
+
+    /**
+     * Plain UTF-8 rather than {@link DataOutputStream#writeUTF}, player names may hold characters outside of the BMP
+     */
+    private static void writeUtf(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readUtf(ByteBuffer in) {
+        int length = Short.toUnsignedInt(in.getShort());
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,20 @@
+package game.service.history;
+
+import java.util.List;
+
+/**
+ * A finished game as listed in the history, small enough to keep every game's entry in memory
+ * @param finishedAt epoch milliseconds
+ * @param scores     final score of each player, in the order of the player ids
+ */
+public record HistoryEntry(String gameId, long finishedAt, List<Long> playerIds, List<Integer> scores) {
+
+    public int getScore(long playerId) {
+        int index = playerIds.indexOf(playerId);
+        return index < 0 ? 0 : scores.get(index);
+    }
+
+    public int getBestScore() {
+        return scores.stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+}
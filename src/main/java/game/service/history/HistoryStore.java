@@ -0,0 +1,232 @@
+package game.service.history;
+
+import game.service.journal.GameEventCodec;
+import util.LogLevel;
+import util.Logger;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Finished games, appended to segment files in a directory, {@code <segment>.history}. A segment is never rewritten,
+ * a new one is started once the current one is full.<br/>
+ * Every game's {@link HistoryEntry} is kept in memory, indexed by game id, by player and by finish date, so listing
+ * a player's history never reads the files. The full game is only read back when asked for by id
+ */
+public class HistoryStore implements AutoCloseable {
+
+    private static final Logger logger = new Logger(HistoryStore.class, LogLevel.ALL);
+    private static final String EXTENSION = ".history";
+    private static final long MAX_SEGMENT_SIZE = 16 * 1024 * 1024;
+    private static final Comparator<HistoryEntry> BY_DATE = Comparator.comparingLong(HistoryEntry::finishedAt);
+
+    /**
+     * Where the frame of a game is
+     */
+    private record Location(int segment, long offset, int length) {}
+
+    private final Path directory;
+    // Everything below is guarded by this
+    private final Map<String, HistoryEntry> entriesByGameId = new HashMap<>();
+    private final Map<String, Location> locations = new HashMap<>();
+    // Sorted by finish date
+    private final Map<Long, List<HistoryEntry>> entriesByPlayer = new HashMap<>();
+    private final NavigableMap<Long, List<HistoryEntry>> entriesByDate = new TreeMap<>();
+    private int segment;
+    private FileChannel channel;
+
+    /**
+     * Index every game already in the directory, a game torn by a crash at the end of the last segment is cut off
+     * @throws IOException if a game passes its CRC but can't be decoded, the segment is left untouched
+     */
+    public HistoryStore(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        List<Integer> segments = segments();
+        for (int s : segments) {
+            long validLength = load(s);
+            if (s == segments.get(segments.size() - 1)) {
+                segment = s;
+                channel = FileChannel.open(segmentPath(s), StandardOpenOption.WRITE);
+                if (channel.size() > validLength) {
+                    logger.warn(String.format("Cutting %d bytes of a torn game off history segment %d", channel.size() - validLength, s));
+                    channel.truncate(validLength);
+                }
+                channel.position(validLength);
+            }
+        }
+        if (channel == null) {
+            segment = 1;
+            channel = FileChannel.open(segmentPath(segment), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        }
+        logger.info(String.format("Indexed %d finished games", entriesByGameId.size()));
+    }
+
+    /**
+     * Write a finished game and sync it, a game already in the history is ignored
+     * @return false if the game was already in the history
+     */
+    public synchronized boolean append(FinishedGame game) throws IOException {
+        if (entriesByGameId.containsKey(game.gameId())) {
+            return false;
+        }
+        byte[] frame = FinishedGameCodec.encode(game);
+        if (channel.position() > 0 && channel.position() + frame.length > MAX_SEGMENT_SIZE) {
+            channel.close();
+            segment++;
+            channel = FileChannel.open(segmentPath(segment), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        }
+        long offset = channel.position();
+        ByteBuffer data = ByteBuffer.wrap(frame);
+        try {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            channel.force(false);
+        } catch (IOException | RuntimeException e) {
+            // Torn bytes left here would cut off every game appended after them on the next start
+            try {
+                channel.truncate(offset);
+                channel.position(offset);
+            } catch (IOException truncateFailure) {
+                e.addSuppressed(truncateFailure);
+            }
+            throw e;
+        }
+        index(game.toEntry(), new Location(segment, offset, frame.length));
+        return true;
+    }
+
+    public synchronized boolean contains(String gameId) {
+        return entriesByGameId.containsKey(gameId);
+    }
+
+    public synchronized Optional<HistoryEntry> getEntry(String gameId) {
+        return Optional.ofNullable(entriesByGameId.get(gameId));
+    }
+
+    public synchronized Set<String> gameIds() {
+        return Set.copyOf(entriesByGameId.keySet());
+    }
+
+    public synchronized int size() {
+        return entriesByGameId.size();
+    }
+
+    /**
+     * Read a finished game back from its segment
+     */
+    public Optional<FinishedGame> get(String gameId) throws IOException {
+        Location location;
+        synchronized (this) {
+            location = locations.get(gameId);
+        }
+        if (location == null) {
+            return Optional.empty();
+        }
+        ByteBuffer frame = ByteBuffer.allocate(location.length());
+        try (FileChannel reader = FileChannel.open(segmentPath(location.segment()), StandardOpenOption.READ)) {
+            while (frame.hasRemaining()) {
+                if (reader.read(frame, location.offset() + frame.position()) < 0) {
+                    throw new IOException("History segment " + location.segment() + " ends before " + gameId);
+                }
+            }
+        }
+        ByteBuffer payload = GameEventCodec.unframe(frame.flip());
+        if (payload == null) {
+            throw new IOException("Corrupted finished game " + gameId);
+        }
+        return Optional.of(FinishedGameCodec.decode(payload));
+    }
+
+    /**
+     * Games of a player finished since the given time, newest first
+     */
+    public synchronized List<HistoryEntry> byPlayer(long playerId, Instant since, int limit) {
+        List<HistoryEntry> entries = entriesByPlayer.getOrDefault(playerId, List.of());
+        List<HistoryEntry> result = new ArrayList<>(Math.min(limit, entries.size()));
+        for (int i = entries.size() - 1; i >= 0 && result.size() < limit; i--) {
+            if (entries.get(i).finishedAt() < since.toEpochMilli()) {
+                break;
+            }
+            result.add(entries.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Games finished between the two times, from included, to excluded, oldest first
+     */
+    public synchronized List<HistoryEntry> between(Instant from, Instant to) {
+        return entriesByDate.subMap(from.toEpochMilli(), true, to.toEpochMilli(), false).values().stream()
+                .flatMap(Collection::stream)
+                .toList();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private void index(HistoryEntry entry, Location location) {
+        entriesByGameId.put(entry.gameId(), entry);
+        locations.put(entry.gameId(), location);
+        for (long playerId : entry.playerIds()) {
+            List<HistoryEntry> entries = entriesByPlayer.computeIfAbsent(playerId, id -> new ArrayList<>());
+            // Games are appended in the order they finish, searching only matters for clocks going backwards
+            int index = Collections.binarySearch(entries, entry, BY_DATE);
+            entries.add(index < 0 ? -index - 1 : index + 1, entry);
+        }
+        entriesByDate.computeIfAbsent(entry.finishedAt(), date -> new ArrayList<>()).add(entry);
+    }
+
+    /**
+     * Index the games of a segment
+     * @return the length of the segment holding complete games
+     */
+    private long load(int s) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segmentPath(s)));
+        long validLength = 0;
+        ByteBuffer payload;
+        while ((payload = GameEventCodec.unframe(buffer)) != null) {
+            try {
+                HistoryEntry entry = FinishedGameCodec.decodeEntry(payload);
+                if (!entriesByGameId.containsKey(entry.gameId())) {
+                    index(entry, new Location(s, validLength, (int) (buffer.position() + payload.capacity() - validLength)));
+                }
+            } catch (IllegalArgumentException | BufferUnderflowException | IndexOutOfBoundsException e) {
+                throw new IOException(String.format("The game at byte %d of history segment %d can't be decoded : %s", validLength, s, e.getMessage()), e);
+            }
+            buffer.position(buffer.position() + payload.capacity());
+            validLength = buffer.position();
+        }
+        return validLength;
+    }
+
+    private List<Integer> segments() throws IOException {
+        List<Integer> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    segments.add(Integer.parseInt(name.substring(0, name.length() - EXTENSION.length())));
+                } catch (NumberFormatException e) {
+                    logger.warn("Ignoring history file " + name);
+                }
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private Path segmentPath(int s) {
+        return directory.resolve(String.format("%08d%s", s, EXTENSION));
+    }
+}
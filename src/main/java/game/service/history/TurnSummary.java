@@ -0,0 +1,40 @@
+package game.service.history;
+
+import game.components.enums.FoodType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * What a player did during one of their turns
+ * @param turn        turn counter of the game during the turn
+ * @param birdsPlayed catalog ids of the birds played
+ * @param foodGained  food taken from the feeder
+ */
+public record TurnSummary(long playerId, int turn, List<Integer> birdsPlayed, List<FoodType> foodGained, int eggsLaid,
+                          int cardsDrawn) {
+
+    public static TurnSummary start(long playerId, int turn) {
+        return new TurnSummary(playerId, turn, List.of(), List.of(), 0, 0);
+    }
+
+    public TurnSummary withBirdPlayed(int birdId) {
+        List<Integer> birds = new ArrayList<>(birdsPlayed);
+        birds.add(birdId);
+        return new TurnSummary(playerId, turn, List.copyOf(birds), foodGained, eggsLaid, cardsDrawn);
+    }
+
+    public TurnSummary withFoodGained(List<FoodType> foods) {
+        List<FoodType> food = new ArrayList<>(foodGained);
+        food.addAll(foods);
+        return new TurnSummary(playerId, turn, birdsPlayed, List.copyOf(food), eggsLaid, cardsDrawn);
+    }
+
+    public TurnSummary withEggsLaid(int eggs) {
+        return new TurnSummary(playerId, turn, birdsPlayed, foodGained, eggsLaid + eggs, cardsDrawn);
+    }
+
+    public TurnSummary withCardsDrawn(int cards) {
+        return new TurnSummary(playerId, turn, birdsPlayed, foodGained, eggsLaid, cardsDrawn + cards);
+    }
+}
@@ -0,0 +1,69 @@
+package game.service.journal;
+
+import game.components.enums.Expansion;
+import game.components.enums.FoodType;
+import game.components.enums.HabitatEnum;
+
+import java.util.List;
+
+/**
+ * Something that changed the state of a game. Every change of a {@link game.Game} goes through one of these events,
+ * so replaying a game's events in order on a game created from its {@link GameCreated} rebuilds the same state.<br/>
+ * Cards are referenced by catalog id, players by their Discord user id
+ */
+public sealed interface GameEvent {
+
+    /**
+     * Parameters the game was created with, always the first event of a journal
+     */
+    record GameCreated(long seed, int gameNumber, long channelId, List<Long> playerIds, int startingBirdHandSize,
+                       int startingBonusHandSize, List<Expansion> expansions) implements GameEvent {}
+
+    record StartingHandsDealt() implements GameEvent {}
+
+    /**
+     * @param food amount of each food type kept, indexed by {@link FoodType#ordinal()}
+     */
+    record StartingHandPicked(long playerId, List<Integer> birdIds, List<Integer> bonusIds, List<Integer> food) implements GameEvent {}
+
+    record FirstTurnStarted() implements GameEvent {}
+
+    /**
+     * @param spentFood     amount of each food type paid, indexed by {@link FoodType#ordinal()}
+     * @param eggBirdIds    birds the eggs paying for the habitat slot were taken from
+     * @param eggsPerBird   eggs taken from each of those birds
+     */
+    record BirdPlayed(long playerId, int birdId, HabitatEnum habitat, List<Integer> spentFood, List<Integer> eggBirdIds,
+                      int eggsPerBird) implements GameEvent {}
+
+    /**
+     * @param eggs eggs laid on each bird
+     */
+    record EggsLaid(long playerId, List<Integer> birdIds, List<Integer> eggs) implements GameEvent {}
+
+    /**
+     * A bird drawn from the deck while drawing cards, kept aside until the draw is confirmed
+     */
+    record BirdDrawnFromDeck(long playerId) implements GameEvent {}
+
+    /**
+     * Confirmed draw: the birds drawn from the deck and the birds taken from the tray go in the player's hand
+     */
+    record CardsDrawn(long playerId, List<Integer> trayIndexes) implements GameEvent {}
+
+    /**
+     * @param dieIndexes indexes in the feeder of the dice taken
+     * @param foods      food gained from each of those dice
+     */
+    record FoodTaken(long playerId, List<Integer> dieIndexes, List<FoodType> foods) implements GameEvent {}
+
+    record FeederRerolled(long playerId) implements GameEvent {}
+
+    record TurnEnded(long playerId) implements GameEvent {}
+
+    /**
+     * Every random stream of the game starts over from this seed, recorded right before a {@link GameSnapshot} is
+     * taken since the state of a random stream can't be saved
+     */
+    record Reseeded(long seed) implements GameEvent {}
+}
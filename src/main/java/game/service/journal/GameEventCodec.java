@@ -0,0 +1,285 @@
+package game.service.journal;
+
+import game.components.enums.Expansion;
+import game.components.enums.FoodType;
+import game.components.enums.HabitatEnum;
+import game.service.journal.GameEvent.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Binary form of the {@link GameEvent}s in a journal.<br/>
+ * Each event is framed as its payload length (int), the CRC32 of the payload (int) and the payload: a type byte
+ * followed by the fields. Ids are ints, player ids longs, indexes, counts and enum ordinals single bytes and list
+ * sizes shorts. A frame cut short or failing its CRC marks the end of the readable journal, it is what a crash in the
+ * middle of a write leaves behind. A frame passing its CRC was written whole, if it can't be decoded the journal is
+ * refused rather than cut
+ */
+public class GameEventCodec {
+
+    public static final int FRAME_HEADER_SIZE = 8;
+
+    private static final byte GAME_CREATED = 1;
+    private static final byte STARTING_HANDS_DEALT = 2;
+    private static final byte STARTING_HAND_PICKED = 3;
+    private static final byte FIRST_TURN_STARTED = 4;
+    private static final byte BIRD_PLAYED = 5;
+    private static final byte EGGS_LAID = 6;
+    private static final byte BIRD_DRAWN_FROM_DECK = 7;
+    private static final byte CARDS_DRAWN = 8;
+    private static final byte FOOD_TAKEN = 9;
+    private static final byte FEEDER_REROLLED = 10;
+    private static final byte TURN_ENDED = 11;
+    private static final byte RESEEDED = 12;
+
+    /**
+     * Events read from a journal
+     * @param validLength number of bytes of the journal holding complete events, anything after it is a torn write
+     */
+    public record Decoded(List<GameEvent> events, long validLength) {}
+
+    private GameEventCodec() {}
+
+    /**
+     * @return the framed event
+     */
+    public static byte[] encode(GameEvent event) {
+        return frame(out -> writePayload(out, event));
+    }
+
+    /**
+     * Read every complete event of a journal, stopping at the first torn or corrupted frame
+     * @throws IllegalArgumentException if a frame passes its CRC but its event can't be decoded, like an event type
+     *                                  this version doesn't know
+     */
+    public static Decoded decode(ByteBuffer buffer) {
+        List<GameEvent> events = new ArrayList<>();
+        long validLength = buffer.position();
+        ByteBuffer payload;
+        while ((payload = unframe(buffer)) != null) {
+            try {
+                events.add(readPayload(payload));
+            } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("The event at byte " + validLength + " can't be decoded : " + e.getMessage(), e);
+            }
+            buffer.position(buffer.position() + payload.capacity());
+            validLength = buffer.position();
+        }
+        return new Decoded(events, validLength);
+    }
+
+    public interface PayloadWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * @return the length and CRC32 header followed by the payload
+     */
+    public static byte[] frame(PayloadWriter payload) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0);
+            out.writeInt(0);
+            payload.write(out);
+        } catch (IOException e) {
+            // Writing to memory
+            throw new UncheckedIOException(e);
+        }
+        ByteBuffer frame = ByteBuffer.wrap(bytes.toByteArray());
+        int payloadLength = frame.capacity() - FRAME_HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        crc.update(frame.array(), FRAME_HEADER_SIZE, payloadLength);
+        frame.putInt(0, payloadLength);
+        frame.putInt(4, (int) crc.getValue());
+        return frame.array();
+    }
+
+    /**
+     * Check the frame at the position of the buffer, the buffer is left after its header
+     * @return the payload of the frame, null if the frame is cut short or fails its CRC
+     */
+    public static ByteBuffer unframe(ByteBuffer buffer) {
+        if (buffer.remaining() < FRAME_HEADER_SIZE) {
+            return null;
+        }
+        int payloadLength = buffer.getInt();
+        int expectedCrc = buffer.getInt();
+        if (payloadLength <= 0 || payloadLength > buffer.remaining()) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), buffer.arrayOffset() + buffer.position(), payloadLength);
+        if ((int) crc.getValue() != expectedCrc) {
+            return null;
+        }
+        return buffer.slice(buffer.position(), payloadLength);
+    }
+
+    private static void writePayload(DataOutputStream out, GameEvent event) throws IOException {
+        switch (event) {
+            case GameCreated e -> {
+                out.writeByte(GAME_CREATED);
+                out.writeLong(e.seed());
+                out.writeInt(e.gameNumber());
+                out.writeLong(e.channelId());
+                out.writeShort(e.playerIds().size());
+                for (long playerId : e.playerIds()) {
+                    out.writeLong(playerId);
+                }
+                out.writeByte(e.startingBirdHandSize());
+                out.writeByte(e.startingBonusHandSize());
+                out.writeShort(e.expansions().size());
+                for (Expansion expansion : e.expansions()) {
+                    // By name, new expansions may be inserted anywhere in the enum
+                    out.writeUTF(expansion.name());
+                }
+            }
+            case StartingHandsDealt e -> out.writeByte(STARTING_HANDS_DEALT);
+            case StartingHandPicked e -> {
+                out.writeByte(STARTING_HAND_PICKED);
+                out.writeLong(e.playerId());
+                writeInts(out, e.birdIds());
+                writeInts(out, e.bonusIds());
+                writeBytes(out, e.food());
+            }
+            case FirstTurnStarted e -> out.writeByte(FIRST_TURN_STARTED);
+            case BirdPlayed e -> {
+                out.writeByte(BIRD_PLAYED);
+                out.writeLong(e.playerId());
+                out.writeInt(e.birdId());
+                out.writeByte(e.habitat().ordinal());
+                writeBytes(out, e.spentFood());
+                writeInts(out, e.eggBirdIds());
+                out.writeByte(e.eggsPerBird());
+            }
+            case EggsLaid e -> {
+                out.writeByte(EGGS_LAID);
+                out.writeLong(e.playerId());
+                writeInts(out, e.birdIds());
+                writeBytes(out, e.eggs());
+            }
+            case BirdDrawnFromDeck e -> {
+                out.writeByte(BIRD_DRAWN_FROM_DECK);
+                out.writeLong(e.playerId());
+            }
+            case CardsDrawn e -> {
+                out.writeByte(CARDS_DRAWN);
+                out.writeLong(e.playerId());
+                writeBytes(out, e.trayIndexes());
+            }
+            case FoodTaken e -> {
+                out.writeByte(FOOD_TAKEN);
+                out.writeLong(e.playerId());
+                writeBytes(out, e.dieIndexes());
+                writeBytes(out, e.foods().stream().map(FoodType::ordinal).toList());
+            }
+            case FeederRerolled e -> {
+                out.writeByte(FEEDER_REROLLED);
+                out.writeLong(e.playerId());
+            }
+            case TurnEnded e -> {
+                out.writeByte(TURN_ENDED);
+                out.writeLong(e.playerId());
+            }
+            case Reseeded e -> {
+                out.writeByte(RESEEDED);
+                out.writeLong(e.seed());
+            }
+        }
+    }
+
+    static GameEvent readPayload(ByteBuffer in) {
+        byte type = in.get();
+        return switch (type) {
+            case GAME_CREATED -> {
+                long seed = in.getLong();
+                int gameNumber = in.getInt();
+                long channelId = in.getLong();
+                int players = Short.toUnsignedInt(in.getShort());
+                List<Long> playerIds = new ArrayList<>(players);
+                for (int i = 0; i < players; i++) {
+                    playerIds.add(in.getLong());
+                }
+                int startingBirdHandSize = Byte.toUnsignedInt(in.get());
+                int startingBonusHandSize = Byte.toUnsignedInt(in.get());
+                int expansionCount = Short.toUnsignedInt(in.getShort());
+                List<Expansion> expansions = new ArrayList<>(expansionCount);
+                for (int i = 0; i < expansionCount; i++) {
+                    expansions.add(Expansion.valueOf(readUtf(in)));
+                }
+                yield new GameCreated(seed, gameNumber, channelId, playerIds, startingBirdHandSize, startingBonusHandSize, expansions);
+            }
+            case STARTING_HANDS_DEALT -> new StartingHandsDealt();
+            case STARTING_HAND_PICKED -> new StartingHandPicked(in.getLong(), readInts(in), readInts(in), readBytes(in));
+            case FIRST_TURN_STARTED -> new FirstTurnStarted();
+            case BIRD_PLAYED -> new BirdPlayed(in.getLong(), in.getInt(), HabitatEnum.values()[Byte.toUnsignedInt(in.get())],
+                    readBytes(in), readInts(in), Byte.toUnsignedInt(in.get()));
+            case EGGS_LAID -> new EggsLaid(in.getLong(), readInts(in), readBytes(in));
+            case BIRD_DRAWN_FROM_DECK -> new BirdDrawnFromDeck(in.getLong());
+            case CARDS_DRAWN -> new CardsDrawn(in.getLong(), readBytes(in));
+            case FOOD_TAKEN -> new FoodTaken(in.getLong(), readBytes(in),
+                    readBytes(in).stream().map(ordinal -> FoodType.values()[ordinal]).toList());
+            case FEEDER_REROLLED -> new FeederRerolled(in.getLong());
+            case TURN_ENDED -> new TurnEnded(in.getLong());
+            case RESEEDED -> new Reseeded(in.getLong());
+            default -> throw new IllegalArgumentException("Unknown event type " + type);
+        };
+    }
+
+    public static void writeInts(DataOutputStream out, List<Integer> values) throws IOException {
+        out.writeShort(values.size());
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    /**
+     * Values from 0 to 255
+     */
+    public static void writeBytes(DataOutputStream out, List<Integer> values) throws IOException {
+        out.writeShort(values.size());
+        for (int value : values) {
+            if (value < 0 || value > 0xFF) {
+                throw new IllegalArgumentException("Value out of range for a byte : " + value);
+            }
+            out.writeByte(value);
+        }
+    }
+
+    public static List<Integer> readInts(ByteBuffer in) {
+        int size = Short.toUnsignedInt(in.getShort());
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(in.getInt());
+        }
+        return values;
+    }
+
+    public static List<Integer> readBytes(ByteBuffer in) {
+        int size = Short.toUnsignedInt(in.getShort());
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(Byte.toUnsignedInt(in.get()));
+        }
+        return values;
+    }
+
+    /**
+     * Counterpart of {@link DataOutputStream#writeUTF}, only used for ASCII enum names
+     */
+    private static String readUtf(ByteBuffer in) {
+        int length = Short.toUnsignedInt(in.getShort());
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,18 @@
+package game.service.journal;
+
+/**
+ * Where a game records its events. A game starts without one, replaying events on a game records nothing
+ */
+@FunctionalInterface
+public interface GameJournal {
+
+    GameJournal NONE = event -> {};
+
+    void record(GameEvent event);
+
+    /**
+     * Save the state of the game after the events recorded so far, the events before it are no longer needed to
+     * rebuild the game. Called on the game's thread, the snapshot must be written elsewhere
+     */
+    default void snapshot(GameSnapshot snapshot) {}
+}
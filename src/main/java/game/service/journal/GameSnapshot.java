@@ -0,0 +1,37 @@
+package game.service.journal;
+
+import game.components.enums.FoodType;
+import game.components.enums.HabitatEnum;
+import game.components.subcomponents.DieFace;
+import game.service.enumeration.GameState;
+import game.service.enumeration.PlayerState;
+import game.service.history.TurnSummary;
+import game.service.journal.GameEvent.GameCreated;
+
+import java.util.List;
+
+/**
+ * State of a game between two events. Restoring it on a game created from {@link #created()} and replaying the events
+ * recorded after it rebuilds the same game as replaying the whole journal.<br/>
+ * Cards are referenced by catalog id, piles are listed from the top (next card drawn) down
+ * @param seed         seed every random stream of the game was reseeded from when the snapshot was taken
+ * @param currentTurn  summary of the turn being played, null outside of the turns
+ * @param trayBirdIds  birds in the tray, in tray order
+ * @param diceInFeeder faces of the dice in the feeder, in feeder order
+ */
+public record GameSnapshot(GameCreated created, long seed, GameState state, int currentPlayerIndex, int turnCounter,
+                           List<TurnSummary> turnSummaries, TurnSummary currentTurn, List<PlayerSnapshot> players,
+                           List<Integer> birdDrawPile, List<Integer> birdDiscardPile, List<Integer> trayBirdIds,
+                           List<Integer> bonusDrawPile, List<Integer> bonusDiscardPile, List<DieFace> diceInFeeder,
+                           List<DieFace> diceOutOfFeeder) {
+
+    /**
+     * @param food         amount of each food type in the pantry, indexed by {@link FoodType#ordinal()}
+     * @param drawnBirdIds birds drawn from the deck, waiting for the player to confirm their draw
+     * @param habitats     birds played in each habitat, indexed by {@link HabitatEnum#ordinal()}
+     */
+    public record PlayerSnapshot(long playerId, PlayerState state, List<Integer> birdIds, List<Integer> bonusIds,
+                                 List<Integer> food, List<Integer> drawnBirdIds, List<List<PlayedBird>> habitats) {}
+
+    public record PlayedBird(int birdId, int eggs) {}
+}
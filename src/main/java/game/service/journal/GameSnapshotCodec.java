@@ -0,0 +1,170 @@
+package game.service.journal;
+
+import game.components.enums.FoodType;
+import game.components.enums.HabitatEnum;
+import game.components.subcomponents.DieFace;
+import game.service.enumeration.GameState;
+import game.service.enumeration.PlayerState;
+import game.service.history.TurnSummary;
+import game.service.journal.GameEvent.GameCreated;
+import game.service.journal.GameSnapshot.PlayedBird;
+import game.service.journal.GameSnapshot.PlayerSnapshot;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Binary form of a {@link GameSnapshot}, framed like the events of {@link GameEventCodec}.<br/>
+ * The payload starts with a format version, then the {@link GameCreated} event of the game as its own frame, then the
+ * state. Piles and hands are lists of catalog ids, enums are ordinals, empty tray slots are written as -1
+ */
+public class GameSnapshotCodec {
+
+    private static final byte VERSION = 2;
+
+    private GameSnapshotCodec() {}
+
+    public static byte[] encode(GameSnapshot snapshot) {
+        return GameEventCodec.frame(out -> {
+            out.writeByte(VERSION);
+            out.write(GameEventCodec.encode(snapshot.created()));
+            out.writeLong(snapshot.seed());
+            out.writeByte(snapshot.state().ordinal());
+            out.writeShort(snapshot.currentPlayerIndex());
+            out.writeInt(snapshot.turnCounter());
+            out.writeShort(snapshot.turnSummaries().size());
+            for (TurnSummary turn : snapshot.turnSummaries()) {
+                writeTurn(out, turn);
+            }
+            out.writeBoolean(snapshot.currentTurn() != null);
+            if (snapshot.currentTurn() != null) {
+                writeTurn(out, snapshot.currentTurn());
+            }
+            out.writeShort(snapshot.players().size());
+            for (PlayerSnapshot player : snapshot.players()) {
+                out.writeLong(player.playerId());
+                out.writeByte(player.state().ordinal());
+                GameEventCodec.writeInts(out, player.birdIds());
+                GameEventCodec.writeInts(out, player.bonusIds());
+                writeShorts(out, player.food());
+                GameEventCodec.writeInts(out, player.drawnBirdIds());
+                for (HabitatEnum habitat : HabitatEnum.values()) {
+                    List<PlayedBird> birds = player.habitats().get(habitat.ordinal());
+                    out.writeShort(birds.size());
+                    for (PlayedBird bird : birds) {
+                        out.writeInt(bird.birdId());
+                        out.writeShort(bird.eggs());
+                    }
+                }
+            }
+            GameEventCodec.writeInts(out, snapshot.birdDrawPile());
+            GameEventCodec.writeInts(out, snapshot.birdDiscardPile());
+            GameEventCodec.writeInts(out, snapshot.trayBirdIds());
+            GameEventCodec.writeInts(out, snapshot.bonusDrawPile());
+            GameEventCodec.writeInts(out, snapshot.bonusDiscardPile());
+            GameEventCodec.writeBytes(out, snapshot.diceInFeeder().stream().map(DieFace::ordinal).toList());
+            GameEventCodec.writeBytes(out, snapshot.diceOutOfFeeder().stream().map(DieFace::ordinal).toList());
+        });
+    }
+
+    /**
+     * @return the snapshot, empty if the bytes are cut short, corrupted or from another format version
+     */
+    public static Optional<GameSnapshot> decode(ByteBuffer buffer) {
+        ByteBuffer in = GameEventCodec.unframe(buffer);
+        if (in == null) {
+            return Optional.empty();
+        }
+        try {
+            if (in.get() != VERSION) {
+                return Optional.empty();
+            }
+            ByteBuffer createdPayload = GameEventCodec.unframe(in);
+            if (createdPayload == null || !(GameEventCodec.readPayload(createdPayload) instanceof GameCreated created)) {
+                return Optional.empty();
+            }
+            in.position(in.position() + createdPayload.capacity());
+            long seed = in.getLong();
+            GameState state = GameState.values()[Byte.toUnsignedInt(in.get())];
+            int currentPlayerIndex = Short.toUnsignedInt(in.getShort());
+            int turnCounter = in.getInt();
+            int turnCount = Short.toUnsignedInt(in.getShort());
+            List<TurnSummary> turnSummaries = new ArrayList<>(turnCount);
+            for (int i = 0; i < turnCount; i++) {
+                turnSummaries.add(readTurn(in));
+            }
+            TurnSummary currentTurn = in.get() != 0 ? readTurn(in) : null;
+            int playerCount = Short.toUnsignedInt(in.getShort());
+            List<PlayerSnapshot> players = new ArrayList<>(playerCount);
+            for (int i = 0; i < playerCount; i++) {
+                long playerId = in.getLong();
+                PlayerState playerState = PlayerState.values()[Byte.toUnsignedInt(in.get())];
+                List<Integer> birdIds = GameEventCodec.readInts(in);
+                List<Integer> bonusIds = GameEventCodec.readInts(in);
+                List<Integer> food = readShorts(in);
+                List<Integer> drawnBirdIds = GameEventCodec.readInts(in);
+                List<List<PlayedBird>> habitats = new ArrayList<>();
+                for (int h = 0; h < HabitatEnum.values().length; h++) {
+                    int birdCount = Short.toUnsignedInt(in.getShort());
+                    List<PlayedBird> birds = new ArrayList<>(birdCount);
+                    for (int b = 0; b < birdCount; b++) {
+                        birds.add(new PlayedBird(in.getInt(), Short.toUnsignedInt(in.getShort())));
+                    }
+                    habitats.add(birds);
+                }
+                players.add(new PlayerSnapshot(playerId, playerState, birdIds, bonusIds, food, drawnBirdIds, habitats));
+            }
+            return Optional.of(new GameSnapshot(created, seed, state, currentPlayerIndex, turnCounter, turnSummaries, currentTurn, players,
+                    GameEventCodec.readInts(in), GameEventCodec.readInts(in), GameEventCodec.readInts(in),
+                    GameEventCodec.readInts(in), GameEventCodec.readInts(in), readFaces(in), readFaces(in)));
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Also used by the finished games store
+     */
+    public static void writeTurn(DataOutputStream out, TurnSummary turn) throws IOException {
+        out.writeLong(turn.playerId());
+        out.writeShort(turn.turn());
+        GameEventCodec.writeInts(out, turn.birdsPlayed());
+        GameEventCodec.writeBytes(out, turn.foodGained().stream().map(FoodType::ordinal).toList());
+        out.writeShort(turn.eggsLaid());
+        out.writeShort(turn.cardsDrawn());
+    }
+
+    public static TurnSummary readTurn(ByteBuffer in) {
+        return new TurnSummary(in.getLong(), Short.toUnsignedInt(in.getShort()), GameEventCodec.readInts(in),
+                GameEventCodec.readBytes(in).stream().map(ordinal -> FoodType.values()[ordinal]).toList(),
+                Short.toUnsignedInt(in.getShort()), Short.toUnsignedInt(in.getShort()));
+    }
+
+    /**
+     * Food counts, a byte is enough for an event but not for a pantry after a long game
+     */
+    private static void writeShorts(DataOutputStream out, List<Integer> values) throws IOException {
+        out.writeShort(values.size());
+        for (int value : values) {
+            out.writeShort(value);
+        }
+    }
+
+    private static List<Integer> readShorts(ByteBuffer in) {
+        int size = Short.toUnsignedInt(in.getShort());
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(Short.toUnsignedInt(in.getShort()));
+        }
+        return values;
+    }
+
+    private static List<DieFace> readFaces(ByteBuffer in) {
+        return GameEventCodec.readBytes(in).stream().map(ordinal -> DieFace.values()[ordinal]).toList();
+    }
+}
@@ -0,0 +1,428 @@
+package game.service.journal;
+
+import util.LogLevel;
+import util.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only journal files of the games in a directory.<br/>
+ * Games only encode their events and queue them, a single writer thread appends them to the files and fsyncs. Every
+ * event queued while the writer was busy goes out in the next batch, with one fsync per touched file for the whole
+ * batch, so the cost of an fsync is shared by every game active at the same time and never paid on a game's thread.<br/>
+ * A game's journal is split in segments, {@code <gameId>.<segment>.journal}. A snapshot of the game starts a new
+ * segment: the writer thread encodes it, writes it as {@code <gameId>.<segment>.snapshot}, then deletes the older
+ * segments and snapshots. Recovering a game reads its latest snapshot and the segments from it on.<br/>
+ * A write that fails is logged and counted, {@link #flush()} reports it to whoever waits on it
+ */
+public class JournalStore implements AutoCloseable {
+
+    private static final Logger logger = new Logger(JournalStore.class, LogLevel.ALL);
+    private static final String EXTENSION = ".journal";
+    private static final String SNAPSHOT_EXTENSION = ".snapshot";
+    private static final int MAX_BATCH = 1024;
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(30);
+
+    private enum OpType { APPEND, SNAPSHOT, CLOSE, DELETE }
+
+    private record Op(FileJournal journal, OpType type, ByteBuffer data, GameSnapshot snapshot) {}
+
+    /**
+     * What is left of a game's journal
+     * @param snapshot latest snapshot of the game, null if none was taken
+     * @param events   events recorded after the snapshot, or every event without one
+     */
+    public record Recovery(GameSnapshot snapshot, List<GameEvent> events) {}
+
+    private final Path directory;
+    private final Map<String, FileJournal> openJournals = new ConcurrentHashMap<>();
+    private final BlockingQueue<Op> queue = new LinkedBlockingQueue<>();
+    private final AtomicLong submitted = new AtomicLong();
+    // Guarded by this
+    private long committed;
+    private long failures;
+    private Exception lastFailure;
+    private final Thread writer;
+    private volatile boolean closed;
+    // Only written by the writer thread
+    private volatile long batches;
+    private volatile long syncs;
+    private volatile long snapshots;
+
+    public JournalStore(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.writer = new Thread(this::run, "journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Open the journal of a game, new events are appended to its last segment.<br/>
+     * A torn event left at the end of the segment by a crash is cut off first
+     * @throws IOException if the segment holds a whole event that can't be decoded, the segment is left untouched
+     */
+    public GameJournal open(String gameId) throws IOException {
+        GameFiles files = files(gameId);
+        int segment = Math.max(1, Math.max(lastKey(files.segments()), lastKey(files.snapshots())));
+        Path path = segmentPath(gameId, segment);
+        long validLength = Files.exists(path) ? decode(path).validLength() : 0;
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() > validLength) {
+            logger.warn(String.format("Cutting %d bytes of torn events off the journal of %s", channel.size() - validLength, gameId));
+            channel.truncate(validLength);
+        }
+        channel.position(validLength);
+        FileJournal journal = new FileJournal(gameId, segment, channel);
+        FileJournal previous = openJournals.put(gameId, journal);
+        if (previous != null) {
+            previous.enqueue(OpType.CLOSE, null, null);
+        }
+        return journal;
+    }
+
+    /**
+     * Ids of the games with a journal
+     */
+    public List<String> list() throws IOException {
+        SortedSet<String> gameIds = new TreeSet<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(EXTENSION) || name.endsWith(SNAPSHOT_EXTENSION)) {
+                    gameIds.add(name.substring(0, name.indexOf('.')));
+                }
+            }
+        }
+        return new ArrayList<>(gameIds);
+    }
+
+    /**
+     * The latest readable snapshot of a game and the complete events recorded after it, in the order they were
+     * recorded
+     */
+    public Recovery recover(String gameId) throws IOException {
+        GameFiles files = files(gameId);
+        GameSnapshot snapshot = null;
+        int firstSegment = 0;
+        for (Map.Entry<Integer, Path> file : files.snapshots().descendingMap().entrySet()) {
+            Optional<GameSnapshot> decoded = GameSnapshotCodec.decode(ByteBuffer.wrap(Files.readAllBytes(file.getValue())));
+            if (decoded.isPresent()) {
+                snapshot = decoded.get();
+                firstSegment = file.getKey();
+                break;
+            }
+            logger.warn("Skipping unreadable snapshot " + file.getValue().getFileName());
+        }
+        List<GameEvent> events = new ArrayList<>();
+        for (Path segment : files.segments().tailMap(firstSegment).values()) {
+            events.addAll(decode(segment).events());
+        }
+        return new Recovery(snapshot, events);
+    }
+
+    private static GameEventCodec.Decoded decode(Path segment) throws IOException {
+        try {
+            return GameEventCodec.decode(ByteBuffer.wrap(Files.readAllBytes(segment)));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unreadable journal segment " + segment.getFileName() + " : " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Events of a game recorded after its latest snapshot, every event if no snapshot was taken
+     */
+    public List<GameEvent> read(String gameId) throws IOException {
+        return recover(gameId).events();
+    }
+
+    /**
+     * Close the journal of a game once the events already recorded are written
+     */
+    public void close(String gameId) {
+        FileJournal journal = openJournals.remove(gameId);
+        if (journal != null) {
+            journal.enqueue(OpType.CLOSE, null, null);
+        }
+    }
+
+    /**
+     * Close the journal of a game and delete its files
+     */
+    public void delete(String gameId) throws IOException {
+        FileJournal journal = openJournals.remove(gameId);
+        if (journal != null) {
+            journal.enqueue(OpType.DELETE, null, null);
+        } else {
+            deleteBefore(gameId, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Wait until every event and snapshot recorded so far is written and synced
+     * @throws IOException if one of the writes failed, or they weren't all written within 30 seconds
+     */
+    public void flush() throws IOException, InterruptedException {
+        flush(FLUSH_TIMEOUT);
+    }
+
+    public void flush(Duration timeout) throws IOException, InterruptedException {
+        long target = submitted.get();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (this) {
+            long failuresBefore = failures;
+            while (committed < target) {
+                long left = deadline - System.nanoTime();
+                if (left <= 0 || !writer.isAlive()) {
+                    throw new IOException(String.format("%d journal writes still pending after %d ms", target - committed, timeout.toMillis()));
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, left);
+            }
+            if (failures > failuresBefore) {
+                throw new IOException(String.format("%d journal writes failed, the last one with : %s", failures - failuresBefore, lastFailure));
+            }
+        }
+    }
+
+    /**
+     * Number of batches written, each batch costs one fsync per journal it touched
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    public long getSyncs() {
+        return syncs;
+    }
+
+    public long getSnapshots() {
+        return snapshots;
+    }
+
+    /**
+     * Close every journal once what they recorded is written, then stop the writer
+     * @throws IOException if some of it could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        openJournals.keySet().forEach(this::close);
+        try {
+            flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while closing the journals, the last events may not be written");
+        } finally {
+            closed = true;
+            writer.interrupt();
+        }
+    }
+
+    private record GameFiles(NavigableMap<Integer, Path> segments, NavigableMap<Integer, Path> snapshots) {}
+
+    /**
+     * Segments and snapshots of a game by segment number
+     */
+    private GameFiles files(String gameId) throws IOException {
+        GameFiles files = new GameFiles(new TreeMap<>(), new TreeMap<>());
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, gameId + ".*")) {
+            for (Path path : paths) {
+                String[] parts = path.getFileName().toString().split("\\.");
+                if (parts.length != 3 || !parts[0].equals(gameId)) {
+                    continue;
+                }
+                int segment;
+                try {
+                    segment = Integer.parseInt(parts[1]);
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                switch ("." + parts[2]) {
+                    case EXTENSION -> files.segments().put(segment, path);
+                    case SNAPSHOT_EXTENSION -> files.snapshots().put(segment, path);
+                    default -> {}
+                }
+            }
+        }
+        return files;
+    }
+
+    private static int lastKey(NavigableMap<Integer, Path> files) {
+        return files.isEmpty() ? 0 : files.lastKey();
+    }
+
+    private Path segmentPath(String gameId, int segment) {
+        return directory.resolve(String.format("%s.%08d%s", gameId, segment, EXTENSION));
+    }
+
+    private Path snapshotPath(String gameId, int segment) {
+        return directory.resolve(String.format("%s.%08d%s", gameId, segment, SNAPSHOT_EXTENSION));
+    }
+
+    /**
+     * Delete the segments and snapshots of a game numbered below the segment
+     */
+    private void deleteBefore(String gameId, int segment) throws IOException {
+        GameFiles files = files(gameId);
+        for (Path path : files.segments().headMap(segment).values()) {
+            Files.deleteIfExists(path);
+        }
+        for (Path path : files.snapshots().headMap(segment).values()) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Start the next segment of the journal with the snapshot. The snapshot is written to a temporary file and
+     * synced before being renamed, the current segment stays open until then and the older files are only deleted
+     * once it is in place
+     */
+    private void writeSnapshot(FileJournal journal, GameSnapshot snapshot) throws IOException {
+        journal.channel.force(false);
+        int segment = journal.segment + 1;
+        Path path = snapshotPath(journal.gameId, segment);
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer data = ByteBuffer.wrap(GameSnapshotCodec.encode(snapshot));
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            channel.force(false);
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        journal.channel.close();
+        journal.segment = segment;
+        journal.channel = FileChannel.open(segmentPath(journal.gameId, segment), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        deleteBefore(journal.gameId, segment);
+        journal.broken = false;
+        snapshots++;
+    }
+
+    /**
+     * A frame written partway is cut off again, the events after it would be lost with it on the next open. The
+     * journal then misses an event, so it takes no more until the next snapshot makes it whole again
+     */
+    private static void append(FileJournal journal, ByteBuffer data) throws IOException {
+        if (journal.broken) {
+            throw new IOException("An earlier event could not be written, waiting for the next snapshot");
+        }
+        long position = journal.channel.position();
+        try {
+            while (data.hasRemaining()) {
+                journal.channel.write(data);
+            }
+        } catch (IOException | RuntimeException e) {
+            journal.broken = true;
+            try {
+                journal.channel.truncate(position);
+                journal.channel.position(position);
+            } catch (IOException truncateFailure) {
+                e.addSuppressed(truncateFailure);
+            }
+            throw e;
+        }
+    }
+
+    private void run() {
+        List<Op> batch = new ArrayList<>();
+        Set<FileJournal> touched = new LinkedHashSet<>();
+        while (!closed) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                continue;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+            int failed = 0;
+            Exception failure = null;
+            for (Op op : batch) {
+                try {
+                    switch (op.type()) {
+                        case APPEND -> {
+                            append(op.journal(), op.data());
+                            touched.add(op.journal());
+                        }
+                        case SNAPSHOT -> {
+                            touched.remove(op.journal());
+                            writeSnapshot(op.journal(), op.snapshot());
+                        }
+                        case CLOSE, DELETE -> {
+                            if (touched.remove(op.journal())) {
+                                op.journal().channel.force(false);
+                            }
+                            op.journal().channel.close();
+                            if (op.type() == OpType.DELETE) {
+                                deleteBefore(op.journal().gameId, Integer.MAX_VALUE);
+                            }
+                        }
+                    }
+                } catch (IOException | RuntimeException e) {
+                    // One op failing must not stop the writer, the games still waiting on it would wait forever
+                    logger.error(String.format("Journal write failed for %s : %s", op.journal().gameId, e));
+                    failed++;
+                    failure = e;
+                }
+            }
+            for (FileJournal journal : touched) {
+                try {
+                    journal.channel.force(false);
+                    syncs++;
+                } catch (IOException | RuntimeException e) {
+                    logger.error(String.format("Journal sync failed for %s : %s", journal.gameId, e));
+                    failed++;
+                    failure = e;
+                }
+            }
+            batches++;
+            synchronized (this) {
+                committed += batch.size();
+                if (failed > 0) {
+                    failures += failed;
+                    lastFailure = failure;
+                }
+                notifyAll();
+            }
+            batch.clear();
+            touched.clear();
+        }
+    }
+
+    private class FileJournal implements GameJournal {
+
+        private final String gameId;
+        // Only used by the writer thread once the journal is open
+        private int segment;
+        private FileChannel channel;
+        // An event could not be written, appends are refused until the next snapshot
+        private boolean broken;
+
+        private FileJournal(String gameId, int segment, FileChannel channel) {
+            this.gameId = gameId;
+            this.segment = segment;
+            this.channel = channel;
+        }
+
+        @Override
+        public void record(GameEvent event) {
+            enqueue(OpType.APPEND, ByteBuffer.wrap(GameEventCodec.encode(event)), null);
+        }
+
+        @Override
+        public void snapshot(GameSnapshot snapshot) {
+            enqueue(OpType.SNAPSHOT, null, snapshot);
+        }
+
+        private void enqueue(OpType type, ByteBuffer data, GameSnapshot snapshot) {
+            submitted.incrementAndGet();
+            queue.add(new Op(this, type, data, snapshot));
+        }
+    }
+}
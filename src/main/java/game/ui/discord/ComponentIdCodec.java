@@ -0,0 +1,154 @@
+package game.ui.discord;
+
+import game.Game;
+import game.service.TurnSession;
+import game.service.TurnSessionStore;
+import game.ui.discord.enumeration.DiscordObject;
+
+import java.util.Arrays;
+
+/**
+ * Packs everything a button or select menu needs to identify itself into a short custom id.<br/>
+ * The {@link DiscordObject} ordinal, the component index (die, bird, tray slot...), the game number and the nonce of the
+ * turn session the component was rendered for are packed in a long, written in base 62 after a {@link #PREFIX}.
+ * Decoding reads the characters straight into a long: no split, no regex, no enum name lookup.<br/>
+ * Ids of components sent before the codec existed ({@code DISCORD_OBJECT:game_id-N}) are still decoded, so the
+ * messages already posted keep working. {@link DiscordObject} constants are identified by their ordinal: new ones must
+ * be added at the end of the enum
+ */
+public class ComponentIdCodec {
+
+    public static final char PREFIX = '~';
+    public static final long INVALID = -1;
+
+    private static final int OBJECT_BITS = 8;
+    private static final int INDEX_BITS = 4;
+    private static final int GAME_BITS = 32;
+    private static final int NONCE_BITS = TurnSessionStore.NONCE_BITS;
+    private static final int INDEX_SHIFT = OBJECT_BITS;
+    private static final int GAME_SHIFT = INDEX_SHIFT + INDEX_BITS;
+    private static final int NONCE_SHIFT = GAME_SHIFT + GAME_BITS;
+
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final byte[] DIGIT_VALUES = new byte[128];
+    private static final DiscordObject[] OBJECTS = DiscordObject.values();
+    // Index of the component in its group of numbered components, for the ids that don't carry it
+    private static final int[] LEGACY_INDEXES = new int[OBJECTS.length];
+
+    static {
+        Arrays.fill(DIGIT_VALUES, (byte) -1);
+        for (int i = 0; i < BASE; i++) {
+            DIGIT_VALUES[DIGITS.charAt(i)] = (byte) i;
+        }
+        for (DiscordObject[] group : new DiscordObject[][] { DiscordObject.ADD_FOOD_IDS, DiscordObject.REMOVE_FOOD_IDS,
+                DiscordObject.GAIN_FOOD_DIE_IDS, DiscordObject.LAY_EGGS_HABITAT_IDS, DiscordObject.LAY_EGGS_ADD_IDS,
+                DiscordObject.LAY_EGGS_REMOVE_IDS, DiscordObject.DRAW_FROM_TRAY_IDS }) {
+            for (int i = 0; i < group.length; i++) {
+                LEGACY_INDEXES[group[i].ordinal()] = i;
+            }
+        }
+    }
+
+    private ComponentIdCodec() {}
+
+    public static String encode(DiscordObject object, Game game) {
+        return encode(object, game.getGameNumber(), 0, 0);
+    }
+
+    public static String encode(DiscordObject object, Game game, TurnSession session) {
+        return encode(object, game.getGameNumber(), 0, session.getNonce());
+    }
+
+    public static String encode(DiscordObject object, Game game, int index, TurnSession session) {
+        return encode(object, game.getGameNumber(), index, session.getNonce());
+    }
+
+    /**
+     * @param index position of the component in its group, between 0 and 15
+     * @param nonce nonce of the turn session the component belongs to, 0 if it isn't tied to one
+     */
+    public static String encode(DiscordObject object, int gameNumber, int index, int nonce) {
+        long packed = pack(object.ordinal(), index, gameNumber, nonce);
+        char[] chars = new char[12];
+        int position = chars.length;
+        do {
+            chars[--position] = DIGITS.charAt((int) (packed % BASE));
+            packed /= BASE;
+        } while (packed != 0);
+        chars[--position] = PREFIX;
+        return new String(chars, position, chars.length - position);
+    }
+
+    /**
+     * Decode a component id into its packed form, read it with {@link #object}, {@link #index}, {@link #gameNumber}
+     * and {@link #nonce}
+     * @return {@link #INVALID} if the id isn't one of ours
+     */
+    public static long decode(String componentId) {
+        if (componentId.isEmpty() || componentId.charAt(0) != PREFIX) {
+            return decodeLegacy(componentId);
+        }
+        int length = componentId.length();
+        if (length < 2 || length > 12) {
+            return INVALID;
+        }
+        long packed = 0;
+        for (int i = 1; i < length; i++) {
+            char c = componentId.charAt(i);
+            int digit = c < DIGIT_VALUES.length ? DIGIT_VALUES[c] : -1;
+            if (digit < 0 || packed > (Long.MAX_VALUE - digit) / BASE) {
+                return INVALID;
+            }
+            packed = packed * BASE + digit;
+        }
+        return (int) (packed & mask(OBJECT_BITS)) >= OBJECTS.length ? INVALID : packed;
+    }
+
+    /**
+     * Ids built as {@code DISCORD_OBJECT:game_id-N}, the index is deduced from the object and there is no nonce
+     */
+    private static long decodeLegacy(String componentId) {
+        int separator = componentId.indexOf(':');
+        if (separator < 0 || !componentId.startsWith(Game.GAME_ID_PREFIX, separator + 1)) {
+            return INVALID;
+        }
+        try {
+            DiscordObject object = DiscordObject.valueOf(componentId.substring(0, separator));
+            int gameNumber = Integer.parseInt(componentId, separator + 1 + Game.GAME_ID_PREFIX.length(), componentId.length(), 10);
+            return pack(object.ordinal(), LEGACY_INDEXES[object.ordinal()], gameNumber, 0);
+        } catch (IllegalArgumentException e) {
+            return INVALID;
+        }
+    }
+
+    public static DiscordObject object(long packed) {
+        return OBJECTS[(int) (packed & mask(OBJECT_BITS))];
+    }
+
+    public static int index(long packed) {
+        return (int) ((packed >>> INDEX_SHIFT) & mask(INDEX_BITS));
+    }
+
+    public static int gameNumber(long packed) {
+        return (int) ((packed >>> GAME_SHIFT) & mask(GAME_BITS));
+    }
+
+    public static int nonce(long packed) {
+        return (int) ((packed >>> NONCE_SHIFT) & mask(NONCE_BITS));
+    }
+
+    private static long pack(int ordinal, int index, int gameNumber, int nonce) {
+        if (index < 0 || index > mask(INDEX_BITS)) {
+            throw new IllegalArgumentException("Component index out of range : " + index);
+        }
+        return ordinal
+                | (long) index << INDEX_SHIFT
+                | (gameNumber & mask(GAME_BITS)) << GAME_SHIFT
+                | (nonce & mask(NONCE_BITS)) << NONCE_SHIFT;
+    }
+
+    private static long mask(int bits) {
+        return (1L << bits) - 1;
+    }
+}
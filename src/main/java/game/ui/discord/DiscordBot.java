@@ -1,11 +1,12 @@
 package game.ui.discord;
 
+import game.components.catalog.CardCatalog;
 import game.service.DiscordBotService;
+import game.service.GameService;
 import game.ui.discord.processors.ButtonInteractionProcessor;
 import game.ui.discord.processors.SlashCommandProcessor;
 import game.ui.discord.processors.StringSelectInteractionProcessor;
 import net.dv8tion.jda.api.JDA;
-import net.dv8tion.jda.api.JDABuilder;
 import net.dv8tion.jda.api.entities.Activity;
 import net.dv8tion.jda.api.events.guild.GuildReadyEvent;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
@@ -14,59 +15,111 @@ import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
-import net.dv8tion.jda.api.requests.GatewayIntent;
 import util.LogLevel;
 import util.Logger;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
 public class DiscordBot extends ListenerAdapter {
 
     public static final String BOT_TOKEN = Config.get("bot.token");
     public static final String CLIENT_ID = Config.get("bot.client_id");
     public static final String GUILD_ID = Config.get("bot.guild_id");
     public static final String DEFAULT_GAME_CHANNEL = Config.get("bot.default_game_channel_id");
+    public static final String JOURNAL_DIRECTORY = Config.get("game.journal_dir");
+    public static final String HISTORY_DIRECTORY = Config.get("game.history_dir");
+    public static final String IDLE_EVICTION_MINUTES = Config.get("game.idle_eviction_minutes");
+    public static final GatewayProfile GATEWAY_PROFILE = GatewayProfile.fromName(Config.get("bot.gateway_profile"));
+
+    private static final String STARTING = "The bot is still starting, try again in a moment";
 
     private final Logger logger = new Logger(DiscordBot.class, LogLevel.ALL);
 
-    public static void main(String[] args) {
-        JDA jda = JDABuilder.createDefault(BOT_TOKEN,
-                        GatewayIntent.GUILD_MESSAGES,
-                        GatewayIntent.MESSAGE_CONTENT)
-                .addEventListeners(new DiscordBot())
+    /**
+     * Interactions are turned away until the journaled games are recovered, a game created before would take the id
+     * of one still on disk
+     */
+    private volatile boolean ready;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        // Load the card catalog before accepting any command
+        CardCatalog.getInstance();
+
+        GameService gameService = GameService.getInstance();
+        gameService.setListener(new DiscordGameListener());
+        gameService.setPlayerNames(DiscordBotService.getInstance()::getPlayerName);
+        gameService.enableJournal(Path.of(JOURNAL_DIRECTORY == null ? "journal" : JOURNAL_DIRECTORY));
+        gameService.enableHistory(Path.of(HISTORY_DIRECTORY == null ? "history" : HISTORY_DIRECTORY));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                gameService.closeJournal();
+                gameService.closeHistory();
+            } catch (IOException ignored) {
+            }
+        }, "journal-shutdown"));
+
+        DiscordBot bot = new DiscordBot();
+        JDA jda = GATEWAY_PROFILE.builder(BOT_TOKEN)
+                .addEventListeners(bot)
                 .setActivity(Activity.playing("Playing Wingspan"))
                 .build();
         jda.updateCommands().queue();
 
         DiscordBotService.getInstance().setDiscordBot(jda);
+
+        // Games recovered finished are announced in their channel, so the guilds must be loaded first
+        jda.awaitReady();
+        gameService.recoverGames();
+        if (IDLE_EVICTION_MINUTES != null && Long.parseLong(IDLE_EVICTION_MINUTES) > 0) {
+            gameService.enableEviction(Duration.ofMinutes(Long.parseLong(IDLE_EVICTION_MINUTES)));
+        }
+        bot.ready = true;
     }
 
     @Override
     public void onMessageReceived(MessageReceivedEvent event) {
-        logger.io("onMessageReceived -> " + event.getMessage().getAuthor().getName() + ": " + event.getMessage().getContentRaw());
-        if (event.getAuthor().isBot()) return;
-        event.getChannel().sendMessage("onMessageReceived -> " + event.getMessage().getAuthor().getName() + ": " + event.getMessage().getContentRaw()).queue();
+        logger.io(() -> "onMessageReceived -> " + event.getMessage().getAuthor().getName() + ": " + event.getMessage().getContentRaw());
     }
 
     @Override
     public void onSlashCommandInteraction(SlashCommandInteractionEvent event) {
-        logger.io("onSlashCommandInteraction -> " + event.getName());
+        logger.io(() -> "onSlashCommandInteraction -> " + event.getName());
+        if (!ready) {
+            event.reply(STARTING).setEphemeral(true).queue();
+            return;
+        }
         SlashCommandProcessor.handleCommand(event);
     }
 
     @Override
     public void onCommandAutoCompleteInteraction(CommandAutoCompleteInteractionEvent event) {
-        logger.io("onCommandAutoCompleteInteraction -> " + event.getName() + ":" + event.getFocusedOption().getName());
+        logger.io(() -> "onCommandAutoCompleteInteraction -> " + event.getName() + ":" + event.getFocusedOption().getName());
+        if (!ready) {
+            event.replyChoices().queue();
+            return;
+        }
         SlashCommandProcessor.handleAutoComplete(event);
     }
 
     @Override
     public void onButtonInteraction(ButtonInteractionEvent event) {
-        logger.io("onButtonInteraction -> " + event.getInteraction().getButton().getLabel());
+        logger.io(() -> "onButtonInteraction -> " + event.getInteraction().getButton().getLabel());
+        if (!ready) {
+            event.reply(STARTING).setEphemeral(true).queue();
+            return;
+        }
         ButtonInteractionProcessor.handleCommand(event);
     }
 
     @Override
     public void onStringSelectInteraction(StringSelectInteractionEvent event) {
-        logger.io("onStringSelectInteraction -> " + event.getInteraction().getMessage());
+        logger.io(() -> "onStringSelectInteraction -> " + event.getInteraction().getMessage());
+        if (!ready) {
+            event.reply(STARTING).setEphemeral(true).queue();
+            return;
+        }
         StringSelectInteractionProcessor.handleCommand(event);
     }
 
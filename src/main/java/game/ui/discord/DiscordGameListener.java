@@ -0,0 +1,72 @@
+package game.ui.discord;
+
+import game.Game;
+import game.Player;
+import game.components.enums.HabitatEnum;
+import game.components.subcomponents.BirdCard;
+import game.service.DiscordBotService;
+import game.service.GameListener;
+import game.service.history.FinishedGame;
+import game.ui.discord.enumeration.DiscordObject;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
+import net.dv8tion.jda.api.interactions.components.buttons.Button;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static game.service.DiscordBotService.mention;
+
+/**
+ * Posts what happens in a game in its channel, games without a channel are left alone
+ */
+public class DiscordGameListener implements GameListener {
+
+    @Override
+    public void turnStarted(Game game, Player player) {
+        Button takeTurnButton = Button.success(ComponentIdCodec.encode(DiscordObject.PROMPT_TAKE_TURN_BUTTON, game), "\uD83C\uDFAF Take Turn");
+        Button seeBoardButton = Button.secondary(ComponentIdCodec.encode(DiscordObject.PROMPT_SEE_BOARD_BUTTON, game), "\uD83D\uDCCB See Board");
+        Button seeFeederButton = Button.secondary(ComponentIdCodec.encode(DiscordObject.PROMPT_SEE_FEEDER_BUTTON, game), "\uD83C\uDFB2 See Feeder");
+        Button seeTrayButton = Button.secondary(ComponentIdCodec.encode(DiscordObject.PROMPT_SEE_TRAY_BUTTON, game), "\uD83D\uDC26 See Tray");
+        send(game, new MessageView(
+                mention(player.getPlayerId()) + " please take your turn (turn " + game.getTurnCounter() + ")",
+                List.of(ActionRow.of(takeTurnButton, seeBoardButton, seeFeederButton, seeTrayButton))));
+    }
+
+    @Override
+    public void birdPlayed(Game game, Player player, BirdCard bird, HabitatEnum habitat) {
+        send(game, mention(player.getPlayerId()) + " played " + bird.getName() + " in their " + habitat.getJsonValue());
+    }
+
+    @Override
+    public void eggsLaid(Game game, Player player, int eggs) {
+        send(game, mention(player.getPlayerId()) + " laid " + eggs + " egg" + (eggs != 1 ? "s" : ""));
+    }
+
+    @Override
+    public void cardsDrawn(Game game, Player player, int cards) {
+        send(game, mention(player.getPlayerId()) + " drew " + cards + " card" + (cards != 1 ? "s" : ""));
+    }
+
+    @Override
+    public void gameFinished(Game game, FinishedGame finishedGame) {
+        StringBuilder message = new StringBuilder("**Game over!**\n");
+        finishedGame.boards().stream()
+                .sorted(Comparator.comparingInt(FinishedGame.FinalBoard::score).reversed())
+                .forEach(board -> message.append(mention(board.playerId())).append(" : ").append(board.score())
+                        .append(" points (").append(board.birdPoints()).append(" from birds, ").append(board.eggs())
+                        .append(" egg").append(board.eggs() != 1 ? "s" : "").append(")\n"));
+        send(game, message.toString());
+    }
+
+    private static void send(Game game, String message) {
+        if (game.getChannelId() != 0) {
+            DiscordBotService.getInstance().sendMessage(game.getChannelId(), message);
+        }
+    }
+
+    private static void send(Game game, MessageView message) {
+        if (game.getChannelId() != 0) {
+            DiscordBotService.getInstance().sendMessage(game.getChannelId(), message);
+        }
+    }
+}
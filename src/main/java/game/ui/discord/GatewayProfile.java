@@ -0,0 +1,42 @@
+package game.ui.discord;
+
+import net.dv8tion.jda.api.JDABuilder;
+import net.dv8tion.jda.api.requests.GatewayIntent;
+import net.dv8tion.jda.api.utils.ChunkingFilter;
+import net.dv8tion.jda.api.utils.MemberCachePolicy;
+import net.dv8tion.jda.api.utils.cache.CacheFlag;
+
+import java.util.EnumSet;
+
+/**
+ * What the bot subscribes to on the Discord gateway, set with {@code bot.gateway_profile} in config.properties.<br/>
+ * The game is only driven by interactions, which reach the bot whatever its intents, so by default it subscribes to
+ * no intent at all and only keeps the guild and channel cache it needs to post in
+ */
+public enum GatewayProfile {
+    // No privileged or message intents, no member, presence, voice or emoji caches
+    MINIMAL,
+    // Also receives every guild message with its content, for debugging
+    MESSAGES;
+
+    /**
+     * @param name profile name, MINIMAL when null
+     */
+    public static GatewayProfile fromName(String name) {
+        if (name == null || name.isBlank()) return MINIMAL;
+        return valueOf(name.trim().toUpperCase());
+    }
+
+    public JDABuilder builder(String token) {
+        return switch (this) {
+            case MINIMAL -> JDABuilder.create(token, EnumSet.noneOf(GatewayIntent.class))
+                    .disableCache(EnumSet.allOf(CacheFlag.class))
+                    .setMemberCachePolicy(MemberCachePolicy.NONE)
+                    .setChunkingFilter(ChunkingFilter.NONE)
+                    .setLargeThreshold(50);
+            case MESSAGES -> JDABuilder.createDefault(token,
+                    GatewayIntent.GUILD_MESSAGES,
+                    GatewayIntent.MESSAGE_CONTENT);
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package game.ui.discord;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * What a menu message shows: its text and its rows of components.<br/>
+ * Two views can be diffed to only send Discord the part of the message that changed
+ */
+public record MessageView(String content, List<ActionRow> components) {
+
+    public enum Change {
+        NONE,
+        CONTENT,
+        COMPONENTS,
+        BOTH
+    }
+
+    public MessageView {
+        components = List.copyOf(components);
+    }
+
+    /**
+     * The view of a message as Discord currently displays it
+     */
+    public static MessageView of(Message message) {
+        return new MessageView(message.getContentRaw(), message.getActionRows());
+    }
+
+    /**
+     * @param previous view currently displayed, null if unknown
+     * @return what has to be edited to go from the previous view to this one
+     */
+    public Change diff(MessageView previous) {
+        if (previous == null) {
+            return Change.BOTH;
+        }
+        boolean contentChanged = !Objects.equals(content, previous.content);
+        boolean componentsChanged = !components.equals(previous.components);
+        if (contentChanged && componentsChanged) return Change.BOTH;
+        if (contentChanged) return Change.CONTENT;
+        if (componentsChanged) return Change.COMPONENTS;
+        return Change.NONE;
+    }
+}
@@ -0,0 +1,130 @@
+package game.ui.discord;
+
+import net.dv8tion.jda.api.events.interaction.component.GenericComponentInteractionCreateEvent;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import util.LogLevel;
+import util.Logger;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Edits menu messages with only what changed since they were last rendered.<br/>
+ * Keeps the last {@link MessageView} sent for each menu message. {@link #update} acknowledges the click straight away
+ * and waits a short window before editing, so a burst of clicks on the same message ends in a single edit, skipped
+ * entirely when the message would look the same. {@link #replace} edits right away, for step changes and final
+ * messages that must not be overwritten by an edit still waiting
+ */
+public class MessageViewRenderer {
+
+    private static final Logger logger = new Logger(MessageViewRenderer.class, LogLevel.ALL);
+    private static final MessageViewRenderer INSTANCE = new MessageViewRenderer();
+
+    private static final long COALESCE_WINDOW_MILLIS = 250;
+    // Interaction hooks can't edit the message after 15 minutes anyway
+    private static final long VIEW_TTL_NANOS = Duration.ofMinutes(15).toNanos();
+
+    private final Map<Long, RenderedMessage> messages = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "message-view-renderer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static class RenderedMessage {
+        private MessageView rendered;
+        private MessageView pending;
+        private InteractionHook hook;
+        private ScheduledFuture<?> flush;
+        private long lastUsedNanos;
+
+        private RenderedMessage(MessageView rendered) {
+            this.rendered = rendered;
+        }
+    }
+
+    private MessageViewRenderer() {}
+
+    public static MessageViewRenderer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Acknowledge the interaction and edit its message to the view after the coalescing window, unless another
+     * update of that message comes first
+     */
+    public void update(GenericComponentInteractionCreateEvent event, MessageView view) {
+        long now = System.nanoTime();
+        messages.values().removeIf(message -> now - message.lastUsedNanos > VIEW_TTL_NANOS);
+        long messageId = event.getMessageIdLong();
+        RenderedMessage message = messages.computeIfAbsent(messageId, id -> new RenderedMessage(MessageView.of(event.getMessage())));
+        event.deferEdit().queue();
+        synchronized (message) {
+            message.lastUsedNanos = now;
+            message.pending = view;
+            message.hook = event.getHook();
+            if (message.flush == null) {
+                message.flush = scheduler.schedule(() -> flush(message), COALESCE_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+            } else {
+                logger.ridiculous(() -> "Coalesced edit of message " + messageId);
+            }
+        }
+    }
+
+    private void flush(RenderedMessage message) {
+        synchronized (message) {
+            message.flush = null;
+            MessageView view = message.pending;
+            message.pending = null;
+            if (view == null) return;
+            MessageView.Change change = view.diff(message.rendered);
+            message.rendered = view;
+            switch (change) {
+                case NONE -> logger.ridiculous("Skipped edit, nothing changed");
+                case CONTENT -> message.hook.editOriginal(view.content()).queue();
+                case COMPONENTS -> message.hook.editOriginalComponents(view.components()).queue();
+                case BOTH -> message.hook.editOriginal(view.content()).setComponents(view.components()).queue();
+            }
+        }
+    }
+
+    /**
+     * Edit the message of the interaction to the view right away, dropping any edit still waiting for it
+     */
+    public void replace(GenericComponentInteractionCreateEvent event, MessageView view) {
+        long messageId = event.getMessageIdLong();
+        RenderedMessage message = messages.get(messageId);
+        MessageView previous;
+        if (message == null) {
+            previous = MessageView.of(event.getMessage());
+        } else {
+            synchronized (message) {
+                if (message.flush != null) {
+                    message.flush.cancel(false);
+                    message.flush = null;
+                }
+                message.pending = null;
+                previous = message.rendered;
+                message.rendered = view;
+                message.lastUsedNanos = System.nanoTime();
+            }
+        }
+
+        switch (view.diff(previous)) {
+            case NONE -> event.deferEdit().queue();
+            case CONTENT -> event.editMessage(view.content()).queue();
+            case COMPONENTS -> event.editComponents(view.components()).queue();
+            case BOTH -> event.editMessage(view.content()).setComponents(view.components()).queue();
+        }
+
+        // A message without components can't be clicked again
+        if (view.components().isEmpty()) {
+            messages.remove(messageId);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package game.ui.discord;
+
+import game.Game;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Embeds already rendered for a game, each one stored with the version of the component it shows.<br/>
+ * An embed is only rebuilt once the version of its component moved on, so looking at an unchanged tray, feeder or
+ * board again builds nothing. A game's cache is only used from the game's mailbox, so it needs no synchronisation
+ */
+public class RenderCache {
+
+    // Held weakly, a cache goes away with its game once the game is removed or evicted. A game brought back from its
+    // journal is a new instance and starts with an empty cache, its versions may start over
+    private static final Map<Game, RenderCache> CACHES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public enum View {
+        TRAY,
+        FEEDER,
+        BOARD,
+        // Board of another player, with the cards in hand hidden
+        HIDDEN_BOARD
+    }
+
+    private record Key(View view, long ownerId) {}
+
+    private record Entry(long version, MessageEmbed embed) {}
+
+    private final Map<Key, Entry> entries = new HashMap<>();
+    private long hits;
+    private long misses;
+
+    /**
+     * Cache of the embeds of a game
+     */
+    public static RenderCache of(Game game) {
+        return CACHES.computeIfAbsent(game, g -> new RenderCache());
+    }
+
+    public MessageEmbed get(View view, long version, Supplier<MessageEmbed> render) {
+        return get(view, 0, version, render);
+    }
+
+    /**
+     * @param ownerId id of the player the view belongs to, 0 for views shared by the whole game
+     * @param version current version of what the view shows
+     * @param render  builds the embed when the cached one is missing or out of date
+     */
+    public MessageEmbed get(View view, long ownerId, long version, Supplier<MessageEmbed> render) {
+        Key key = new Key(view, ownerId);
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version() == version) {
+            hits++;
+            return entry.embed();
+        }
+        misses++;
+        MessageEmbed embed = render.get();
+        entries.put(key, new Entry(version, embed));
+        return embed;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+}
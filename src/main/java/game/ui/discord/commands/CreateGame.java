@@ -9,6 +9,7 @@ import game.components.subcomponents.Card;
 import game.service.DiscordBotService;
 import game.service.GameService;
 import game.ui.discord.DiscordBot;
+import game.ui.discord.ComponentIdCodec;
 import game.ui.discord.enumeration.DiscordObject;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.User;
@@ -74,20 +75,25 @@ public class CreateGame implements SlashCommand {
                 .orElse(DiscordBotService.getInstance().getJda().getTextChannelById(DiscordBot.DEFAULT_GAME_CHANNEL));
         boolean testData = Optional.ofNullable(event.getOption(PARAM_TEST_BOARD)).map(OptionMapping::getAsBoolean).orElse(false);
 
-        Game game = GameService.getInstance().createGame(gameChannel, playerList);
+        // The test board is set up without events, a replay couldn't rebuild it
+        Game game = GameService.getInstance().createGame(gameChannel == null ? 0 : gameChannel.getIdLong(), playerList.stream().map(User::getIdLong).toList(), !testData);
         String gameId = game.getGameId();
+        DiscordBotService.dispatch(event, gameId, () -> announceGame(event, game, testData));
+    }
 
+    private void announceGame(SlashCommandInteractionEvent event, Game game, boolean testData) {
+        String gameId = game.getGameId();
         if (testData) {
             game.getPlayers().forEach(player -> addTestData(game, player));
         }
 
-        Button takeTurnButton = Button.success(DiscordObject.PROMPT_PICK_HAND_BUTTON.name() + ":" + gameId, "\uD83D\uDC50 Pick Starting Hand");
-        Button seeFeederButton = Button.secondary(DiscordObject.PROMPT_SEE_FEEDER_BUTTON.name() + ":" + gameId, "\uD83C\uDFB2 See Feeder");
-        Button seeTrayButton = Button.secondary(DiscordObject.PROMPT_SEE_TRAY_BUTTON.name() + ":" + gameId, "\uD83D\uDC26 See Tray");
+        Button takeTurnButton = Button.success(ComponentIdCodec.encode(DiscordObject.PROMPT_PICK_HAND_BUTTON, game), "\uD83D\uDC50 Pick Starting Hand");
+        Button seeFeederButton = Button.secondary(ComponentIdCodec.encode(DiscordObject.PROMPT_SEE_FEEDER_BUTTON, game), "\uD83C\uDFB2 See Feeder");
+        Button seeTrayButton = Button.secondary(ComponentIdCodec.encode(DiscordObject.PROMPT_SEE_TRAY_BUTTON, game), "\uD83D\uDC26 See Tray");
         String playersAsMention = StringUtil.getListAsString(
                 GameService.getInstance().getGame(gameId)
                         .getPlayers().stream()
-                        .map(p -> p.getUser().getAsMention())
+                        .map(p -> DiscordBotService.mention(p.getPlayerId()))
                         .toList(), "");
         event.reply("Game `" + gameId + "` created with " + playersAsMention)
                 .addActionRow(takeTurnButton, seeFeederButton, seeTrayButton)
@@ -104,7 +110,7 @@ public class CreateGame implements SlashCommand {
         IntStream.range(0, (int) (Math.random() * 4) + 1).forEach(i -> player.getBoard().getForest().addBird(game.getBirdDeck().drawCard()));
         IntStream.range(0, (int) (Math.random() * 4) + 1).forEach(i -> player.getBoard().getGrassland().addBird(game.getBirdDeck().drawCard()));
         IntStream.range(0, (int) (Math.random() * 4) + 1).forEach(i -> player.getBoard().getWetland().addBird(game.getBirdDeck().drawCard()));
-        List.of(FoodType.WORM, FoodType.SEED, FoodType.FRUIT, FoodType.FISH, FoodType.RODENT, FoodType.NECTAR).forEach(f -> player.getHand().getPantry().put(f, (int) (Math.random() * 5)));
+        List.of(FoodType.WORM, FoodType.SEED, FoodType.FRUIT, FoodType.FISH, FoodType.RODENT, FoodType.NECTAR).forEach(f -> player.getHand().setFood(f, (int) (Math.random() * 5)));
         List<BirdCard> playedBirds = player.getBoard().getPlayedBirds();
         Collections.shuffle(playedBirds);
         playedBirds.subList(0, playedBirds.size()/2).forEach(b -> b.getNest().setNumberOfEggs((int) (Math.random() * 3)));
@@ -113,12 +119,12 @@ public class CreateGame implements SlashCommand {
     // FIXME: Potentially send the starting hands in the players DMs?
     private void sendStartingHandEmbeds(Player player) {
         EmbedBuilder startingHandBirdsEmbed = getStartingHandBirdsEmbed(player.getHand().getBirdCards());
-        player.getUser().openPrivateChannel()
+        DiscordBotService.getInstance().getJda().openPrivateChannelById(player.getPlayerId())
                 .flatMap(channel -> channel.sendMessageEmbeds(startingHandBirdsEmbed.build()))
                 .queue();
 
         EmbedBuilder startingHandBonusEmbed = getStartingHandBonusEmbed(player.getHand().getBonusCards());
-        player.getUser().openPrivateChannel()
+        DiscordBotService.getInstance().getJda().openPrivateChannelById(player.getPlayerId())
                 .flatMap(channel -> channel.sendMessageEmbeds(startingHandBonusEmbed.build()))
                 .queue();
     }
@@ -130,7 +136,7 @@ public class CreateGame implements SlashCommand {
 
         birds.sort(Comparator.comparing(Card::getName));
         for (int i = 1; i <= birds.size(); i++) {
-            embed.addField(i + ". " + birds.get(i-1).getName(), StringUtil.replacePlaceholders(birds.get(i-1).getPower().getPowerText()), true);
+            embed.addField(i + ". " + birds.get(i-1).getName(), birds.get(i-1).getText().getPower(), true);
         }
         return embed;
     }
@@ -1,6 +1,5 @@
 package game.ui.discord.commands;
 
-import game.Game;
 import game.service.GameService;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.interactions.commands.build.CommandData;
@@ -26,8 +25,8 @@ public class GetActiveGames implements SlashCommand {
 
     @Override
     public void handle(SlashCommandInteractionEvent event) {
-        List<Game> activeGames = GameService.getInstance().getActiveGames(event.getUser().getIdLong());
-        event.reply("**Your active games are:**\n\n" + StringUtil.getListAsString(activeGames.stream().map(Game::getGameId), ", "))
+        List<String> gameIds = GameService.getInstance().getActiveGameIds(event.getUser().getIdLong());
+        event.reply("**Your active games are:**\n\n" + StringUtil.getListAsString(gameIds, ", "))
                 .setEphemeral(true)
                 .queue();
     }
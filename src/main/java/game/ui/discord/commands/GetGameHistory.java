@@ -0,0 +1,56 @@
+package game.ui.discord.commands;
+
+import game.service.GameService;
+import game.service.history.HistoryEntry;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public class GetGameHistory implements SlashCommand {
+
+    private static final String name = "get_game_history";
+    private static final String description = "See your finished games";
+
+    private static final String PARAM_DAYS = "days";
+    private static final int MAX_GAMES = 10;
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public CommandData getCommandData() {
+        return Commands.slash(name, description)
+                .addOption(OptionType.INTEGER, PARAM_DAYS, "Only the games finished in the last days", false);
+    }
+
+    @Override
+    public void handle(SlashCommandInteractionEvent event) {
+        long userId = event.getUser().getIdLong();
+        Instant since = Optional.ofNullable(event.getOption(PARAM_DAYS))
+                .map(OptionMapping::getAsLong)
+                .map(days -> Instant.now().minus(Duration.ofDays(days)))
+                .orElse(Instant.EPOCH);
+        List<HistoryEntry> history = GameService.getInstance().getGameHistory(userId, since, MAX_GAMES);
+        if (history.isEmpty()) {
+            event.reply("You have no finished games").setEphemeral(true).queue();
+            return;
+        }
+        String games = history.stream()
+                .map(entry -> String.format("`%s` <t:%d:d> : %d points%s, best %d", entry.gameId(), entry.finishedAt() / 1000,
+                        entry.getScore(userId), entry.getScore(userId) == entry.getBestScore() ? " 🏆" : "", entry.getBestScore()))
+                .collect(Collectors.joining("\n"));
+        event.reply("**Your last finished games are:**\n\n" + games)
+                .setEphemeral(true)
+                .queue();
+    }
+}
@@ -7,6 +7,7 @@ import game.components.subcomponents.BirdCard;
 import game.components.subcomponents.BonusCard;
 import game.components.subcomponents.Card;
 import game.service.DiscordBotService;
+import game.ui.discord.ComponentIdCodec;
 import game.ui.discord.enumeration.Constants;
 import game.ui.discord.enumeration.DiscordObject;
 import net.dv8tion.jda.api.EmbedBuilder;
@@ -22,7 +23,6 @@ import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
 
 import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 
 public class PickStartingHand implements SlashCommand {
     private static final String name = "pick_starting_hand";
@@ -48,11 +48,7 @@ public class PickStartingHand implements SlashCommand {
 
     @Override
     public void handle(SlashCommandInteractionEvent event) {
-        Optional<DiscordBotService.GameContext> gameContextOptional = DiscordBotService.resolveGameContext(event);
-        if (gameContextOptional.isEmpty()) return;
-        DiscordBotService.GameContext gameContext = gameContextOptional.get();
-
-        sendStartingHand(event, gameContext.game(), gameContext.player());
+        DiscordBotService.dispatch(event, gameContext -> sendStartingHand(event, gameContext.game(), gameContext.player()));
     }
 
     public static void sendStartingHand(IReplyCallback event, Game game, Player player) {
@@ -61,19 +57,19 @@ public class PickStartingHand implements SlashCommand {
                 .setDescription(Constants.BIRDS_NOT_SELECTED + "\n" + Constants.FOOD_NOT_SELECTED + "\n" + Constants.BONUS_NOT_SELECTED)
                 .setColor(0x1abc9c);
         event.replyEmbeds(embed.build())
-                .addActionRow(getStartingHandBirdsSelectMenu(player.getHand().getBirdCards(), game.getGameId()))
-                .addActionRow(getStartingHandFoodSelectMenu(game.getGameId()))
-                .addActionRow(getStartingHandBonusSelectMenu(player.getHand().getBonusCards(), game.getGameId()))
+                .addActionRow(getStartingHandBirdsSelectMenu(player.getHand().getBirdCards(), game))
+                .addActionRow(getStartingHandFoodSelectMenu(game))
+                .addActionRow(getStartingHandBonusSelectMenu(player.getHand().getBonusCards(), game))
                 .addActionRow(
-                        Button.primary(DiscordObject.PICK_STARTING_HAND_SUBMIT_BUTTON.name() + ":" + game.getGameId(), Constants.SUBMIT_SELECTION)
+                        Button.primary(ComponentIdCodec.encode(DiscordObject.PICK_STARTING_HAND_SUBMIT_BUTTON, game), Constants.SUBMIT_SELECTION)
                                 .withDisabled(true),
-                        Button.secondary(DiscordObject.PICK_STARTING_HAND_RANDOMISE_BUTTON.name() + ":" + game.getGameId(), "\uD83D\uDD00 Random Selection"))
+                        Button.secondary(ComponentIdCodec.encode(DiscordObject.PICK_STARTING_HAND_RANDOMISE_BUTTON, game), "\uD83D\uDD00 Random Selection"))
                 .setEphemeral(true)
                 .queue();
     }
 
-    private static StringSelectMenu getStartingHandBirdsSelectMenu(List<BirdCard> birds, String gameId) {
-        return StringSelectMenu.create(DiscordObject.PICK_STARTING_HAND_BIRD_SELECT_MENU.name() + ":" + gameId)
+    private static StringSelectMenu getStartingHandBirdsSelectMenu(List<BirdCard> birds, Game game) {
+        return StringSelectMenu.create(ComponentIdCodec.encode(DiscordObject.PICK_STARTING_HAND_BIRD_SELECT_MENU, game))
                 .setPlaceholder("Pick starting hand birds")
                 .setMinValues(1)
                 .setMaxValues(5)
@@ -82,8 +78,8 @@ public class PickStartingHand implements SlashCommand {
                 .build();
     }
 
-    private static StringSelectMenu getStartingHandFoodSelectMenu(String gameId) {
-        return StringSelectMenu.create(DiscordObject.PICK_STARTING_HAND_FOOD_SELECT_MENU.name() + ":" + gameId)
+    private static StringSelectMenu getStartingHandFoodSelectMenu(Game game) {
+        return StringSelectMenu.create(ComponentIdCodec.encode(DiscordObject.PICK_STARTING_HAND_FOOD_SELECT_MENU, game))
                 .setPlaceholder("Pick starting hand food")
                 .setMinValues(1)
                 .setMaxValues(5)
@@ -92,8 +88,8 @@ public class PickStartingHand implements SlashCommand {
                 .build();
     }
 
-    private static StringSelectMenu getStartingHandBonusSelectMenu(List<BonusCard> bonusCards, String gameId) {
-        return StringSelectMenu.create(DiscordObject.PICK_STARTING_HAND_BONUS_SELECT_MENU.name() + ":" + gameId)
+    private static StringSelectMenu getStartingHandBonusSelectMenu(List<BonusCard> bonusCards, Game game) {
+        return StringSelectMenu.create(ComponentIdCodec.encode(DiscordObject.PICK_STARTING_HAND_BONUS_SELECT_MENU, game))
                 .setPlaceholder("Pick starting hand bonus cards")
                 .addOptions(bonusCards.stream().sorted(Comparator.comparing(Card::getName)).map(bird -> SelectOption.of(bird.getName(), bird.getName())).toList())
                 .build();
@@ -2,9 +2,11 @@ package game.ui.discord.commands;
 
 import game.components.Feeder;
 import game.service.DiscordBotService;
+import game.ui.discord.RenderCache;
 import game.ui.discord.enumeration.Constants;
 import game.ui.discord.enumeration.EmojiEnum;
 import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
@@ -13,7 +15,6 @@ import net.dv8tion.jda.api.interactions.commands.build.CommandData;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
 import util.StringUtil;
 
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 public class SeeBirdFeeder implements SlashCommand {
@@ -41,15 +42,14 @@ public class SeeBirdFeeder implements SlashCommand {
 
     @Override
     public void handle(SlashCommandInteractionEvent event) {
-        Optional<DiscordBotService.GameContext> gameContextOptional = DiscordBotService.resolveGameContext(event);
-        if (gameContextOptional.isEmpty()) return;
-        DiscordBotService.GameContext gameContext = gameContextOptional.get();
-
-        seeBirdFeeder(event, gameContext);
+        DiscordBotService.dispatch(event, gameContext -> seeBirdFeeder(event, gameContext));
     }
 
     public static void seeBirdFeeder(IReplyCallback event, DiscordBotService.GameContext gameContext) {
-        event.replyEmbeds(getFeederEmbed(gameContext.game().getFeeder()).build())
+        Feeder feeder = gameContext.game().getFeeder();
+        MessageEmbed embed = RenderCache.of(gameContext.game()).get(RenderCache.View.FEEDER, feeder.getVersion(),
+                () -> getFeederEmbed(feeder).build());
+        event.replyEmbeds(embed)
                 .setEphemeral(true)
                 .queue();
     }
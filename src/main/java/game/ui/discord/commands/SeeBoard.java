@@ -1,11 +1,14 @@
 package game.ui.discord.commands;
 
+import game.Game;
 import game.Player;
 import game.components.subcomponents.BirdCard;
 import game.service.DiscordBotService;
+import game.ui.discord.RenderCache;
 import game.ui.discord.enumeration.Constants;
 import game.ui.discord.enumeration.EmojiEnum;
 import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
@@ -50,20 +53,28 @@ public class SeeBoard implements SlashCommand {
         User user = userOptional.orElseGet(event::getUser);
         boolean showHiddenInfo = user.getIdLong() == event.getUser().getIdLong();
 
-        Optional<DiscordBotService.GameContext> gameContextOptional = DiscordBotService.resolveGameContext(event);
-        if (gameContextOptional.isEmpty()) return;
-        DiscordBotService.GameContext gameContext = gameContextOptional.get();
+        DiscordBotService.dispatch(event, gameContext -> seeBoard(event, gameContext.game(), gameContext.player(), showHiddenInfo));
+    }
+
+    public static void seeBoard(IReplyCallback event, Game currentGame, Player currentPlayer) {
+        seeBoard(event, currentGame, currentPlayer, true);
+    }
 
-        seeBoard(event, gameContext.player(), showHiddenInfo);
+    public static void seeBoard(IReplyCallback event, Game currentGame, Player currentPlayer, boolean showHiddenInfo) {
+        MessageEmbed embed = RenderCache.of(currentGame).get(showHiddenInfo ? RenderCache.View.BOARD : RenderCache.View.HIDDEN_BOARD,
+                currentPlayer.getPlayerId(), currentPlayer.getBoardVersion(), () -> getBoardEmbed(playerName(event, currentPlayer), currentPlayer, showHiddenInfo));
+        event.replyEmbeds(embed)
+                .setEphemeral(true)
+                .queue();
     }
 
-    public static void seeBoard(IReplyCallback event, Player currentPlayer) {
-        seeBoard(event, currentPlayer, true);
+    private static String playerName(IReplyCallback event, Player player) {
+        return event.getUser().getIdLong() == player.getPlayerId() ? event.getUser().getName() : DiscordBotService.getInstance().getPlayerName(player.getPlayerId());
     }
 
-    public static void seeBoard(IReplyCallback event, Player currentPlayer, boolean showHiddenInfo) {
+    private static MessageEmbed getBoardEmbed(String playerName, Player currentPlayer, boolean showHiddenInfo) {
         EmbedBuilder embed = new EmbedBuilder();
-        embed.setTitle(StringUtil.replacePlaceholders("**" + currentPlayer.getUser().getName() + "️'s Board: **"));
+        embed.setTitle(StringUtil.replacePlaceholders("**" + playerName + "️'s Board: **"));
         embed.setColor(0x1abc9c);
 
         String boardString = "**Played Birds: **\n" +
@@ -82,9 +93,6 @@ public class SeeBoard implements SlashCommand {
                         StringUtil.getListAsString(currentPlayer.getHand().getBonusCards().stream().map(c -> EmojiEnum.BONUS.getEmoteId()), " "));
 
         embed.setDescription(boardString);
-
-        event.replyEmbeds(embed.build())
-                .setEphemeral(true)
-                .queue();
+        return embed.build();
     }
 }
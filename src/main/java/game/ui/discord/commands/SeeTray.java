@@ -6,9 +6,10 @@ import game.components.enums.HabitatEnum;
 import game.components.enums.NestType;
 import game.components.subcomponents.BirdCard;
 import game.service.DiscordBotService;
+import game.ui.discord.RenderCache;
 import game.ui.discord.enumeration.Constants;
-import game.ui.discord.enumeration.EmojiEnum;
 import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
@@ -16,9 +17,6 @@ import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.CommandData;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 public class SeeTray implements SlashCommand {
 
@@ -45,64 +43,25 @@ public class SeeTray implements SlashCommand {
 
     @Override
     public void handle(SlashCommandInteractionEvent event) {
-        Optional<DiscordBotService.GameContext> gameContextOptional = DiscordBotService.resolveGameContext(event);
-        if (gameContextOptional.isEmpty()) return;
-        DiscordBotService.GameContext gameContext = gameContextOptional.get();
-
-        seeTray(event, gameContext.game());
+        DiscordBotService.dispatch(event, gameContext -> seeTray(event, gameContext.game()));
     }
 
     public static void seeTray(IReplyCallback event, Game currentGame) {
-        EmbedBuilder embed = new EmbedBuilder();
-        embed.setTitle("Birds in tray:");
-        embed.setColor(0x1abc9c);
-
-        for (BirdCard bird : currentGame.getBirdDeck().getTray()) {
-            embed.addField(bird.getName(), buildBirdDetails(bird), true);
-        }
-
-        event.replyEmbeds(embed.build())
+        MessageEmbed embed = RenderCache.of(currentGame).get(RenderCache.View.TRAY, currentGame.getBirdDeck().getTrayVersion(),
+                () -> getTrayEmbed(currentGame));
+        event.replyEmbeds(embed)
                 .setEphemeral(true)
                 .queue();
     }
 
-    private static String buildBirdDetails(BirdCard bird) {
-        StringBuilder sb = new StringBuilder();
-
-        // Habitats
-        String habitats = bird.getHabitats().stream()
-                .map(h -> h.getEmoji().getEmoteId())
-                .collect(Collectors.joining(" "));
-        sb.append(habitats).append("\n");
-
-        // Food cost
-        sb.append("Food: ");
-        if (bird.getFoodCost().isEmpty() || bird.getFoodCost().stream().allMatch(List::isEmpty)) {
-            sb.append(EmojiEnum.NO_FOOD.getEmoteId());
-        } else {
-            String foodCost = bird.getFoodCost().stream()
-                    .map(alt -> alt.stream()
-                            .map(f -> f.getEmoji().getEmoteId())
-                            .collect(Collectors.joining("")))
-                    .collect(Collectors.joining(" / "));
-            sb.append(foodCost);
-        }
-        sb.append("\n");
-
-        // Nest + egg capacity
-        sb.append(bird.getNest().getType().getEmoji().getEmoteId())
-                .append(" ").append(EmojiEnum.EGG.getEmoteId())
-                .append(" x").append(bird.getNest().getCapacity()).append("\n");
-
-        // Victory points + wingspan
-        sb.append(EmojiEnum.FEATHER_POINTS.getEmoteId()).append(" ").append(bird.getFeatherPoints())
-                .append(" | ").append(bird.getWingspan()).append("cm\n");
+    private static MessageEmbed getTrayEmbed(Game currentGame) {
+        EmbedBuilder embed = new EmbedBuilder();
+        embed.setTitle("Birds in tray:");
+        embed.setColor(0x1abc9c);
 
-        // Power text
-        if (bird.getPower() != null && bird.getPower().getPowerText() != null && !bird.getPower().getPowerText().isEmpty()) {
-            sb.append("\n*").append(bird.getPower().getPowerText()).append("*");
+        for (BirdCard bird : currentGame.getBirdDeck().getTray()) {
+            embed.addField(bird.getName(), bird.getText().getDetails(), true);
         }
-
-        return sb.toString();
+        return embed.build();
     }
 }
@@ -1,6 +1,5 @@
 package game.ui.discord.commands;
 
-import game.Game;
 import game.service.GameService;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
@@ -20,9 +19,9 @@ public interface SlashCommand {
     default void handleAutoComplete(CommandAutoCompleteInteractionEvent event) {}
 
     static void autoCompleteGameId(CommandAutoCompleteInteractionEvent event) {
-        List<Game> activeGames = GameService.getInstance().getActiveGames(event.getUser().getIdLong());
-        List<Command.Choice> choices = activeGames.stream()
-                .map(game -> new Command.Choice(game.getGameId(), game.getGameId()))
+        List<String> gameIds = GameService.getInstance().getActiveGameIds(event.getUser().getIdLong());
+        List<Command.Choice> choices = gameIds.stream()
+                .map(gameId -> new Command.Choice(gameId, gameId))
                 .toList();
         event.replyChoices(choices).queue();
     }
@@ -6,6 +6,7 @@ import game.components.meta.BoardAction;
 import game.components.meta.GameAction;
 import game.service.DiscordBotService;
 import game.service.GameService;
+import game.ui.discord.ComponentIdCodec;
 import game.ui.discord.enumeration.Constants;
 import game.ui.discord.enumeration.DiscordObject;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
@@ -18,7 +19,6 @@ import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
 import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
 
 import java.util.Arrays;
-import java.util.Optional;
 
 public class TakeTurn implements SlashCommand {
 
@@ -45,22 +45,18 @@ public class TakeTurn implements SlashCommand {
 
     @Override
     public void handle(SlashCommandInteractionEvent event) {
-        Optional<DiscordBotService.GameContext> gameContextOptional = DiscordBotService.resolveGameContext(event);
-        if (gameContextOptional.isEmpty()) return;
-        DiscordBotService.GameContext gameContext = gameContextOptional.get();
-
-        takeTurn(event, gameContext.game(), gameContext.player());
+        DiscordBotService.dispatch(event, gameContext -> takeTurn(event, gameContext.game(), gameContext.player()));
     }
 
     public static void takeTurn(IReplyCallback event, Game currentGame, Player currentPlayer) {
         // Check if we are allowed to take a turn
         if (!GameService.getInstance().isPlayerAllowedAction(currentPlayer, GameAction.TAKE_TURN)) {
-            event.reply("It is not your turn, it is currently " + currentGame.getCurrentPlayer().getUser().getName() + "'s turn, please be patient")
+            event.reply("It is not your turn, it is currently " + DiscordBotService.mention(currentGame.getCurrentPlayer().getPlayerId()) + "'s turn, please be patient")
                     .setEphemeral(true).queue();
             return;
         }
 
-        StringSelectMenu pickActionMenu = StringSelectMenu.create(DiscordObject.TAKE_TURN_ACTION_CHOICE_SELECT_MENU.name() + ":" + currentGame.getGameId())
+        StringSelectMenu pickActionMenu = StringSelectMenu.create(ComponentIdCodec.encode(DiscordObject.TAKE_TURN_ACTION_CHOICE_SELECT_MENU, currentGame))
                 .setPlaceholder("Action")
                 .addOptions(Arrays.stream(BoardAction.values()).map(a -> SelectOption.of(a.getLabel(), a.name())).toList())
                 .build();
@@ -2,6 +2,10 @@ package game.ui.discord.enumeration;
 
 import game.components.enums.FoodType;
 
+/**
+ * Buttons and select menus. Component ids store the ordinal (see {@link game.ui.discord.ComponentIdCodec}), so new
+ * constants must be added at the end and existing ones never reordered or removed
+ */
 public enum DiscordObject {
     PICK_STARTING_HAND_BIRD_SELECT_MENU,
     PICK_STARTING_HAND_BONUS_SELECT_MENU,
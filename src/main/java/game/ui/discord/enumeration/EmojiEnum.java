@@ -59,9 +59,14 @@ public enum EmojiEnum {
     private final String emoteId;
 
     private static final Map<String, String> placeholderToEmoteMap;
+    // Emojis by the first character of their placeholder, so a placeholder can be looked up without cutting it out of its text
+    private static final EmojiEnum[][] placeholdersByFirstChar = new EmojiEnum[128][];
 
     static {
         placeholderToEmoteMap = Arrays.stream(EmojiEnum.values()).collect(Collectors.toMap(e -> e.placeholder, e -> e.emoteId));
+        Arrays.stream(EmojiEnum.values())
+                .collect(Collectors.groupingBy(e -> e.placeholder.charAt(0)))
+                .forEach((first, emojis) -> placeholdersByFirstChar[first] = emojis.toArray(new EmojiEnum[0]));
     }
 
     EmojiEnum(String placeholder, String emoteId) {
@@ -73,6 +78,24 @@ public enum EmojiEnum {
         return placeholderToEmoteMap.getOrDefault(s, def);
     }
 
+    /**
+     * Emoji whose placeholder is the part of the text between start (inclusive) and end (exclusive)
+     * @return null if no emoji has that placeholder
+     */
+    public static EmojiEnum fromPlaceholder(String text, int start, int end) {
+        if (start >= end) return null;
+        char first = text.charAt(start);
+        EmojiEnum[] candidates = first < placeholdersByFirstChar.length ? placeholdersByFirstChar[first] : null;
+        if (candidates == null) return null;
+        int length = end - start;
+        for (EmojiEnum emoji : candidates) {
+            if (emoji.placeholder.length() == length && text.regionMatches(start, emoji.placeholder, 0, length)) {
+                return emoji;
+            }
+        }
+        return null;
+    }
+
     public static String getFoodAsEmojiList(Map<FoodType, Integer> pantry) {
         StringBuilder builder = new StringBuilder();
         pantry.forEach((k, v) -> IntStream.range(0, v).forEach(i -> builder.append(k.getEmoji().getEmoteId()).append(", ")));
@@ -10,6 +10,10 @@ import game.components.subcomponents.*;
 import game.exception.GameInputException;
 import game.service.DiscordBotService;
 import game.service.GameService;
+import game.service.TurnSession;
+import game.ui.discord.ComponentIdCodec;
+import game.ui.discord.MessageView;
+import game.ui.discord.MessageViewRenderer;
 import game.ui.discord.commands.*;
 import game.ui.discord.enumeration.Constants;
 import game.ui.discord.enumeration.DiscordObject;
@@ -19,9 +23,7 @@ import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.entities.emoji.Emoji;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.interactions.components.ActionRow;
-import net.dv8tion.jda.api.interactions.components.ItemComponent;
 import net.dv8tion.jda.api.interactions.components.buttons.Button;
-import net.dv8tion.jda.api.interactions.components.buttons.ButtonStyle;
 import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
 import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
 import util.LogLevel;
@@ -29,8 +31,6 @@ import util.Logger;
 import util.StringUtil;
 
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -39,17 +39,18 @@ public class ButtonInteractionProcessor {
     private static final Logger logger = new Logger(ButtonInteractionProcessor.class, LogLevel.ALL);
 
     public static void handleCommand(ButtonInteractionEvent event) {
-        Optional<DiscordBotService.GameContext> gameContextOptional = DiscordBotService.resolveGameContext(event);
-        if (gameContextOptional.isEmpty()) return;
-        DiscordBotService.GameContext gameContext = gameContextOptional.get();
+        DiscordBotService.dispatch(event, gameContext -> handleCommand(event, gameContext));
+    }
+
+    private static void handleCommand(ButtonInteractionEvent event, DiscordBotService.GameContext gameContext) {
         long userId = event.getUser().getIdLong();
 
         try {
-            switch (DiscordObject.valueOf(gameContext.componentId())) {
+            switch (gameContext.component()) {
                 // Generic buttons
                 case PROMPT_PICK_HAND_BUTTON -> PickStartingHand.sendStartingHand(event, gameContext.game(), gameContext.player());
                 case PROMPT_TAKE_TURN_BUTTON -> TakeTurn.takeTurn(event, gameContext.game(), gameContext.player());
-                case PROMPT_SEE_BOARD_BUTTON -> SeeBoard.seeBoard(event, gameContext.player());
+                case PROMPT_SEE_BOARD_BUTTON -> SeeBoard.seeBoard(event, gameContext.game(), gameContext.player());
                 case PROMPT_SEE_FEEDER_BUTTON -> SeeBirdFeeder.seeBirdFeeder(event, gameContext);
                 case PROMPT_SEE_TRAY_BUTTON -> SeeTray.seeTray(event, gameContext.game());
 
@@ -68,14 +69,14 @@ public class ButtonInteractionProcessor {
                      TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_CHOOSE_FOOD_REMOVE_FISH,
                      TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_CHOOSE_FOOD_REMOVE_FRUIT,
                      TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_CHOOSE_FOOD_REMOVE_SEED -> takeTurnActionChoicePlayBirdChooseFoodRemoveFood(event, gameContext);
-                case TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_CHOOSE_FOOD_SUBMIT_BUTTON -> takeTurnActionChoicePlayBirdChooseFoodSubmitButton(event, gameContext.gameId(), gameContext.player());
+                case TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_CHOOSE_FOOD_SUBMIT_BUTTON -> takeTurnActionChoicePlayBirdChooseFoodSubmitButton(event, gameContext.game(), gameContext.player());
 
                 // Gain food buttons
                 case TAKE_TURN_ACTION_CHOICE_GAIN_FOOD_DIE_0,
                      TAKE_TURN_ACTION_CHOICE_GAIN_FOOD_DIE_1,
                      TAKE_TURN_ACTION_CHOICE_GAIN_FOOD_DIE_2,
                      TAKE_TURN_ACTION_CHOICE_GAIN_FOOD_DIE_3,
-                     TAKE_TURN_ACTION_CHOICE_GAIN_FOOD_DIE_4 -> toggleGainFoodDie(event, gameContext.game());
+                     TAKE_TURN_ACTION_CHOICE_GAIN_FOOD_DIE_4 -> toggleGainFoodDie(event, gameContext.game(), gameContext.player(), gameContext.index());
                 case TAKE_TURN_ACTION_CHOICE_GAIN_FOOD_SUBMIT_BUTTON -> submitGainFood(event, gameContext.game(), gameContext.player());
                 case TAKE_TURN_ACTION_CHOICE_GAIN_FOOD_REROLL_BUTTON -> rerollFeeder(event, gameContext.game(), gameContext.player());
 
@@ -87,22 +88,22 @@ public class ButtonInteractionProcessor {
                      TAKE_TURN_ACTION_CHOICE_LAY_EGGS_ADD_BIRD_1,
                      TAKE_TURN_ACTION_CHOICE_LAY_EGGS_ADD_BIRD_2,
                      TAKE_TURN_ACTION_CHOICE_LAY_EGGS_ADD_BIRD_3,
-                     TAKE_TURN_ACTION_CHOICE_LAY_EGGS_ADD_BIRD_4 -> layEggsAddBird(event, gameContext.game(), gameContext.player());
+                     TAKE_TURN_ACTION_CHOICE_LAY_EGGS_ADD_BIRD_4 -> layEggsAddBird(event, gameContext.game(), gameContext.player(), gameContext.index());
                 case TAKE_TURN_ACTION_CHOICE_LAY_EGGS_REMOVE_BIRD_0,
                      TAKE_TURN_ACTION_CHOICE_LAY_EGGS_REMOVE_BIRD_1,
                      TAKE_TURN_ACTION_CHOICE_LAY_EGGS_REMOVE_BIRD_2,
                      TAKE_TURN_ACTION_CHOICE_LAY_EGGS_REMOVE_BIRD_3,
-                     TAKE_TURN_ACTION_CHOICE_LAY_EGGS_REMOVE_BIRD_4 -> layEggsRemoveBird(event, gameContext.game(), gameContext.player());
+                     TAKE_TURN_ACTION_CHOICE_LAY_EGGS_REMOVE_BIRD_4 -> layEggsRemoveBird(event, gameContext.game(), gameContext.player(), gameContext.index());
                 case TAKE_TURN_ACTION_CHOICE_LAY_EGGS_BACK_BUTTON -> layEggsBackToHabitat(event, gameContext.game(), gameContext.player());
                 case TAKE_TURN_ACTION_CHOICE_LAY_EGGS_SUBMIT_BUTTON -> submitLayEggs(event, gameContext.game(), gameContext.player());
 
                 // Draw cards buttons
                 case TAKE_TURN_ACTION_CHOICE_DRAW_CARDS_DRAW_TRAY_0,
                      TAKE_TURN_ACTION_CHOICE_DRAW_CARDS_DRAW_TRAY_1,
-                     TAKE_TURN_ACTION_CHOICE_DRAW_CARDS_DRAW_TRAY_2 -> toggleTrayBirdSelected(event, gameContext.game(), gameContext.player());
+                     TAKE_TURN_ACTION_CHOICE_DRAW_CARDS_DRAW_TRAY_2 -> toggleTrayBirdSelected(event, gameContext.game(), gameContext.player(), gameContext.index());
                 case TAKE_TURN_ACTION_CHOICE_DRAW_CARDS_DRAW_DECK -> drawCardFromDeck(event, gameContext.game(), gameContext.player());
                 case TAKE_TURN_ACTION_CHOICE_DRAW_CARDS_SUBMIT -> submitCardDrawSelection(event, gameContext.game(), gameContext.player());
-                default -> logger.warn("Button id not matched: " + gameContext.componentId());
+                default -> logger.warn("Button id not matched: " + gameContext.component());
             }
         } catch (GameInputException ex) {
             event.reply(ex.getMessage()).setEphemeral(true).queue();
@@ -111,7 +112,13 @@ public class ButtonInteractionProcessor {
 
     // ======================== PLAY BIRD ========================
 
-    private static void takeTurnActionChoicePlayBirdChooseFoodSubmitButton(ButtonInteractionEvent event, String gameId, Player currentPlayer) {
+    private static void takeTurnActionChoicePlayBirdChooseFoodSubmitButton(ButtonInteractionEvent event, Game currentGame, Player currentPlayer) throws GameInputException {
+        TurnSession session = GameService.getInstance().getTurnSession(currentGame, currentPlayer, BoardAction.PLAY_BIRD);
+        BirdCard birdCard = session.getBird();
+        if (birdCard == null) {
+            throw new GameInputException("Please pick a bird to play first");
+        }
+
         // Check that we have the selected food
         boolean weHaveEnough = currentPlayer.getHand().getTempPantrySpentFood().entrySet().stream()
                 .noneMatch(entry -> currentPlayer.getHand().getPantry().getOrDefault(entry.getKey(), 0) < entry.getValue());
@@ -121,17 +128,7 @@ public class ButtonInteractionProcessor {
         }
 
         // Check that the food we are spending covers the bird food cost
-        String[] message = event.getMessage().getContentRaw().split("\n\n");
-        String birdName = message[1].substring(message[1].indexOf(Constants.CHOOSE_BIRD_TO_PLAY) + Constants.CHOOSE_BIRD_TO_PLAY.length()).trim();
-        BirdCard birdCard;
-        try {
-            birdCard = currentPlayer.getHand().getBirdByName(birdName)
-                    .orElseThrow(() -> new GameInputException("You do not have *" + birdName + "* in hand"));
-        } catch (GameInputException ex) {
-            event.reply(ex.getMessage()).setEphemeral(true).queue();
-            return;
-        }
-        int meetFoodCost = GameService.getInstance().checkFoodCost(birdCard.getFoodCost(), currentPlayer.getHand().getTempPantrySpentFood());
+        int meetFoodCost = GameService.getInstance().checkFoodCost(birdCard.getFoodCostVectors(), FoodType.toCounts(currentPlayer.getHand().getTempPantrySpentFood()));
         if (meetFoodCost > 0) {
             event.reply("You must meet the bird food cost exactly. You've used too much food").setEphemeral(true).queue();
             return;
@@ -140,26 +137,29 @@ public class ButtonInteractionProcessor {
             return;
         }
 
-        StringSelectMenu selectMenu = StringSelectMenu.create(DiscordObject.TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_PICK_HABITAT.name() + ":" + gameId)
+        int openHabitatMask = GameService.getInstance().getOpenHabitatMask(currentPlayer);
+        if ((birdCard.getDefinition().getHabitatMask() & openHabitatMask) == 0) {
+            event.reply("None of the habitats of *" + birdCard.getName() + "* can take a bird right now").setEphemeral(true).queue();
+            return;
+        }
+
+        StringSelectMenu selectMenu = StringSelectMenu.create(ComponentIdCodec.encode(DiscordObject.TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_PICK_HABITAT, currentGame, session))
                     .setPlaceholder("Pick the habitat")
                     .setMinValues(1)
                     .setMaxValues(1)
-                    .addOptions(birdCard.getHabitats().stream().map(habitat -> SelectOption.of(habitat.getJsonValue(), habitat.name())).toList())
+                    .addOptions(birdCard.getHabitats().stream()
+                            .filter(habitat -> (openHabitatMask & (1 << habitat.ordinal())) != 0)
+                            .map(habitat -> SelectOption.of(habitat.getJsonValue(), habitat.name()))
+                            .toList())
                     .build();
 
-        event.editMessage(message[0] + "\n\n" +
-                        message[1] + "\n\n" +
-                        Constants.CHOOSE_FOOD_TO_USE + EmojiEnum.getFoodAsEmojiList(currentPlayer.getHand().getTempPantrySpentFood()) + "\n\n" +
-                        Constants.CHOOSE_HABITAT)
-                .setComponents(ActionRow.of(selectMenu))
-                .queue();
+        MessageViewRenderer.getInstance().replace(event, new MessageView(
+                StringSelectInteractionProcessor.getPlayBirdRecap(session, currentPlayer) + "\n\n" + Constants.CHOOSE_HABITAT,
+                List.of(ActionRow.of(selectMenu))));
     }
 
     private static void takeTurnActionChoicePlayBirdChooseFoodRemoveFood(ButtonInteractionEvent event, DiscordBotService.GameContext gameContext) throws GameInputException {
-        int i;
-        for (i = 0; i < DiscordObject.REMOVE_FOOD_IDS.length; i++) {
-            if (DiscordObject.REMOVE_FOOD_IDS[i] == DiscordObject.valueOf(gameContext.componentId())) break;
-        }
+        int i = gameContext.index();
 
         int numberOfFoodToSpend = gameContext.player().getHand().getTempPantrySpentFood().get(FoodType.values()[i]);
         int numberOfFoodWeHave = gameContext.player().getHand().getTempPantryAvailableFood().get(FoodType.values()[i]);
@@ -173,10 +173,7 @@ public class ButtonInteractionProcessor {
     }
 
     private static void takeTurnActionChoicePlayBirdChooseFoodAddFood(ButtonInteractionEvent event, DiscordBotService.GameContext gameContext) throws GameInputException {
-        int i;
-        for (i = 0; i < DiscordObject.ADD_FOOD_IDS.length; i++) {
-            if (DiscordObject.ADD_FOOD_IDS[i] == DiscordObject.valueOf(gameContext.componentId())) break;
-        }
+        int i = gameContext.index();
 
         int numberOfFoodToSpend = gameContext.player().getHand().getTempPantrySpentFood().get(FoodType.values()[i]);
         int numberOfFoodWeHave = gameContext.player().getHand().getTempPantryAvailableFood().get(FoodType.values()[i]);
@@ -189,18 +186,12 @@ public class ButtonInteractionProcessor {
         showFoodUsedMessage(event, gameContext);
     }
 
-    private static void showFoodUsedMessage(ButtonInteractionEvent event, DiscordBotService.GameContext gameContext) {
-        String[] message = event.getMessage().getContentRaw().split("\n\n");
+    private static void showFoodUsedMessage(ButtonInteractionEvent event, DiscordBotService.GameContext gameContext) throws GameInputException {
+        TurnSession session = GameService.getInstance().getTurnSession(gameContext.game(), gameContext.player(), BoardAction.PLAY_BIRD);
+        List<ActionRow> components = StringSelectInteractionProcessor.getChooseFoodSelector(gameContext.game(), gameContext.player(), session);
 
-        List<ActionRow> components = StringSelectInteractionProcessor.getChooseFoodSelector(gameContext.game(), gameContext.player());
-
-        event.editMessage(message[0] + "\n\n" + // Pick action...
-                        message[1] + "\n\n" + // Chose to play bird...
-                        Constants.CHOOSE_FOOD_TO_USE + "\n" +
-                        "Food used: " + EmojiEnum.getFoodAsEmojiList(gameContext.player().getHand().getTempPantrySpentFood()) + "\n" +
-                        "Food in hand: " + EmojiEnum.getFoodAsEmojiList(gameContext.player().getHand().getTempPantryAvailableFood()))
-                .setComponents(components)
-                .queue();
+        MessageViewRenderer.getInstance().update(event, new MessageView(
+                StringSelectInteractionProcessor.getChooseFoodMessage(session, gameContext.player()), components));
     }
 
     private static void pickStartingHandRandomiseButton(ButtonInteractionEvent event, Game currentGame, Player currentPlayer) {
@@ -223,7 +214,7 @@ public class ButtonInteractionProcessor {
             } else {
                 FoodType foodType = FoodType.values()[index-5];
                 foodSelected.add(foodType);
-                currentPlayer.getHand().getPantry().put(foodType, 1);
+                currentPlayer.getHand().setFood(foodType, 1);
             }
         });
         BonusCard bonusCardSelected = currentPlayer.getHand().getBonusCards().get((int) (Math.random() * 2));
@@ -241,8 +232,7 @@ public class ButtonInteractionProcessor {
                 .addField(Constants.BONUS_SELECTED_FIELD, bonusCardSelected.getName(), true)
                 .build();
 
-        String buttonId = DiscordObject.PICK_STARTING_HAND_SUBMIT_BUTTON.name() + ":" + currentGame.getGameId();
-        List<ActionRow> newComponents = StringSelectInteractionProcessor.getNewComponents(event.getMessage(), newEmbed, buttonId);
+        List<ActionRow> newComponents = StringSelectInteractionProcessor.getNewComponents(event.getMessage(), newEmbed);
 
         event.editMessageEmbeds(newEmbed)
                 .setComponents(newComponents)
@@ -270,161 +260,67 @@ public class ButtonInteractionProcessor {
             return;
         }
         event.deferEdit().queue(hook -> hook.editOriginalComponents().queue());
-        currentGame.getGameChannel().sendMessage(
-                event.getUser().getAsMention() + " confirmed their starting hand"
-        ).queue();
+        DiscordBotService.getInstance().sendMessage(currentGame.getChannelId(),
+                event.getUser().getAsMention() + " confirmed their starting hand");
         GameService.getInstance().checkAllPlayersReady(currentGame);
     }
 
     // ======================== GAIN FOOD ========================
 
-    private static int parseMaxFoodFromMessage(String content) {
-        Matcher matcher = Pattern.compile("Pick up to \\*\\*(\\d+)\\*\\* food").matcher(content);
-        int maxFood = matcher.find() ? Integer.parseInt(matcher.group(1)) : 1;
-        logger.debug("Max food found in message : " + maxFood);
-        return maxFood;
-    }
-
-    private static String parsePreviouslyGainedFood(String content) {
-        int feederIdx = content.indexOf(Constants.CHOOSE_FOOD_FROM_FEEDER);
-        if (feederIdx < 0) return "";
-        String afterFeeder = content.substring(feederIdx + Constants.CHOOSE_FOOD_FROM_FEEDER.length());
-        String[] lines = afterFeeder.split("\n");
-        // Line 0: "Pick up to **N** food"
-        // Line 1 (optional): dual-food hint text
-        // Remaining lines: accumulated food emojis
-        int emojiStart = 1;
-        if (emojiStart < lines.length && lines[emojiStart].startsWith("Click dual-food")) {
-            emojiStart = 2;
-        }
-        StringBuilder result = new StringBuilder();
-        for (int i = emojiStart; i < lines.length; i++) {
-            if (!lines[i].isBlank()) {
-                if (!result.isEmpty()) result.append(" ");
-                result.append(lines[i].trim());
-            }
-        }
-        return result.toString();
-    }
-
-    private static void toggleGainFoodDie(ButtonInteractionEvent event, Game game) {
-        String clickedId = event.getComponentId();
-        String messageContent = event.getMessage().getContentRaw();
-        int maxFood = parseMaxFoodFromMessage(messageContent);
-
-        List<ActionRow> oldRows = event.getMessage().getActionRows();
-        ActionRow dieRow = oldRows.get(0);
-        ActionRow submitRow = oldRows.get(1);
-
-        // Toggle the clicked button
-        List<ItemComponent> newDieButtons = new ArrayList<>();
-        int selectedCount = 0;
-        for (ItemComponent component : dieRow.getComponents()) {
-            if (component instanceof Button button) {
-                boolean isClicked = clickedId.equals(button.getId());
-                ButtonStyle currentStyle = button.getStyle();
-                if (isClicked) {
-                    String buttonComponentId = Objects.requireNonNull(button.getId()).split(":")[0];
-                    int dieIndex = resolveDieIndex(buttonComponentId);
-                    DieFace visibleFace = game.getFeeder().getDiceInFeeder().get(dieIndex).getVisibleFace();
-
-                    if (visibleFace.isDualFood()) {
-                        // 3-state cycle: SECONDARY → SUCCESS+food0 (1/2) → SUCCESS+food1 (2/2) → SECONDARY
-                        List<FoodType> foods = visibleFace.getFoodType();
-                        Button newButton;
-                        if (currentStyle == ButtonStyle.SECONDARY) {
-                            // Unselected → select food 0
-                            newButton = Button.success(button.getId(), foods.get(0).getDisplayName() + " (1/2)")
-                                    .withEmoji(Emoji.fromFormatted(foods.get(0).getEmoji().getEmoteId()));
-                        } else if (button.getLabel().startsWith(foods.get(0).getDisplayName())) {
-                            // Food 0 selected → select food 1
-                            newButton = Button.success(button.getId(), foods.get(1).getDisplayName() + " (2/2)")
-                                    .withEmoji(Emoji.fromFormatted(foods.get(1).getEmoji().getEmoteId()));
-                        } else {
-                            // Food 1 selected → back to unselected
-                            newButton = Button.secondary(button.getId(), visibleFace.getLabel())
-                                    .withEmoji(Emoji.fromFormatted(EmojiEnum.getFirstEmojiFromDieFace(visibleFace)));
-                        }
-                        newDieButtons.add(newButton);
-                        if (newButton.getStyle() == ButtonStyle.SUCCESS) selectedCount++;
-                    } else {
-                        // Single-food: 2-state toggle
-                        ButtonStyle newStyle = (currentStyle == ButtonStyle.SUCCESS) ? ButtonStyle.SECONDARY : ButtonStyle.SUCCESS;
-                        Button newButton = (newStyle == ButtonStyle.SUCCESS)
-                                ? Button.success(button.getId(), button.getLabel())
-                                : Button.secondary(button.getId(), button.getLabel());
-                        if (button.getEmoji() != null) {
-                            newButton = newButton.withEmoji(button.getEmoji());
-                        }
-                        newDieButtons.add(newButton);
-                        if (newStyle == ButtonStyle.SUCCESS) selectedCount++;
-                    }
-                } else {
-                    newDieButtons.add(button);
-                    if (currentStyle == ButtonStyle.SUCCESS) selectedCount++;
-                }
-            }
-        }
-
-        // If at max: disable unselected buttons; otherwise enable all
-        List<ItemComponent> finalDieButtons = new ArrayList<>();
-        for (ItemComponent component : newDieButtons) {
-            if (component instanceof Button button) {
-                if (selectedCount >= maxFood && button.getStyle() == ButtonStyle.SECONDARY) {
-                    finalDieButtons.add(button.asDisabled());
-                } else {
-                    finalDieButtons.add(button.asEnabled());
-                }
-            }
-        }
-
-        // Enable re-roll only when feeder is in a re-roll-able state
-        // Use the new button states (after toggling) to determine selected indices
-        List<Integer> selectedIndicesForReroll = new ArrayList<>();
-        for (ItemComponent comp : newDieButtons) {
-            if (comp instanceof Button btn && btn.getStyle() == ButtonStyle.SUCCESS) {
-                String btnCompId = Objects.requireNonNull(btn.getId()).split(":")[0];
-                selectedIndicesForReroll.add(resolveDieIndex(btnCompId));
-            }
-        }
-
-        // Consider those dice removed and check if you can reroll
-        List<DieFace> dieFaces = IntStream.range(0, game.getFeeder().getDiceInFeeder().size())
-                .filter(i -> !selectedIndicesForReroll.contains(i))
-                .mapToObj(i -> game.getFeeder().getDiceInFeeder().get(i).getVisibleFace())
-                .toList();
-        boolean canReroll = dieFaces.isEmpty() || dieFaces.stream().distinct().count() == 1;
-        List<ItemComponent> bottomRowButtons = new ArrayList<>();
-        for (ItemComponent component : submitRow.getComponents()) {
-            if (component instanceof Button button) {
-                String id = Objects.requireNonNull(button.getId()).split(":")[0];
-                if (id.equals(DiscordObject.TAKE_TURN_ACTION_CHOICE_GAIN_FOOD_REROLL_BUTTON.name())) {
-                    bottomRowButtons.add(canReroll ? button.asEnabled() : button.asDisabled());
-                } else {
-                    bottomRowButtons.add(button);
-                }
+    /**
+     * Cycles the clicked die through its states: unselected, first food, second food (dual-food dice only), unselected
+     */
+    private static void toggleGainFoodDie(ButtonInteractionEvent event, Game game, Player player, int dieIndex) throws GameInputException {
+        TurnSession session = GameService.getInstance().getTurnSession(game, player, BoardAction.GAIN_FOOD);
+        List<Die> dice = game.getFeeder().getDiceInFeeder();
+        if (dieIndex >= dice.size()) return;
+
+        DieFace visibleFace = dice.get(dieIndex).getVisibleFace();
+        Map<Integer, FoodType> selectedDice = session.getSelectedDice();
+        FoodType chosenFood = selectedDice.get(dieIndex);
+        if (chosenFood == null) {
+            if (selectedDice.size() >= session.getMaxFood()) {
+                throw new GameInputException("You can only pick up to " + session.getMaxFood() + " food");
             }
+            selectedDice.put(dieIndex, visibleFace.getFoodType().get(0));
+        } else if (visibleFace.isDualFood() && chosenFood == visibleFace.getFoodType().get(0)) {
+            selectedDice.put(dieIndex, visibleFace.getFoodType().get(1));
+        } else {
+            selectedDice.remove(dieIndex);
         }
 
-        event.editMessage(messageContent)
-                .setComponents(ActionRow.of(finalDieButtons), ActionRow.of(bottomRowButtons))
-                .queue();
+        MessageView view = buildFeedPickerMessage(game, session);
+        MessageViewRenderer.getInstance().update(event, view);
     }
 
-    static FeedPickerMessage buildFeedPickerMessage(Game game, int maxFood, String foodGainedSoFar) {
+    static MessageView buildFeedPickerMessage(Game game, TurnSession session) {
         List<Die> dice = game.getFeeder().getDiceInFeeder();
-        String gameId = game.getGameId();
+        Map<Integer, FoodType> selectedDice = session.getSelectedDice();
+        int maxFood = session.getMaxFood();
 
+        // Once the player picked as much food as they can, only the selected dice can be clicked
         List<Button> dieButtons = new ArrayList<>();
         for (int i = 0; i < dice.size(); i++) {
             DieFace face = dice.get(i).getVisibleFace();
-            dieButtons.add(Button.secondary(DiscordObject.GAIN_FOOD_DIE_IDS[i].name() + ":" + gameId, face.getLabel())
-                    .withEmoji(Emoji.fromFormatted(EmojiEnum.getFirstEmojiFromDieFace(face))));
+            String buttonId = ComponentIdCodec.encode(DiscordObject.GAIN_FOOD_DIE_IDS[i], game, i, session);
+            FoodType chosenFood = selectedDice.get(i);
+            if (chosenFood == null) {
+                dieButtons.add(Button.secondary(buttonId, face.getLabel())
+                        .withEmoji(Emoji.fromFormatted(EmojiEnum.getFirstEmojiFromDieFace(face)))
+                        .withDisabled(selectedDice.size() >= maxFood));
+            } else if (face.isDualFood()) {
+                int choice = face.getFoodType().indexOf(chosenFood) + 1;
+                dieButtons.add(Button.success(buttonId, chosenFood.getDisplayName() + " (" + choice + "/2)")
+                        .withEmoji(Emoji.fromFormatted(chosenFood.getEmoji().getEmoteId())));
+            } else {
+                dieButtons.add(Button.success(buttonId, face.getLabel())
+                        .withEmoji(Emoji.fromFormatted(EmojiEnum.getFirstEmojiFromDieFace(face))));
+            }
         }
 
-        Button submitButton = Button.success(DiscordObject.TAKE_TURN_ACTION_CHOICE_GAIN_FOOD_SUBMIT_BUTTON.name() + ":" + gameId, Constants.SUBMIT_SELECTION);
-        Button rerollButton = Button.primary(DiscordObject.TAKE_TURN_ACTION_CHOICE_GAIN_FOOD_REROLL_BUTTON.name() + ":" + gameId, "\uD83C\uDFB2 Reroll Feeder")
-                .withDisabled(game.getFeeder().canBeRerolled());
+        Button submitButton = Button.success(ComponentIdCodec.encode(DiscordObject.TAKE_TURN_ACTION_CHOICE_GAIN_FOOD_SUBMIT_BUTTON, game, session), Constants.SUBMIT_SELECTION);
+        Button rerollButton = Button.primary(ComponentIdCodec.encode(DiscordObject.TAKE_TURN_ACTION_CHOICE_GAIN_FOOD_REROLL_BUTTON, game, session), "\uD83C\uDFB2 Reroll Feeder")
+                .withDisabled(!canRerollAfterPick(game, selectedDice.keySet()));
 
         boolean hasDualFoodDie = dice.stream().anyMatch(die -> die.getVisibleFace().isDualFood());
         String message = Constants.PICK_ACTION + "Gain Food\n\n" +
@@ -432,141 +328,92 @@ public class ButtonInteractionProcessor {
         if (hasDualFoodDie) {
             message += "\nClick dual-food dice again to cycle between food types";
         }
-        if (!foodGainedSoFar.isEmpty()) {
-            message += "\n" + foodGainedSoFar;
+        if (!session.getFoodGained().isEmpty()) {
+            message += "\n" + getFoodGainedAsEmoji(session);
         }
 
         List<ActionRow> rows = List.of(ActionRow.of(dieButtons), ActionRow.of(submitButton, rerollButton));
-        return new FeedPickerMessage(message, rows);
-    }
-
-    record FeedPickerMessage(String content, List<ActionRow> components) {}
-
-    private static int resolveDieIndex(String buttonComponentId) {
-        for (int i = 0; i < DiscordObject.GAIN_FOOD_DIE_IDS.length; i++) {
-            if (DiscordObject.GAIN_FOOD_DIE_IDS[i].name().equals(buttonComponentId)) {
-                return i;
-            }
-        }
-        return 0;
+        return new MessageView(message, rows);
     }
 
     /**
-     * Inspects the die buttons in the message to determine which dice the player selected
-     * and which food type they chose for each (relevant for dual-food dice).
-     *
-     * @param event the button interaction containing the die buttons
-     * @return a map of die index to the chosen {@link FoodType}, preserving insertion order
+     * The feeder can be rerolled once the selected dice are taken out if every die left shows the same face
      */
-    private static Map<Integer, FoodType> resolveSelectedFoodChoices(ButtonInteractionEvent event) {
-        ActionRow dieRow = event.getMessage().getActionRows().get(0);
-        Map<Integer, FoodType> choices = new LinkedHashMap<>();
-        for (ItemComponent component : dieRow.getComponents()) {
-            if (component instanceof Button button && button.getStyle() == ButtonStyle.SUCCESS) {
-                String buttonComponentId = Objects.requireNonNull(button.getId()).split(":")[0];
-                int dieIndex = resolveDieIndex(buttonComponentId);
-                // Strip " (1/2)" or " (2/2)" suffix from dual-food labels
-                String label = button.getLabel().replaceAll(" \\(\\d/\\d\\)$", "");
-                FoodType chosenFood = FoodType.fromDisplayName(label);
-                choices.put(dieIndex, chosenFood);
-            }
-        }
-        return choices;
+    private static boolean canRerollAfterPick(Game game, Set<Integer> selectedIndices) {
+        List<Die> dice = game.getFeeder().getDiceInFeeder();
+        return IntStream.range(0, dice.size())
+                .filter(i -> !selectedIndices.contains(i))
+                .mapToObj(i -> dice.get(i).getVisibleFace())
+                .distinct()
+                .count() <= 1;
     }
 
     /**
-     * Submits the Gain Food action. Resolves the player's die selections, removes the dice
-     * from the feeder, adds the food to the player's pantry (including any food gained from
-     * prior rerolls), and ends the turn.
+     * Submits the Gain Food action. Takes the selected dice out of the feeder, adds their food to the player's
+     * pantry, and ends the turn.
      *
      * @param event         the button interaction event
      * @param currentGame   the current game
      * @param currentPlayer the player gaining food
      */
-    private static void submitGainFood(ButtonInteractionEvent event, Game currentGame, Player currentPlayer) {
-        Map<Integer, FoodType> foodChoices = resolveFoodChoices(event, currentGame);
-        String allFood = accumulateFoodGained(event, currentPlayer, foodChoices);
+    private static void submitGainFood(ButtonInteractionEvent event, Game currentGame, Player currentPlayer) throws GameInputException {
+        TurnSession session = GameService.getInstance().getTurnSession(currentGame, currentPlayer, BoardAction.GAIN_FOOD);
+        gainSelectedFood(currentGame, currentPlayer, session);
 
-        event.editMessage(Constants.PICK_ACTION + "Gain Food\n\n" +
-                        Constants.CHOOSE_FOOD_FROM_FEEDER + allFood)
-                .setComponents()
-                .queue();
+        MessageViewRenderer.getInstance().replace(event, new MessageView(Constants.PICK_ACTION + "Gain Food\n\n" +
+                Constants.CHOOSE_FOOD_FROM_FEEDER + getFoodGainedAsEmoji(session), List.of()));
 
         GameService.getInstance().endTurn(currentGame, currentPlayer);
     }
 
     /**
-     * Resolves the player's selected food choices and removes the corresponding dice from the feeder.
+     * Takes the selected dice out of the feeder and adds their food to the player's pantry
      *
-     * @param event       the button interaction event
-     * @param currentGame the current game whose feeder dice are removed
-     * @return a map of die index to chosen {@link FoodType}
+     * @return the number of food gained
      */
-    private static Map<Integer, FoodType> resolveFoodChoices(ButtonInteractionEvent event, Game currentGame) {
-        // Resolve food choices from button labels BEFORE removing dice
-        Map<Integer, FoodType> foodChoices = resolveSelectedFoodChoices(event);
-        List<Integer> selectedIndices = new ArrayList<>(foodChoices.keySet());
-
-        // Remove dice from feeder (highest index first to avoid shifting)
-        currentGame.getFeeder().getDice(selectedIndices);
-
-        return foodChoices;
+    private static int gainSelectedFood(Game currentGame, Player currentPlayer, TurnSession session) {
+        Map<Integer, FoodType> selectedDice = session.getSelectedDice();
+        currentGame.takeFood(currentPlayer, new ArrayList<>(selectedDice.keySet()), new ArrayList<>(selectedDice.values()));
+        session.getFoodGained().addAll(selectedDice.values());
+        int gained = selectedDice.size();
+        selectedDice.clear();
+        return gained;
     }
 
-    /**
-     * Adds the chosen food to the player's pantry and builds a string of all food emoji gained,
-     * including any food accumulated from previous rerolls (parsed from the message content).
-     *
-     * @param event       the button interaction event whose message may contain previously gained food
-     * @param currentPlayer the player whose pantry receives the food
-     * @param foodChoices the food types chosen in the current pick
-     * @return a space-separated string of food emojis representing all food gained across all picks
-     */
-    private static String accumulateFoodGained(ButtonInteractionEvent event, Player currentPlayer, Map<Integer, FoodType> foodChoices) {
-        // Accumulate food gained across re-rolls
-        String previousFood = parsePreviouslyGainedFood(event.getMessage().getContentRaw());
-        StringBuilder foodGained = new StringBuilder();
-        for (FoodType foodType : foodChoices.values()) {
-            currentPlayer.getHand().getPantry().merge(foodType, 1, Integer::sum);
-            foodGained.append(foodType.getEmoji().getEmoteId()).append(" ");
-        }
-        return (previousFood + " " + foodGained.toString().trim()).trim();
+    private static String getFoodGainedAsEmoji(TurnSession session) {
+        return session.getFoodGained().stream()
+                .map(foodType -> foodType.getEmoji().getEmoteId())
+                .collect(Collectors.joining(" "));
     }
 
     /**
-     * Handles a feeder reroll. Resolves the player's current die selections, removes those dice,
-     * adds the food to the player's pantry, reduces the remaining pick count, rerolls the feeder,
-     * and presents a new feed picker message with all previously gained food still displayed.
+     * Handles a feeder reroll. Takes the selected dice out of the feeder, adds their food to the player's pantry,
+     * reduces the remaining pick count, rerolls the feeder, and presents a new feed picker message
      *
      * @param event         the button interaction event
      * @param currentGame   the current game
      * @param currentPlayer the player re-rolling the feeder
      */
-    private static void rerollFeeder(ButtonInteractionEvent event, Game currentGame, Player currentPlayer) {
-
-        Map<Integer, FoodType> foodChoices = resolveFoodChoices(event, currentGame);
-        String allFood = accumulateFoodGained(event, currentPlayer, foodChoices);
-        List<Integer> selectedIndices = new ArrayList<>(foodChoices.keySet());
+    private static void rerollFeeder(ButtonInteractionEvent event, Game currentGame, Player currentPlayer) throws GameInputException {
+        TurnSession session = GameService.getInstance().getTurnSession(currentGame, currentPlayer, BoardAction.GAIN_FOOD);
+        if (!canRerollAfterPick(currentGame, session.getSelectedDice().keySet())) {
+            throw new GameInputException("The birdfeeder can only be rerolled when all the dice left in it show the same face");
+        }
 
-        // Update the max amount
-        int maxFood = parseMaxFoodFromMessage(event.getMessage().getContentRaw());
-        maxFood -= selectedIndices.size();
+        int gained = gainSelectedFood(currentGame, currentPlayer, session);
+        session.setMaxFood(session.getMaxFood() - gained);
 
         // Actually reset the feeder
-        currentGame.getFeeder().reRollFeeder();
+        currentGame.rerollFeeder(currentPlayer);
 
-        FeedPickerMessage picker = buildFeedPickerMessage(currentGame, maxFood, allFood);
-        event.editMessage(picker.content())
-                .setComponents(picker.components())
-                .queue();
+        MessageView view = buildFeedPickerMessage(currentGame, session);
+        MessageViewRenderer.getInstance().replace(event, view);
     }
 
     // ======================== LAY EGGS ========================
 
-    record LayEggsMessage(String content, List<ActionRow> components) {}
-
-    static LayEggsMessage buildLayEggsHabitatMessage(Game game, Player player, int maxEggs) {
-        String gameId = game.getGameId();
+    static MessageView buildLayEggsHabitatMessage(Game game, Player player, TurnSession session) {
+        int maxEggs = session.getMaxEggs();
         int eggsRemaining = maxEggs - player.getHand().getTotalTempEggs();
 
         StringBuilder content = new StringBuilder();
@@ -601,7 +448,7 @@ public class ButtonInteractionProcessor {
         List<Button> habitatButtons = new ArrayList<>();
         for (int h = 0; h < habitats.length; h++) {
             Habitat habitat = player.getBoard().getHabitat(habitats[h]);
-            Button btn = Button.primary(DiscordObject.LAY_EGGS_HABITAT_IDS[h].name() + ":" + gameId, habitats[h].getJsonValue())
+            Button btn = Button.primary(ComponentIdCodec.encode(DiscordObject.LAY_EGGS_HABITAT_IDS[h], game, h, session), habitats[h].getJsonValue())
                     .withEmoji(Emoji.fromFormatted(habitats[h].getEmoji().getEmoteId()));
             if (habitat.getBirds().isEmpty() || !habitatHasRoom[h] || eggsRemaining <= 0) {
                 btn = btn.asDisabled();
@@ -609,45 +456,32 @@ public class ButtonInteractionProcessor {
             habitatButtons.add(btn);
         }
 
-        Button submitButton = Button.success(DiscordObject.TAKE_TURN_ACTION_CHOICE_LAY_EGGS_SUBMIT_BUTTON.name() + ":" + gameId, Constants.SUBMIT_SELECTION);
+        Button submitButton = Button.success(ComponentIdCodec.encode(DiscordObject.TAKE_TURN_ACTION_CHOICE_LAY_EGGS_SUBMIT_BUTTON, game, session), Constants.SUBMIT_SELECTION);
 
         List<ActionRow> rows = new ArrayList<>();
         rows.add(ActionRow.of(habitatButtons));
         rows.add(ActionRow.of(submitButton));
 
-        return new LayEggsMessage(content.toString(), rows);
-    }
-
-    private static int parseMaxEggsFromMessage(String content) {
-        Matcher matcher = Pattern.compile("Lay up to \\*\\*(\\d+)\\*\\* eggs").matcher(content);
-        return matcher.find() ? Integer.parseInt(matcher.group(1)) : 2;
+        return new MessageView(content.toString(), rows);
     }
 
-    private static HabitatEnum parseCurrentHabitatFromMessage(String content) {
-        // Look for the habitat header line like "🌲 Forest birds:"
-        if (content.contains("Forest birds:")) return HabitatEnum.FOREST;
-        if (content.contains("Grassland birds:")) return HabitatEnum.GRASSLAND;
-        if (content.contains("Wetland birds:")) return HabitatEnum.WETLAND;
-        return null;
+    private static void showLayEggsBirdsForHabitat(ButtonInteractionEvent event, Game game, Player player, HabitatEnum habitatEnum) throws GameInputException {
+        TurnSession session = GameService.getInstance().getTurnSession(game, player, BoardAction.LAY_EGGS);
+        session.setHabitat(habitatEnum);
+        MessageView view = buildLayEggsBirdMessage(game, player, session);
+        MessageViewRenderer.getInstance().replace(event, view);
     }
 
-    private static void showLayEggsBirdsForHabitat(ButtonInteractionEvent event, Game game, Player player, HabitatEnum habitatEnum) {
-        int maxEggs = parseMaxEggsFromMessage(event.getMessage().getContentRaw());
-        LayEggsMessage msg = buildLayEggsBirdMessage(game, player, habitatEnum, maxEggs);
-        event.editMessage(msg.content())
-                .setComponents(msg.components())
-                .queue();
-    }
-
-    private static LayEggsMessage buildLayEggsBirdMessage(Game game, Player player, HabitatEnum habitatEnum, int maxEggs) {
-        String gameId = game.getGameId();
+    private static MessageView buildLayEggsBirdMessage(Game game, Player player, TurnSession session) {
+        HabitatEnum habitatEnum = session.getHabitat();
+        int maxEggs = session.getMaxEggs();
         Habitat habitat = player.getBoard().getHabitat(habitatEnum);
         List<BirdCard> birds = habitat.getBirds();
         int eggsRemaining = maxEggs - player.getHand().getTotalTempEggs();
 
         StringBuilder content = new StringBuilder();
         content.append(Constants.PICK_ACTION).append(BoardAction.LAY_EGGS.getLabel()).append("\n\n");
-        content.append(Constants.CHOOSE_EGGS_TO_LAY).append(maxEggs).append("** eggs on your birds\n");
+        content.append(Constants.CHOOSE_EGGS_TO_LAY + "Lay up to **").append(maxEggs).append("** on your birds\n");
         content.append(Constants.LAY_EGGS_REMAINING).append(eggsRemaining).append("\n\n");
         content.append(habitatEnum.getEmoji().getEmoteId()).append(" ").append(habitatEnum.getJsonValue()).append(" birds:\n");
 
@@ -664,7 +498,7 @@ public class ButtonInteractionProcessor {
         for (int i = 0; i < birds.size(); i++) {
             BirdCard bird = birds.get(i);
             int current = bird.getNest().getNumberOfEggs() + player.getHand().getTempEggsForBird(bird);
-            Button btn = Button.primary(DiscordObject.LAY_EGGS_ADD_IDS[i].name() + ":" + gameId, "➕ " + bird.getName());
+            Button btn = Button.primary(ComponentIdCodec.encode(DiscordObject.LAY_EGGS_ADD_IDS[i], game, i, session), "➕ " + bird.getName());
             if (current >= bird.getNest().getCapacity() || eggsRemaining <= 0) {
                 btn = btn.asDisabled();
             }
@@ -676,7 +510,7 @@ public class ButtonInteractionProcessor {
         for (int i = 0; i < birds.size(); i++) {
             BirdCard bird = birds.get(i);
             int tempEggs = player.getHand().getTempEggsForBird(bird);
-            Button btn = Button.danger(DiscordObject.LAY_EGGS_REMOVE_IDS[i].name() + ":" + gameId, "➖ " + bird.getName());
+            Button btn = Button.danger(ComponentIdCodec.encode(DiscordObject.LAY_EGGS_REMOVE_IDS[i], game, i, session), "➖ " + bird.getName());
             if (tempEggs <= 0) {
                 btn = btn.asDisabled();
             }
@@ -684,39 +518,27 @@ public class ButtonInteractionProcessor {
         }
 
         // Control row
-        Button backButton = Button.secondary(DiscordObject.TAKE_TURN_ACTION_CHOICE_LAY_EGGS_BACK_BUTTON.name() + ":" + gameId, "\uD83D\uDD19 Back");
-        Button submitButton = Button.success(DiscordObject.TAKE_TURN_ACTION_CHOICE_LAY_EGGS_SUBMIT_BUTTON.name() + ":" + gameId, Constants.SUBMIT_SELECTION);
+        Button backButton = Button.secondary(ComponentIdCodec.encode(DiscordObject.TAKE_TURN_ACTION_CHOICE_LAY_EGGS_BACK_BUTTON, game, session), "\uD83D\uDD19 Back");
+        Button submitButton = Button.success(ComponentIdCodec.encode(DiscordObject.TAKE_TURN_ACTION_CHOICE_LAY_EGGS_SUBMIT_BUTTON, game, session), Constants.SUBMIT_SELECTION);
 
         List<ActionRow> rows = new ArrayList<>();
         rows.add(ActionRow.of(addButtons));
         rows.add(ActionRow.of(removeButtons));
         rows.add(ActionRow.of(backButton, submitButton));
 
-        return new LayEggsMessage(content.toString(), rows);
-    }
-
-    private static int resolveBirdIndex(String buttonComponentId) {
-        for (int i = 0; i < DiscordObject.LAY_EGGS_ADD_IDS.length; i++) {
-            if (DiscordObject.LAY_EGGS_ADD_IDS[i].name().equals(buttonComponentId)) return i;
-        }
-        for (int i = 0; i < DiscordObject.LAY_EGGS_REMOVE_IDS.length; i++) {
-            if (DiscordObject.LAY_EGGS_REMOVE_IDS[i].name().equals(buttonComponentId)) return i;
-        }
-        return 0;
+        return new MessageView(content.toString(), rows);
     }
 
-    private static void layEggsAddBird(ButtonInteractionEvent event, Game game, Player player) {
-        String buttonComponentId = event.getComponentId().split(":")[0];
-        int birdIndex = resolveBirdIndex(buttonComponentId);
-        HabitatEnum habitatEnum = parseCurrentHabitatFromMessage(event.getMessage().getContentRaw());
+    private static void layEggsAddBird(ButtonInteractionEvent event, Game game, Player player, int birdIndex) throws GameInputException {
+        TurnSession session = GameService.getInstance().getTurnSession(game, player, BoardAction.LAY_EGGS);
+        HabitatEnum habitatEnum = session.getHabitat();
         if (habitatEnum == null) return;
 
         List<BirdCard> birds = player.getBoard().getHabitat(habitatEnum).getBirds();
         if (birdIndex >= birds.size()) return;
 
         BirdCard bird = birds.get(birdIndex);
-        int maxEggs = parseMaxEggsFromMessage(event.getMessage().getContentRaw());
-        int eggsRemaining = maxEggs - player.getHand().getTotalTempEggs();
+        int eggsRemaining = session.getMaxEggs() - player.getHand().getTotalTempEggs();
         int current = bird.getNest().getNumberOfEggs() + player.getHand().getTempEggsForBird(bird);
 
         if (eggsRemaining <= 0 || current >= bird.getNest().getCapacity()) {
@@ -726,16 +548,13 @@ public class ButtonInteractionProcessor {
 
         player.getHand().addTempEgg(bird);
 
-        LayEggsMessage msg = buildLayEggsBirdMessage(game, player, habitatEnum, maxEggs);
-        event.editMessage(msg.content())
-                .setComponents(msg.components())
-                .queue();
+        MessageView view = buildLayEggsBirdMessage(game, player, session);
+        MessageViewRenderer.getInstance().update(event, view);
     }
 
-    private static void layEggsRemoveBird(ButtonInteractionEvent event, Game game, Player player) {
-        String buttonComponentId = event.getComponentId().split(":")[0];
-        int birdIndex = resolveBirdIndex(buttonComponentId);
-        HabitatEnum habitatEnum = parseCurrentHabitatFromMessage(event.getMessage().getContentRaw());
+    private static void layEggsRemoveBird(ButtonInteractionEvent event, Game game, Player player, int birdIndex) throws GameInputException {
+        TurnSession session = GameService.getInstance().getTurnSession(game, player, BoardAction.LAY_EGGS);
+        HabitatEnum habitatEnum = session.getHabitat();
         if (habitatEnum == null) return;
 
         List<BirdCard> birds = player.getBoard().getHabitat(habitatEnum).getBirds();
@@ -749,49 +568,52 @@ public class ButtonInteractionProcessor {
 
         player.getHand().removeTempEgg(bird);
 
-        int maxEggs = parseMaxEggsFromMessage(event.getMessage().getContentRaw());
-        LayEggsMessage msg = buildLayEggsBirdMessage(game, player, habitatEnum, maxEggs);
-        event.editMessage(msg.content())
-                .setComponents(msg.components())
-                .queue();
+        MessageView view = buildLayEggsBirdMessage(game, player, session);
+        MessageViewRenderer.getInstance().update(event, view);
     }
 
-    private static void layEggsBackToHabitat(ButtonInteractionEvent event, Game game, Player player) {
-        int maxEggs = parseMaxEggsFromMessage(event.getMessage().getContentRaw());
-        LayEggsMessage msg = buildLayEggsHabitatMessage(game, player, maxEggs);
-        event.editMessage(msg.content())
-                .setComponents(msg.components())
-                .queue();
+    private static void layEggsBackToHabitat(ButtonInteractionEvent event, Game game, Player player) throws GameInputException {
+        TurnSession session = GameService.getInstance().getTurnSession(game, player, BoardAction.LAY_EGGS);
+        session.setHabitat(null);
+        MessageView view = buildLayEggsHabitatMessage(game, player, session);
+        MessageViewRenderer.getInstance().replace(event, view);
     }
 
-    private static void submitLayEggs(ButtonInteractionEvent event, Game game, Player player) {
-        int totalEggs = player.getHand().getTotalTempEggs();
-        player.getHand().confirmLayEggs();
+    private static void submitLayEggs(ButtonInteractionEvent event, Game game, Player player) throws GameInputException {
+        GameService.getInstance().getTurnSession(game, player, BoardAction.LAY_EGGS);
+        int totalEggs = game.layEggs(player);
 
-        event.editMessage(Constants.PICK_ACTION + BoardAction.LAY_EGGS.getLabel() + "\n\n" +
-                        EmojiEnum.EGG.getEmoteId() + " Laid " + totalEggs + " egg" + (totalEggs != 1 ? "s" : ""))
-                .setComponents()
-                .queue();
+        MessageViewRenderer.getInstance().replace(event, new MessageView(Constants.PICK_ACTION + BoardAction.LAY_EGGS.getLabel() + "\n\n" +
+                EmojiEnum.EGG.getEmoteId() + " Laid " + totalEggs + " egg" + (totalEggs != 1 ? "s" : ""), List.of()));
 
         GameService.getInstance().confirmLayEggs(game, player, totalEggs);
     }
 
     // ======================== DRAW CARDS ========================
 
-    record DrawCardsMessage(String content, List<ActionRow> components) {}
+    /**
+     * Cards picked so far are the birds already drawn from the deck plus the tray birds selected in the session
+     */
+    private static int getSelectedCount(Player player, TurnSession session) {
+        return player.getHand().getTempDrawnBirds().size() + session.getSelectedTrayIndexes().size();
+    }
 
-    public static DrawCardsMessage buildDrawCardsMessage(Game game, Player player, int maxDraw, int selectedCount) {
+    public static MessageView buildDrawCardsMessage(Game game, Player player, TurnSession session) {
+        int maxDraw = session.getMaxDraw();
+        int selectedCount = getSelectedCount(player, session);
+
+        // Once the player picked as many cards as they can, only the selected tray birds can be clicked
         List<Button> drawTrayButtons = new ArrayList<>();
         for (int i = 0; i < DiscordObject.DRAW_FROM_TRAY_IDS.length; i++) {
-            drawTrayButtons.add(Button.secondary(DiscordObject.DRAW_FROM_TRAY_IDS[i] + ":" + game.getGameId(), game.getBirdDeck().getTray()[i].getName())
-                    .withEmoji(Emoji.fromFormatted(EmojiEnum.BIRD.getEmoteId())));
+            String buttonId = ComponentIdCodec.encode(DiscordObject.DRAW_FROM_TRAY_IDS[i], game, i, session);
+            String birdName = game.getBirdDeck().getTray()[i].getName();
+            Button button = session.getSelectedTrayIndexes().contains(i)
+                    ? Button.success(buttonId, birdName)
+                    : Button.secondary(buttonId, birdName).withDisabled(selectedCount >= maxDraw);
+            drawTrayButtons.add(button.withEmoji(Emoji.fromFormatted(EmojiEnum.BIRD.getEmoteId())));
         }
 
-        return buildDrawCardsMessage(game, player, maxDraw, selectedCount, drawTrayButtons);
-    }
-
-    private static DrawCardsMessage buildDrawCardsMessage(Game game, Player player, int maxDraw, int selectedCount, List<Button> drawTrayButtons) {
-        Button drawDeckButton = Button.primary(DiscordObject.TAKE_TURN_ACTION_CHOICE_DRAW_CARDS_DRAW_DECK + ":" + game.getGameId(), "Deck")
+        Button drawDeckButton = Button.primary(ComponentIdCodec.encode(DiscordObject.TAKE_TURN_ACTION_CHOICE_DRAW_CARDS_DRAW_DECK, game, session), "Deck")
                 .withEmoji(Emoji.fromFormatted(EmojiEnum.CARD.getEmoteId()))
                 .withDisabled(selectedCount >= maxDraw);
 
@@ -805,136 +627,50 @@ public class ButtonInteractionProcessor {
                 "Cards remaining: " + (maxDraw - selectedCount) + "\n\n" +
                 drawnBirds;
 
-        Button submitButton = Button.success(DiscordObject.TAKE_TURN_ACTION_CHOICE_DRAW_CARDS_SUBMIT + ":" + game.getGameId(), Constants.SUBMIT_SELECTION);
+        Button submitButton = Button.success(ComponentIdCodec.encode(DiscordObject.TAKE_TURN_ACTION_CHOICE_DRAW_CARDS_SUBMIT, game, session), Constants.SUBMIT_SELECTION);
         List<ActionRow> components = List.of(ActionRow.of(drawTrayButtons), ActionRow.of(drawDeckButton), ActionRow.of(submitButton));
-        return new DrawCardsMessage(message, components);
+        return new MessageView(message, components);
     }
 
-    private static void toggleTrayBirdSelected(ButtonInteractionEvent event, Game game, Player player) {
-        String clickedId = event.getComponentId();
-
-        List<ActionRow> oldRows = event.getMessage().getActionRows();
-        ActionRow drawTray = oldRows.get(0);
-
-        String messageContent = event.getMessage().getContentRaw();
-        int maxDraw = parseMaxDrawMessage(messageContent);
-
-        // Toggle the clicked button
-        List<ItemComponent> newTrayButtons = new ArrayList<>();
-        int selectedCount = player.getHand().getTempDrawnBirds().size();
-        for (ItemComponent component : drawTray.getComponents()) {
-            if (component instanceof Button button) {
-                boolean isClicked = clickedId.equals(button.getId());
-                ButtonStyle currentStyle = button.getStyle();
-                if (isClicked) {
-                    ButtonStyle newStyle = (currentStyle == ButtonStyle.SUCCESS) ? ButtonStyle.SECONDARY : ButtonStyle.SUCCESS;
-                    Button newButton = (newStyle == ButtonStyle.SUCCESS)
-                            ? Button.success(button.getId(), button.getLabel())
-                            : Button.secondary(button.getId(), button.getLabel());
-                    if (button.getEmoji() != null) {
-                        newButton = newButton.withEmoji(button.getEmoji());
-                    }
-                    newTrayButtons.add(newButton);
-                    if (newStyle == ButtonStyle.SUCCESS) selectedCount++;
-                } else {
-                    newTrayButtons.add(button);
-                    if (currentStyle == ButtonStyle.SUCCESS) selectedCount++;
-                }
-            }
-        }
+    private static void toggleTrayBirdSelected(ButtonInteractionEvent event, Game game, Player player, int trayIndex) throws GameInputException {
+        TurnSession session = GameService.getInstance().getTurnSession(game, player, BoardAction.DRAW_CARDS);
 
-        // If at max: disable unselected buttons; otherwise enable all
-        List<Button> finalTrayButtons = new ArrayList<>();
-        for (ItemComponent component : newTrayButtons) {
-            if (component instanceof Button button) {
-                if (selectedCount >= maxDraw && button.getStyle() == ButtonStyle.SECONDARY) {
-                    finalTrayButtons.add(button.asDisabled());
-                } else {
-                    finalTrayButtons.add(button.asEnabled());
-                }
+        // Toggle the clicked bird
+        if (!session.getSelectedTrayIndexes().remove(trayIndex)) {
+            if (getSelectedCount(player, session) >= session.getMaxDraw()) {
+                throw new GameInputException("You can only draw up to " + session.getMaxDraw() + " cards");
             }
+            session.getSelectedTrayIndexes().add(trayIndex);
         }
 
-        // Build the response
-        ButtonInteractionProcessor.DrawCardsMessage msg = ButtonInteractionProcessor.buildDrawCardsMessage(game, player, maxDraw, selectedCount, finalTrayButtons);
-        event.editMessage(msg.content())
-                .setComponents(msg.components())
-                .queue();
+        MessageView view = buildDrawCardsMessage(game, player, session);
+        MessageViewRenderer.getInstance().update(event, view);
     }
 
-    private static void drawCardFromDeck(ButtonInteractionEvent event, Game game, Player player) {
-        List<ActionRow> oldRows = event.getMessage().getActionRows();
-        ActionRow drawTray = oldRows.get(0);
-        ActionRow drawDeck = oldRows.get(1);
+    private static void drawCardFromDeck(ButtonInteractionEvent event, Game game, Player player) throws GameInputException {
+        TurnSession session = GameService.getInstance().getTurnSession(game, player, BoardAction.DRAW_CARDS);
+        if (getSelectedCount(player, session) >= session.getMaxDraw()) {
+            throw new GameInputException("You can only draw up to " + session.getMaxDraw() + " cards");
+        }
 
         // Draw card from deck
-        player.getHand().getTempDrawnBirds().add(game.getBirdDeck().drawCard());
-
-        String messageContent = event.getMessage().getContentRaw();
-        int maxDraw = parseMaxDrawMessage(messageContent);
-
-        // Count selected tray birds + drawn deck birds
-        int selectedCount = player.getHand().getTempDrawnBirds().size();
-        selectedCount += drawTray.getComponents().stream()
-                .filter(component -> component instanceof Button)
-                .filter(button -> ((Button) button).getStyle() == ButtonStyle.SUCCESS)
-                .count();
-
-        // If at max: disable unselected buttons; otherwise enable all
-        List<Button> finalTrayButtons = new ArrayList<>();
-        for (ItemComponent component : drawTray.getComponents()) {
-            if (component instanceof Button button) {
-                if (selectedCount >= maxDraw && button.getStyle() == ButtonStyle.SECONDARY) {
-                    finalTrayButtons.add(button.asDisabled());
-                } else {
-                    finalTrayButtons.add(button.asEnabled());
-                }
-            }
-        }
+        game.drawBirdFromDeck(player);
 
-        // Build the response
-        ButtonInteractionProcessor.DrawCardsMessage msg = ButtonInteractionProcessor.buildDrawCardsMessage(game, player, maxDraw, selectedCount, finalTrayButtons);
-        event.editMessage(msg.content())
-                .setComponents(msg.components())
-                .queue();
+        MessageView view = buildDrawCardsMessage(game, player, session);
+        MessageViewRenderer.getInstance().update(event, view);
     }
 
-    private static void submitCardDrawSelection(ButtonInteractionEvent event, Game game, Player player) {
-        List<ActionRow> oldRows = event.getMessage().getActionRows();
-        ActionRow drawTray = oldRows.get(0);
-        List<Integer> selectedTrayIndexes = drawTray.getComponents().stream()
-                .filter(component -> component instanceof Button)
-                .map(component -> (Button) component)
-                .filter(button -> button.getStyle() == ButtonStyle.SUCCESS)
-                .map(button -> Objects.requireNonNull(button.getId()).split(":")[0])
-                .map(ButtonInteractionProcessor::resolveTrayIndex)
-                .toList();
+    private static void submitCardDrawSelection(ButtonInteractionEvent event, Game game, Player player) throws GameInputException {
+        TurnSession session = GameService.getInstance().getTurnSession(game, player, BoardAction.DRAW_CARDS);
+        List<Integer> selectedTrayIndexes = new ArrayList<>(session.getSelectedTrayIndexes());
 
         int drawnCards = game.confirmDrawBirdSelection(player, selectedTrayIndexes);
 
         String drawnBirds = "Drew **" + drawnCards + " cards\n";
         String message = Constants.PICK_ACTION + BoardAction.DRAW_CARDS.getLabel() + "\n\n" +
                 drawnBirds;
-        event.editMessage(message)
-                .setComponents()
-                .queue();
+        MessageViewRenderer.getInstance().replace(event, new MessageView(message, List.of()));
 
         GameService.getInstance().confirmDrawCards(game, player, drawnCards);
     }
-
-    private static int parseMaxDrawMessage(String content) {
-        Matcher matcher = Pattern.compile("Draw up to \\*\\*(\\d+)\\*\\* cards").matcher(content);
-        int maxDraw = matcher.find() ? Integer.parseInt(matcher.group(1)) : 1;
-        logger.debug("Max draw found in message : " + maxDraw);
-        return maxDraw;
-    }
-
-    private static int resolveTrayIndex(String buttonComponentId) {
-        for (int i = 0; i < DiscordObject.DRAW_FROM_TRAY_IDS.length; i++) {
-            if (DiscordObject.DRAW_FROM_TRAY_IDS[i].name().equals(buttonComponentId)) {
-                return i;
-            }
-        }
-        return 0;
-    }
 }
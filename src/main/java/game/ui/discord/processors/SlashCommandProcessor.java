@@ -27,6 +27,7 @@ public class SlashCommandProcessor {
                 new PickStartingHand(),
                 new TakeTurn(),
                 new GetActiveGames(),
+                new GetGameHistory(),
                 new SeeBoard(),
                 new SeeBirdFeeder(),
                 new SeeTray()
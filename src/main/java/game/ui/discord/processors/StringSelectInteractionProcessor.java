@@ -12,6 +12,10 @@ import game.components.subcomponents.Card;
 import game.exception.GameInputException;
 import game.service.DiscordBotService;
 import game.service.GameService;
+import game.service.TurnSession;
+import game.ui.discord.ComponentIdCodec;
+import game.ui.discord.MessageView;
+import game.ui.discord.MessageViewRenderer;
 import game.ui.discord.enumeration.Constants;
 import game.ui.discord.enumeration.DiscordObject;
 import game.ui.discord.enumeration.EmojiEnum;
@@ -40,43 +44,43 @@ public class StringSelectInteractionProcessor {
 
     public static void handleCommand(StringSelectInteractionEvent event) {
         logSelected(event);
-        Optional<DiscordBotService.GameContext> gameContextOptional = DiscordBotService.resolveGameContext(event);
-        if (gameContextOptional.isEmpty()) return;
-        DiscordBotService.GameContext gameContext = gameContextOptional.get();
-
-        switch (DiscordObject.valueOf(gameContext.componentId())) {
-            case PICK_STARTING_HAND_BIRD_SELECT_MENU -> pickStartingHandBirdSelectMenu(event, gameContext.game(), gameContext.player());
-            case PICK_STARTING_HAND_BONUS_SELECT_MENU -> pickStartingHandBonusSelectMenu(event, gameContext.game(), gameContext.player());
-            case PICK_STARTING_HAND_FOOD_SELECT_MENU -> pickStartingHandFoodSelectMenu(event, gameContext.game(), gameContext.player());
-            case TAKE_TURN_ACTION_CHOICE_SELECT_MENU -> takeTurnActionChoiceSelectMenu(event, gameContext.game(), gameContext.player());
-            case TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_SELECT_BIRD_SUB_MENU -> takeTurnActionChoicePlayBirdSelectBirdSubMenu(event, gameContext.game(), gameContext.player());
-            case TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_PICK_HABITAT -> takeTurnActionChoicePlayBirdPickHabitat(event, gameContext.game(), gameContext.player());
-            case TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_REMOVE_EGGS -> takeTurnActionChoicePlayBirdRemoveEggs(event, gameContext.game(), gameContext.player());
-            default -> logger.warn("Unmapped component: " + gameContext.componentId());
+        DiscordBotService.dispatch(event, gameContext -> handleCommand(event, gameContext));
+    }
+
+    private static void handleCommand(StringSelectInteractionEvent event, DiscordBotService.GameContext gameContext) {
+        try {
+            switch (gameContext.component()) {
+                case PICK_STARTING_HAND_BIRD_SELECT_MENU -> pickStartingHandBirdSelectMenu(event, gameContext.game(), gameContext.player());
+                case PICK_STARTING_HAND_BONUS_SELECT_MENU -> pickStartingHandBonusSelectMenu(event, gameContext.game(), gameContext.player());
+                case PICK_STARTING_HAND_FOOD_SELECT_MENU -> pickStartingHandFoodSelectMenu(event, gameContext.game(), gameContext.player());
+                case TAKE_TURN_ACTION_CHOICE_SELECT_MENU -> takeTurnActionChoiceSelectMenu(event, gameContext.game(), gameContext.player());
+                case TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_SELECT_BIRD_SUB_MENU -> takeTurnActionChoicePlayBirdSelectBirdSubMenu(event, gameContext.game(), gameContext.player());
+                case TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_PICK_HABITAT -> takeTurnActionChoicePlayBirdPickHabitat(event, gameContext.game(), gameContext.player());
+                case TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_REMOVE_EGGS -> takeTurnActionChoicePlayBirdRemoveEggs(event, gameContext.game(), gameContext.player());
+                default -> logger.warn("Unmapped component: " + gameContext.component());
+            }
+        } catch (GameInputException ex) {
+            event.reply(ex.getMessage()).setEphemeral(true).queue();
         }
     }
 
-    private static void takeTurnActionChoicePlayBirdRemoveEggs(StringSelectInteractionEvent event, String newMessage, Game currentGame, Player currentPlayer) {
-        takeTurnActionChoicePlayBirdRemoveEggs(event, newMessage, currentGame, currentPlayer, false);
+    private static void takeTurnActionChoicePlayBirdRemoveEggs(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer) throws GameInputException {
+        TurnSession session = GameService.getInstance().getTurnSession(currentGame, currentPlayer, BoardAction.PLAY_BIRD);
+        takeTurnActionChoicePlayBirdRemoveEggs(event, session, currentGame, currentPlayer, false);
     }
 
-    private static void takeTurnActionChoicePlayBirdRemoveEggs(StringSelectInteractionEvent event, String newMessage, Game currentGame, Player currentPlayer, boolean skipped) {
-        // If we picked the same bird twice, check that it has 2 eggs
-        String[] message = newMessage.split("\n\n");
-        String habitatName = message[3].substring(message[3].indexOf(Constants.CHOOSE_HABITAT) + Constants.CHOOSE_HABITAT.length());
-        String birdName = message[1].substring(message[1].indexOf(Constants.CHOOSE_BIRD_TO_PLAY) + Constants.CHOOSE_BIRD_TO_PLAY.length());
-        HabitatEnum habitatEnum = HabitatEnum.getHabitatFromJsonValue(habitatName);
+    private static void takeTurnActionChoicePlayBirdRemoveEggs(StringSelectInteractionEvent event, TurnSession session, Game currentGame, Player currentPlayer, boolean skipped) throws GameInputException {
+        HabitatEnum habitatEnum = session.getHabitat();
+        if (session.getBird() == null || habitatEnum == null) {
+            throw new GameInputException("Please pick a bird and a habitat first");
+        }
 
+        // If we picked the same bird twice, check that it has 2 eggs
         boolean twoEggsFromSameBird = event.getValues().contains(Constants.SAME_AGAIN) && event.getValues().size() == 2;
         List<BirdCard> birdsToRemoveEggsFrom = event.getValues()
                 .stream()
-                .map(bird -> currentPlayer.getBoard().getHabitat(habitatEnum)
-                        .getBirds()
-                        .stream()
-                        .filter(b -> b.getName().equals(bird))
-                        .findAny()
-                        .orElse(null))
-                .filter(Objects::nonNull)
+                .map(bird -> currentPlayer.getBoard().getHabitat(habitatEnum).getBirdByName(bird))
+                .flatMap(Optional::stream)
                 .toList();
         if (twoEggsFromSameBird && birdsToRemoveEggsFrom.get(0).getNest().getNumberOfEggs() < 2) {
             event.reply(birdsToRemoveEggsFrom.get(0).getName() + " doesn't have enough eggs").setEphemeral(true).queue();
@@ -85,23 +89,15 @@ public class StringSelectInteractionProcessor {
 
         // We've done all the steps and can now play the bird
         String removeEggsFromString = skipped ? Constants.NONE : StringUtil.getListAsString(event.getValues(), ", ");
-        event.editMessage(message[0] + "\n\n" + // Pick action
-                        message[1] + "\n\n" + // Choose bird
-                        message[2] + "\n\n" + // Choose food
-                        message[3] + "\n\n" + // Pick a Habitat
-                        Constants.CHOOSE_BIRDS_TO_REMOVE_EGG + removeEggsFromString)
-                .setComponents()
-                .queue();
+        MessageViewRenderer.getInstance().replace(event, new MessageView(
+                getPlayBirdRecap(session, currentPlayer) + "\n\n" + Constants.CHOOSE_BIRDS_TO_REMOVE_EGG + removeEggsFromString,
+                List.of()));
 
-        BirdCard birdToPlay = currentPlayer.getHand().getBirdByName(birdName).orElse(null);
-        GameService.getInstance().confirmPlayBird(currentGame, currentPlayer, birdToPlay, habitatEnum, birdsToRemoveEggsFrom, twoEggsFromSameBird ? 2 : 1);
+        GameService.getInstance().confirmPlayBird(currentGame, currentPlayer, session.getBird(), habitatEnum, birdsToRemoveEggsFrom, twoEggsFromSameBird ? 2 : 1);
     }
 
-    private static void takeTurnActionChoicePlayBirdRemoveEggs(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer) {
-        takeTurnActionChoicePlayBirdRemoveEggs(event, event.getMessage().getContentRaw(), currentGame, currentPlayer);
-    }
-
-    private static void takeTurnActionChoicePlayBirdPickHabitat(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer) {
+    private static void takeTurnActionChoicePlayBirdPickHabitat(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer) throws GameInputException {
+        TurnSession session = GameService.getInstance().getTurnSession(currentGame, currentPlayer, BoardAction.PLAY_BIRD);
         HabitatEnum habitatEnum = HabitatEnum.valueOf(event.getValues().get(0));
         Habitat habitat = currentPlayer.getBoard().getHabitat(habitatEnum);
 
@@ -110,17 +106,12 @@ public class StringSelectInteractionProcessor {
             event.reply("Your " + habitatEnum.getJsonValue() + " already has " + Habitat.numberOfSpaceInHabitat + " in it").setEphemeral(true).queue();
             return;
         }
+        session.setHabitat(habitatEnum);
 
         int numberOfEggsToSpend = habitat.getNumberOfEggsToSpend();
         if (numberOfEggsToSpend == 0) {
             // Skip the egg step
-            String[] message = event.getMessage().getContentRaw().split("\n\n");
-            String newMessage = message[0] + "\n\n" + // Pick action
-                            message[1] + "\n\n" + // Choose bird
-                            message[2] + "\n\n" + // Choose food
-                            Constants.CHOOSE_HABITAT + habitatEnum.getJsonValue() + "\n\n" +
-                            Constants.CHOOSE_BIRDS_TO_REMOVE_EGG + " " + Constants.NONE;
-            takeTurnActionChoicePlayBirdRemoveEggs(event, newMessage, currentGame, currentPlayer, true);
+            takeTurnActionChoicePlayBirdRemoveEggs(event, session, currentGame, currentPlayer, true);
             return;
         }
 
@@ -128,48 +119,38 @@ public class StringSelectInteractionProcessor {
         if (numberOfEggsToSpend > 1) {
             birdsToRemoveEggsFrom.add(SelectOption.of(Constants.SAME_AGAIN, Constants.SAME_AGAIN));
         }
-        StringSelectMenu selectMenu = StringSelectMenu.create(DiscordObject.TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_REMOVE_EGGS.name() + ":" + currentGame.getGameId())
+        StringSelectMenu selectMenu = StringSelectMenu.create(ComponentIdCodec.encode(DiscordObject.TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_REMOVE_EGGS, currentGame, session))
                 .setPlaceholder("Which birds to remove " + numberOfEggsToSpend + " eggs from")
                 .setMinValues(1)
                 .setMaxValues(numberOfEggsToSpend)
                 .addOptions(birdsToRemoveEggsFrom)
                 .build();
 
-        String[] message = event.getMessage().getContentRaw().split("\n\n");
-        event.editMessage(message[0] + "\n\n" + // Pick action
-                        message[1] + "\n\n" + // Choose bird
-                        message[2] + "\n\n" + // Choose food
-                        Constants.CHOOSE_HABITAT + habitatEnum.getJsonValue() + "\n\n" +
-                        Constants.CHOOSE_BIRDS_TO_REMOVE_EGG)
-                .setComponents(ActionRow.of(selectMenu))
-                .queue();
+        MessageViewRenderer.getInstance().replace(event, new MessageView(
+                getPlayBirdRecap(session, currentPlayer) + "\n\n" + Constants.CHOOSE_BIRDS_TO_REMOVE_EGG,
+                List.of(ActionRow.of(selectMenu))));
     }
 
-    private static void takeTurnActionChoiceSelectMenu(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer) {
-        try {
-            BoardAction boardAction = BoardAction.valueOf(event.getValues().get(0));
-            switch (boardAction) {
-                case GAIN_FOOD -> gainFood(event, currentGame, currentPlayer);
-                case LAY_EGGS -> layEggs(event, currentGame, currentPlayer);
-                case PLAY_BIRD -> playBird(event, currentGame, currentPlayer);
-                case DRAW_CARDS -> drawCards(event, currentGame, currentPlayer);
-                default -> logger.warn("Unmapped action: " + boardAction);
-            }
-        } catch (GameInputException ex) {
-            event.reply(ex.getMessage()).setEphemeral(true).queue();
+    private static void takeTurnActionChoiceSelectMenu(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer) throws GameInputException {
+        BoardAction boardAction = BoardAction.valueOf(event.getValues().get(0));
+        TurnSession session = GameService.getInstance().startTurnSession(currentGame, currentPlayer, boardAction);
+        switch (boardAction) {
+            case GAIN_FOOD -> gainFood(event, currentGame, currentPlayer, session);
+            case LAY_EGGS -> layEggs(event, currentGame, currentPlayer, session);
+            case PLAY_BIRD -> playBird(event, currentGame, currentPlayer, session);
+            case DRAW_CARDS -> drawCards(event, currentGame, currentPlayer, session);
+            default -> logger.warn("Unmapped action: " + boardAction);
         }
     }
 
-    private static void gainFood(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer) {
-        int maxFood = currentPlayer.getBoard().getForest().getNumberOfFoodToGain();
+    private static void gainFood(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer, TurnSession session) {
+        session.setMaxFood(currentPlayer.getBoard().getForest().getNumberOfFoodToGain());
 
-        ButtonInteractionProcessor.FeedPickerMessage picker = ButtonInteractionProcessor.buildFeedPickerMessage(currentGame, maxFood, "");
-        event.editMessage(picker.content())
-                .setComponents(picker.components())
-                .queue();
+        MessageView view = ButtonInteractionProcessor.buildFeedPickerMessage(currentGame, session);
+        MessageViewRenderer.getInstance().replace(event, view);
     }
 
-    private static void layEggs(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer) {
+    private static void layEggs(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer, TurnSession session) {
         List<BirdCard> allBirds = currentPlayer.getBoard().getPlayedBirds();
         if (allBirds.isEmpty()) {
             event.reply("You don't have any birds to lay eggs on").setEphemeral(true).queue();
@@ -177,70 +158,88 @@ public class StringSelectInteractionProcessor {
         }
 
         currentPlayer.getHand().resetTempEggs();
-        int maxEggs = currentPlayer.getBoard().getGrassland().getNumberOfEggsToLay();
+        session.setMaxEggs(currentPlayer.getBoard().getGrassland().getNumberOfEggsToLay());
 
-        ButtonInteractionProcessor.LayEggsMessage msg = ButtonInteractionProcessor.buildLayEggsHabitatMessage(currentGame, currentPlayer, maxEggs);
-        event.editMessage(msg.content())
-                .setComponents(msg.components())
-                .queue();
+        MessageView view = ButtonInteractionProcessor.buildLayEggsHabitatMessage(currentGame, currentPlayer, session);
+        MessageViewRenderer.getInstance().replace(event, view);
     }
 
-    private static void drawCards(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer) {
-        int maxDraw = currentPlayer.getBoard().getWetland().getNumberOfCardsToDraw();
-        currentPlayer.getHand().resetTempDrawnBirds();
+    private static void drawCards(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer, TurnSession session) {
+        // Birds already drawn from the deck this turn stay drawn, they count towards the cards the player can draw
+        session.setMaxDraw(currentPlayer.getBoard().getWetland().getNumberOfCardsToDraw());
 
-        ButtonInteractionProcessor.DrawCardsMessage msg = ButtonInteractionProcessor.buildDrawCardsMessage(currentGame, currentPlayer, maxDraw, 0);
-        event.editMessage(msg.content())
-                .setComponents(msg.components())
-                .queue();
+        MessageView view = ButtonInteractionProcessor.buildDrawCardsMessage(currentGame, currentPlayer, session);
+        MessageViewRenderer.getInstance().replace(event, view);
     }
 
-    private static void playBird(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer) throws GameInputException {
+    private static void playBird(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer, TurnSession session) throws GameInputException {
         if (currentPlayer.getHand().getBirdCards().isEmpty()) {
             throw new GameInputException("You do not have any birds to play");
         }
 
-        StringSelectMenu pickBirdSubmenu = StringSelectMenu.create(DiscordObject.TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_SELECT_BIRD_SUB_MENU.name() + ":" + currentGame.getGameId())
+        List<GameService.PlayableBird> playableBirds = GameService.getInstance().getPlayableBirds(currentPlayer);
+        if (playableBirds.isEmpty()) {
+            throw new GameInputException("You cannot afford to play any of the birds in your hand");
+        }
+
+        StringSelectMenu pickBirdSubmenu = StringSelectMenu.create(ComponentIdCodec.encode(DiscordObject.TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_SELECT_BIRD_SUB_MENU, currentGame, session))
                 .setPlaceholder("Pick bird to play")
-                .addOptions(currentPlayer.getHand().getBirdCards().stream().map(c -> SelectOption.of(c.getName(), c.getName())).toList())
+                .addOptions(playableBirds.stream().map(p -> SelectOption.of(p.bird().getName(), p.bird().getName())).toList())
                 .build();
 
-        event.editMessage(Constants.PICK_ACTION + BoardAction.PLAY_BIRD.getLabel() + "\n\n" + Constants.CHOOSE_BIRD_TO_PLAY + "\n\n")
-                .setComponents(ActionRow.of(pickBirdSubmenu))
-                .queue();
+        MessageViewRenderer.getInstance().replace(event, new MessageView(
+                Constants.PICK_ACTION + BoardAction.PLAY_BIRD.getLabel() + "\n\n" + Constants.CHOOSE_BIRD_TO_PLAY + "\n\n",
+                List.of(ActionRow.of(pickBirdSubmenu))));
     }
 
-    private static void takeTurnActionChoicePlayBirdSelectBirdSubMenu(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer) {
+    private static void takeTurnActionChoicePlayBirdSelectBirdSubMenu(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer) throws GameInputException {
+        TurnSession session = GameService.getInstance().getTurnSession(currentGame, currentPlayer, BoardAction.PLAY_BIRD);
         currentPlayer.getHand().resetTempPantry();
 
-        String birdToPlay;
-        try {
-            birdToPlay = event.getValues().stream().findFirst().orElseThrow(() -> new GameInputException("No bird selected"));
-            BirdCard birdCard = currentPlayer.getHand().getBirdByName(birdToPlay).orElseThrow(() -> new GameInputException("You do not have *" + birdToPlay + "* in hand"));
-        } catch (GameInputException ex) {
-            event.reply(ex.getMessage()).setEphemeral(true).queue();
-            return;
-        }
+        String birdToPlay = event.getValues().stream().findFirst().orElseThrow(() -> new GameInputException("No bird selected"));
+        BirdCard birdCard = currentPlayer.getHand().getBirdByName(birdToPlay).orElseThrow(() -> new GameInputException("You do not have *" + birdToPlay + "* in hand"));
+        session.setBird(birdCard);
+        session.setHabitat(null);
 
-        List<ActionRow> components = getChooseFoodSelector(currentGame, currentPlayer);
+        List<ActionRow> components = getChooseFoodSelector(currentGame, currentPlayer, session);
 
-        event.editMessage(Constants.PICK_ACTION + BoardAction.PLAY_BIRD.getLabel() + "\n\n" +
-                        Constants.CHOOSE_BIRD_TO_PLAY + birdToPlay + "\n\n" +
-                        Constants.CHOOSE_FOOD_TO_USE + "\n" +
-                        "Food used: " + EmojiEnum.getFoodAsEmojiList(currentPlayer.getHand().getTempPantrySpentFood()) + "\n" +
-                        "Food in hand: " + EmojiEnum.getFoodAsEmojiList(currentPlayer.getHand().getTempPantryAvailableFood()))
-                .setComponents(components)
-                .queue();
+        MessageViewRenderer.getInstance().replace(event, new MessageView(
+                getChooseFoodMessage(session, currentPlayer),
+                components));
     }
 
-    public static List<ActionRow> getChooseFoodSelector(Game currentGame, Player currentPlayer) {
+    /**
+     * Message of the food picking step of playing a bird
+     */
+    static String getChooseFoodMessage(TurnSession session, Player currentPlayer) {
+        return Constants.PICK_ACTION + BoardAction.PLAY_BIRD.getLabel() + "\n\n" +
+                Constants.CHOOSE_BIRD_TO_PLAY + session.getBird().getName() + "\n\n" +
+                Constants.CHOOSE_FOOD_TO_USE + "\n" +
+                "Food used: " + EmojiEnum.getFoodAsEmojiList(currentPlayer.getHand().getTempPantrySpentFood()) + "\n" +
+                "Food in hand: " + EmojiEnum.getFoodAsEmojiList(currentPlayer.getHand().getTempPantryAvailableFood());
+    }
+
+    /**
+     * Recap of the steps of playing a bird done so far: the bird, the food spent and the habitat once it is picked
+     */
+    static String getPlayBirdRecap(TurnSession session, Player currentPlayer) {
+        String recap = Constants.PICK_ACTION + BoardAction.PLAY_BIRD.getLabel() + "\n\n" +
+                Constants.CHOOSE_BIRD_TO_PLAY + session.getBird().getName() + "\n\n" +
+                Constants.CHOOSE_FOOD_TO_USE + EmojiEnum.getFoodAsEmojiList(currentPlayer.getHand().getTempPantrySpentFood());
+        if (session.getHabitat() != null) {
+            recap += "\n\n" + Constants.CHOOSE_HABITAT + session.getHabitat().getJsonValue();
+        }
+        return recap;
+    }
+
+    public static List<ActionRow> getChooseFoodSelector(Game currentGame, Player currentPlayer, TurnSession session) {
         List<Button> addFoodButtons = new ArrayList<>();
         List<Button> removeFoodButtons = new ArrayList<>();
         for (int i = 0; i < 5; i++) {
-            Button addFoodButton = Button.primary(DiscordObject.ADD_FOOD_IDS[i].name() + ":" + currentGame.getGameId(), "➕")
+            Button addFoodButton = Button.primary(ComponentIdCodec.encode(DiscordObject.ADD_FOOD_IDS[i], currentGame, i, session), "➕")
                     .withEmoji(Emoji.fromFormatted(FoodType.values()[i].getEmoji().getEmoteId()))
                     .withDisabled(currentPlayer.getHand().getTempPantryAvailableFood().get(FoodType.values()[i]) == 0);
-            Button removeFoodButton = Button.danger(DiscordObject.REMOVE_FOOD_IDS[i].name() + ":" + currentGame.getGameId(), "➖")
+            Button removeFoodButton = Button.danger(ComponentIdCodec.encode(DiscordObject.REMOVE_FOOD_IDS[i], currentGame, i, session), "➖")
                     .withEmoji(Emoji.fromFormatted(FoodType.values()[i].getEmoji().getEmoteId()))
                     .withDisabled(currentPlayer.getHand().getTempPantrySpentFood().get(FoodType.values()[i]) == 0);
             addFoodButtons.add(addFoodButton);
@@ -250,14 +249,14 @@ public class StringSelectInteractionProcessor {
         return List.of(
                 ActionRow.of(addFoodButtons),
                 ActionRow.of(removeFoodButtons),
-                ActionRow.of(Button.primary(DiscordObject.TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_CHOOSE_FOOD_SUBMIT_BUTTON.name() + ":" + currentGame.getGameId(), Constants.SUBMIT_SELECTION))
+                ActionRow.of(Button.primary(ComponentIdCodec.encode(DiscordObject.TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_CHOOSE_FOOD_SUBMIT_BUTTON, currentGame, session), Constants.SUBMIT_SELECTION))
         );
     }
 
     private static void pickStartingHandFoodSelectMenu(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer) {
         currentPlayer.getHand().resetPantry();
         List<FoodType> foodSelected = event.getValues().stream().filter(f -> !f.equalsIgnoreCase("none")).map(FoodType::valueOf).toList();
-        foodSelected.forEach(food -> currentPlayer.getHand().getPantry().put(food, 1));
+        foodSelected.forEach(food -> currentPlayer.getHand().setFood(food, 1));
 
         MessageEmbed embed = event.getMessage().getEmbeds().stream().findFirst().orElse(new EmbedBuilder()
                 .setDescription(Constants.BIRDS_NOT_SELECTED + "\n" + Constants.FOOD_SELECTED + "\n" + Constants.BONUS_NOT_SELECTED)  // fallback if no embed
@@ -269,8 +268,7 @@ public class StringSelectInteractionProcessor {
                 .addField(Constants.FOOD_SELECTED_FIELD, foodSelected.isEmpty() ? "None" : StringUtil.getListAsString(foodSelected.stream().map(FoodType::getDisplayName), ", "), true)
                 .build();
 
-        String buttonId = DiscordObject.PICK_STARTING_HAND_SUBMIT_BUTTON.name() + ":" + currentGame.getGameId();
-        List<ActionRow> newComponents = getNewComponents(event.getMessage(), newEmbed, buttonId);
+        List<ActionRow> newComponents = getNewComponents(event.getMessage(), newEmbed);
 
         event.editMessageEmbeds(newEmbed)
                 .setComponents(newComponents)
@@ -279,10 +277,11 @@ public class StringSelectInteractionProcessor {
 
     private static void pickStartingHandBirdSelectMenu(StringSelectInteractionEvent event, Game currentGame, Player currentPlayer) {
         currentPlayer.getHand().getBirdCards().forEach(c -> c.setSelected(false));
-        List<BirdCard> selectedCards = currentPlayer.getHand()
-                .getBirdCards()
+        List<BirdCard> selectedCards = event.getValues()
                 .stream()
-                .filter(card -> event.getValues().contains(card.getName())).toList();
+                .map(currentPlayer.getHand()::getBirdByName)
+                .flatMap(Optional::stream)
+                .toList();
         selectedCards.forEach(card -> card.setSelected(true));
 
         MessageEmbed embed = event.getMessage().getEmbeds().stream().findFirst().orElse(new EmbedBuilder()
@@ -295,8 +294,7 @@ public class StringSelectInteractionProcessor {
                 .addField(Constants.BIRDS_SELECTED_FIELD, selectedCards.isEmpty() ? "None" : StringUtil.getListAsString(selectedCards.stream().map(Card::getName), ", "), true)
                 .build();
 
-        String buttonId = DiscordObject.PICK_STARTING_HAND_SUBMIT_BUTTON.name() + ":" + currentGame.getGameId();
-        List<ActionRow> newComponents = getNewComponents(event.getMessage(), newEmbed, buttonId);
+        List<ActionRow> newComponents = getNewComponents(event.getMessage(), newEmbed);
 
         event.editMessageEmbeds(newEmbed)
                 .setComponents(newComponents)
@@ -321,20 +319,19 @@ public class StringSelectInteractionProcessor {
                 .addField(Constants.BONUS_SELECTED_FIELD, selectedCards.isEmpty() ? "None" : StringUtil.getListAsString(selectedCards.stream().map(Card::getName), ", "), true)
                 .build();
 
-        String buttonId = DiscordObject.PICK_STARTING_HAND_SUBMIT_BUTTON.name() + ":" + currentGame.getGameId();
-        List<ActionRow> newComponents = getNewComponents(event.getMessage(), newEmbed, buttonId);
+        List<ActionRow> newComponents = getNewComponents(event.getMessage(), newEmbed);
 
         event.editMessageEmbeds(newEmbed)
                 .setComponents(newComponents)
                 .queue();
     }
 
-    public static List<ActionRow> getNewComponents(Message message, MessageEmbed newEmbed, String buttonId) {
+    public static List<ActionRow> getNewComponents(Message message, MessageEmbed newEmbed) {
         return message.getActionRows().stream()
                 .map(row -> ActionRow.of(
                         row.getComponents().stream()
                                 .map(component -> {
-                                    if (component instanceof Button button && buttonId.equals(button.getId())) {
+                                    if (component instanceof Button button && isStartingHandSubmitButton(button)) {
                                         // Enable only if all selected
                                         boolean enable = newEmbed.getDescription() != null &&
                                                 newEmbed.getDescription().contains(Constants.BIRDS_SELECTED) &&
@@ -347,8 +344,14 @@ public class StringSelectInteractionProcessor {
                 )).toList();
     }
 
+    private static boolean isStartingHandSubmitButton(Button button) {
+        long componentId = ComponentIdCodec.decode(Objects.requireNonNull(button.getId()));
+        return componentId != ComponentIdCodec.INVALID
+                && ComponentIdCodec.object(componentId) == DiscordObject.PICK_STARTING_HAND_SUBMIT_BUTTON;
+    }
+
     private static void logSelected(StringSelectInteractionEvent event) {
-        logger.ridiculous(event.getUser().getName() + " selected " + event.getValues().stream()
+        logger.ridiculous(() -> event.getUser().getName() + " selected " + event.getValues().stream()
                 .map(String::toUpperCase)
                 .collect(Collectors.joining(", ")));
     }
@@ -0,0 +1,181 @@
+package util;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes the lines of every {@link Logger} from a single background thread.<br/>
+ * Logging threads only drop a record in a {@link RingBuffer}, the writer thread formats and prints them in batches.
+ * When the buffer is full the record is dropped and counted, a game thread never waits on the console.<br/>
+ * The output is the coloured console text by default, or one JSON object per line with {@code -Dlog.format=json}
+ */
+public class LogWriter {
+
+    public enum Format {
+        TEXT,
+        JSON
+    }
+
+    public record LogRecord(long timeMillis, LogLevel level, String logger, String thread, String message) {}
+
+    private static final int CAPACITY = 8192;
+    // How long the writer sleeps when there is nothing to write
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private static final LogWriter INSTANCE = new LogWriter(System.out, Format.valueOf(
+            System.getProperty("log.format", Format.TEXT.name()).toUpperCase()));
+
+    private final RingBuffer<LogRecord> buffer = new RingBuffer<>(CAPACITY);
+    private final PrintStream out;
+    private final Format format;
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    // Only touched by the writer thread
+    private final StringBuilder batch = new StringBuilder(4096);
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedTime;
+
+    private LogWriter(PrintStream out, Format format) {
+        this.out = out;
+        this.format = format;
+        Thread writer = new Thread(this::run, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(1000), "log-flush"));
+    }
+
+    public static LogWriter getInstance() {
+        return INSTANCE;
+    }
+
+    void write(LogLevel level, String logger, String message) {
+        LogRecord record = new LogRecord(System.currentTimeMillis(), level, logger,
+                Thread.currentThread().getName(), message);
+        if (buffer.offer(record)) {
+            accepted.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until every line logged so far is printed
+     *
+     * @return false if the lines were still not all printed after the timeout
+     */
+    public boolean flush(long timeoutMillis) {
+        long target = accepted.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (written.get() < target) {
+            if (System.nanoTime() > deadline) return false;
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return true;
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    private void run() {
+        long reportedDropped = 0;
+        while (true) {
+            int count = 0;
+            LogRecord record;
+            while (count < CAPACITY && (record = buffer.poll()) != null) {
+                append(batch, record);
+                count++;
+            }
+            long droppedNow = dropped.get();
+            if (droppedNow != reportedDropped) {
+                append(batch, new LogRecord(System.currentTimeMillis(), LogLevel.WARN, "LogWriter", "log-writer",
+                        (droppedNow - reportedDropped) + " log lines dropped, the log buffer was full"));
+                reportedDropped = droppedNow;
+            }
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            out.print(batch);
+            out.flush();
+            batch.setLength(0);
+            written.addAndGet(count);
+        }
+    }
+
+    private void append(StringBuilder builder, LogRecord record) {
+        if (format == Format.JSON) {
+            appendJson(builder, record);
+        } else {
+            builder.append(record.level().getTextColor())
+                    .append('[').append(time(record.timeMillis())).append("] ")
+                    .append('[').append(record.logger()).append("] -> ")
+                    .append(record.message())
+                    .append(AnsiColor.RESET)
+                    .append('\n');
+        }
+    }
+
+    /**
+     * HH:mm:ss of the time, formatted once per second
+     */
+    private String time(long timeMillis) {
+        long second = Math.floorDiv(timeMillis, 1000);
+        if (second != cachedSecond) {
+            cachedSecond = second;
+            cachedTime = TIME_FORMATTER.format(LocalTime.ofInstant(Instant.ofEpochSecond(second), ZONE));
+        }
+        return cachedTime;
+    }
+
+    /**
+     * {"time":"2024-01-01T12:00:00.123Z","level":"INFO","logger":"GameService","thread":"main","message":"..."}
+     * followed by a new line
+     */
+    public static void appendJson(StringBuilder builder, LogRecord record) {
+        builder.append("{\"time\":\"").append(Instant.ofEpochMilli(record.timeMillis()))
+                .append("\",\"level\":\"").append(record.level().name())
+                .append("\",\"logger\":");
+        appendJsonString(builder, record.logger());
+        builder.append(",\"thread\":");
+        appendJsonString(builder, record.thread());
+        builder.append(",\"message\":");
+        appendJsonString(builder, record.message());
+        builder.append("}\n");
+    }
+
+    private static void appendJsonString(StringBuilder builder, String value) {
+        if (value == null) {
+            builder.append("null");
+            return;
+        }
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        builder.append('"');
+    }
+}
@@ -1,15 +1,20 @@
 package util;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
 
+/**
+ * Messages are only built once their level is enabled, pass a supplier or a format with its arguments instead of a
+ * concatenated string for anything below INFO.<br/>
+ * Lines are printed by the {@link LogWriter} thread. {@code -Dlog.level=INFO} caps the level of every logger
+ */
 public class Logger {
 
+    private static final LogLevel MAX_LEVEL = LogLevel.valueOf(
+            System.getProperty("log.level", LogLevel.ALL.name()).toUpperCase());
+
     private LogLevel logging;
     private final String prefix;
 
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
-
     public Logger(Class<?> caller, LogLevel initialLogLevel) {
         prefix = caller.getSimpleName();
         logging = initialLogLevel;
@@ -24,18 +29,29 @@ public class Logger {
         logging = newLogLevel;
     }
 
+    public boolean isEnabled(LogLevel messageLevel) {
+        return messageLevel.getLevel() <= logging.getLevel() && messageLevel.getLevel() <= MAX_LEVEL.getLevel();
+    }
+
     public void log(LogLevel messageLevel, String logMessage) {
-        if (messageLevel.getLevel() > logging.getLevel()) {
+        if (!isEnabled(messageLevel)) {
+            return;
+        }
+        LogWriter.getInstance().write(messageLevel, prefix, logMessage);
+    }
+
+    public void log(LogLevel messageLevel, Supplier<String> logMessage) {
+        if (!isEnabled(messageLevel)) {
             return;
         }
-        String time = "[" + TIME_FORMATTER.format(LocalDateTime.now()) + "] ";
-        System.out.printf("%s%s[%s] -> %s%s\n",
-                messageLevel.getTextColor(),
-                time,
-                prefix,
-                logMessage,
-                AnsiColor.RESET
-        );
+        LogWriter.getInstance().write(messageLevel, prefix, logMessage.get());
+    }
+
+    public void log(LogLevel messageLevel, String format, Object... args) {
+        if (!isEnabled(messageLevel)) {
+            return;
+        }
+        LogWriter.getInstance().write(messageLevel, prefix, String.format(format, args));
     }
 
     public void error(String logMessage)        { log(LogLevel.ERROR, logMessage); }
@@ -46,6 +62,22 @@ public class Logger {
     public void debug(String logMessage)        { log(LogLevel.DEBUG, logMessage); }
     public void ridiculous(String logMessage)   { log(LogLevel.RIDICULOUS, logMessage); }
 
+    public void error(Supplier<String> logMessage)        { log(LogLevel.ERROR, logMessage); }
+    public void warn(Supplier<String> logMessage)         { log(LogLevel.WARN, logMessage); }
+    public void info(Supplier<String> logMessage)         { log(LogLevel.INFO, logMessage); }
+    public void io(Supplier<String> logMessage)           { log(LogLevel.IO, logMessage); }
+    public void unnecessary(Supplier<String> logMessage)  { log(LogLevel.UNNECESSARY, logMessage); }
+    public void debug(Supplier<String> logMessage)        { log(LogLevel.DEBUG, logMessage); }
+    public void ridiculous(Supplier<String> logMessage)   { log(LogLevel.RIDICULOUS, logMessage); }
+
+    public void error(String format, Object... args)        { log(LogLevel.ERROR, format, args); }
+    public void warn(String format, Object... args)         { log(LogLevel.WARN, format, args); }
+    public void info(String format, Object... args)         { log(LogLevel.INFO, format, args); }
+    public void io(String format, Object... args)           { log(LogLevel.IO, format, args); }
+    public void unnecessary(String format, Object... args)  { log(LogLevel.UNNECESSARY, format, args); }
+    public void debug(String format, Object... args)        { log(LogLevel.DEBUG, format, args); }
+    public void ridiculous(String format, Object... args)   { log(LogLevel.RIDICULOUS, format, args); }
+
     public static void main(String... args) {
         Logger logger = new Logger("Logging test", LogLevel.RIDICULOUS);
         logger.error("ERROR");
@@ -55,73 +87,8 @@ public class Logger {
         logger.unnecessary("UNNECESSARY");
         logger.debug("DEBUG");
         logger.ridiculous("RIDICULOUS");
+        logger.debug(() -> "DEBUG " + "supplier");
+        logger.debug("DEBUG %s", "format");
+        LogWriter.getInstance().flush(1000);
     }
 }
-
-class AnsiColor {
-    // Reset
-    public static final String RESET = "\033[0m";  // Text Reset
-    // Regular Colors
-    public static final String BLACK = "\033[0;30m";   // BLACK
-    public static final String RED = "\033[0;31m";     // RED
-    public static final String GREEN = "\033[0;32m";   // GREEN
-    public static final String YELLOW = "\033[0;33m";  // YELLOW
-    public static final String BLUE = "\033[0;34m";    // BLUE
-    public static final String PURPLE = "\033[0;35m";  // PURPLE
-    public static final String CYAN = "\033[0;36m";    // CYAN
-    public static final String WHITE = "\033[0;37m";   // WHITE
-    // Bold
-    public static final String BLACK_BOLD = "\033[1;30m";  // BLACK
-    public static final String RED_BOLD = "\033[1;31m";    // RED
-    public static final String GREEN_BOLD = "\033[1;32m";  // GREEN
-    public static final String YELLOW_BOLD = "\033[1;33m"; // YELLOW
-    public static final String BLUE_BOLD = "\033[1;34m";   // BLUE
-    public static final String PURPLE_BOLD = "\033[1;35m"; // PURPLE
-    public static final String CYAN_BOLD = "\033[1;36m";   // CYAN
-    public static final String WHITE_BOLD = "\033[1;37m";  // WHITE
-    // Underline
-    public static final String BLACK_UNDERLINED = "\033[4;30m";  // BLACK
-    public static final String RED_UNDERLINED = "\033[4;31m";    // RED
-    public static final String GREEN_UNDERLINED = "\033[4;32m";  // GREEN
-    public static final String YELLOW_UNDERLINED = "\033[4;33m"; // YELLOW
-    public static final String BLUE_UNDERLINED = "\033[4;34m";   // BLUE
-    public static final String PURPLE_UNDERLINED = "\033[4;35m"; // PURPLE
-    public static final String CYAN_UNDERLINED = "\033[4;36m";   // CYAN
-    public static final String WHITE_UNDERLINED = "\033[4;37m";  // WHITE
-    // Background
-    public static final String BLACK_BACKGROUND = "\033[40m";  // BLACK
-    public static final String RED_BACKGROUND = "\033[41m";    // RED
-    public static final String GREEN_BACKGROUND = "\033[42m";  // GREEN
-    public static final String YELLOW_BACKGROUND = "\033[43m"; // YELLOW
-    public static final String BLUE_BACKGROUND = "\033[44m";   // BLUE
-    public static final String PURPLE_BACKGROUND = "\033[45m"; // PURPLE
-    public static final String CYAN_BACKGROUND = "\033[46m";   // CYAN
-    public static final String WHITE_BACKGROUND = "\033[47m";  // WHITE
-    // High Intensity
-    public static final String BLACK_BRIGHT = "\033[0;90m";  // BLACK
-    public static final String RED_BRIGHT = "\033[0;91m";    // RED
-    public static final String GREEN_BRIGHT = "\033[0;92m";  // GREEN
-    public static final String YELLOW_BRIGHT = "\033[0;93m"; // YELLOW
-    public static final String BLUE_BRIGHT = "\033[0;94m";   // BLUE
-    public static final String PURPLE_BRIGHT = "\033[0;95m"; // PURPLE
-    public static final String CYAN_BRIGHT = "\033[0;96m";   // CYAN
-    public static final String WHITE_BRIGHT = "\033[0;97m";  // WHITE
-    // Bold High Intensity
-    public static final String BLACK_BOLD_BRIGHT = "\033[1;90m"; // BLACK
-    public static final String RED_BOLD_BRIGHT = "\033[1;91m";   // RED
-    public static final String GREEN_BOLD_BRIGHT = "\033[1;92m"; // GREEN
-    public static final String YELLOW_BOLD_BRIGHT = "\033[1;93m";// YELLOW
-    public static final String BLUE_BOLD_BRIGHT = "\033[1;94m";  // BLUE
-    public static final String PURPLE_BOLD_BRIGHT = "\033[1;95m";// PURPLE
-    public static final String CYAN_BOLD_BRIGHT = "\033[1;96m";  // CYAN
-    public static final String WHITE_BOLD_BRIGHT = "\033[1;97m"; // WHITE
-    // High Intensity backgrounds
-    public static final String BLACK_BACKGROUND_BRIGHT = "\033[0;100m";// BLACK
-    public static final String RED_BACKGROUND_BRIGHT = "\033[0;101m";// RED
-    public static final String GREEN_BACKGROUND_BRIGHT = "\033[0;102m";// GREEN
-    public static final String YELLOW_BACKGROUND_BRIGHT = "\033[0;103m";// YELLOW
-    public static final String BLUE_BACKGROUND_BRIGHT = "\033[0;104m";// BLUE
-    public static final String PURPLE_BACKGROUND_BRIGHT = "\033[0;105m"; // PURPLE
-    public static final String CYAN_BACKGROUND_BRIGHT = "\033[0;106m";  // CYAN
-    public static final String WHITE_BACKGROUND_BRIGHT = "\033[0;107m";   // WHITE
-}
@@ -4,8 +4,6 @@ import game.ui.discord.enumeration.EmojiEnum;
 
 import java.util.List;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -72,20 +70,41 @@ public class StringUtil {
 
     /**
      * Replace placeholders in [] with the appropriate emoji
-     * ex: [seed] gets replaced with the seed emoji
+     * ex: [seed] gets replaced with the seed emoji<br/>
+     * Text without placeholders is returned as is
      */
     public static String replacePlaceholders(String text) {
-        Pattern pattern = Pattern.compile("\\[([^]]+)]");
-        Matcher matcher = pattern.matcher(text);
-        StringBuilder result = new StringBuilder();
-
-        while (matcher.find()) {
-            String key = matcher.group(1); // the text inside [ ]
-            String replacement = EmojiEnum.getEmojiIdFromPlaceholder(key, matcher.group(0)); // leave as-is if missing
-            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        if (text.indexOf('[') < 0) {
+            return text;
         }
+        return appendReplacingPlaceholders(new StringBuilder(text.length() + 64), text).toString();
+    }
 
-        matcher.appendTail(result);
-        return result.toString();
+    /**
+     * Append a text to a builder, replacing the placeholders in [] with the appropriate emoji. Unknown placeholders
+     * are left as is<br/>
+     * The text is scanned once and placeholders are looked up in place, nothing is allocated but the builder's growth
+     */
+    public static StringBuilder appendReplacingPlaceholders(StringBuilder builder, String text) {
+        int copied = 0;
+        int open = text.indexOf('[');
+        while (open >= 0) {
+            int close = text.indexOf(']', open + 1);
+            if (close < 0) {
+                break;
+            }
+            if (close == open + 1) {
+                // Empty brackets aren't a placeholder
+                open = text.indexOf('[', close);
+                continue;
+            }
+            EmojiEnum emoji = EmojiEnum.fromPlaceholder(text, open + 1, close);
+            if (emoji != null) {
+                builder.append(text, copied, open).append(emoji.getEmoteId());
+                copied = close + 1;
+            }
+            open = text.indexOf('[', close + 1);
+        }
+        return builder.append(text, copied, text.length());
     }
 }
@@ -0,0 +1,175 @@
+package test;
+
+import game.components.catalog.*;
+import game.components.enums.Expansion;
+import game.ui.discord.enumeration.EmojiEnum;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import util.StringUtil;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CardCatalogTest {
+
+    private static CatalogContents json;
+    private static CatalogContents binary;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        json = JsonCatalogLoader.load();
+        binary = BinaryCatalogLoader.load();
+    }
+
+    // ***********************************
+    // Both loaders produce the same cards
+    // ***********************************
+
+    @Test
+    void testBirds_sameAsJson() {
+        assertFalse(json.birds().isEmpty());
+        assertEquals(json.birds().size(), binary.birds().size());
+        for (int i = 0; i < json.birds().size(); i++) {
+            BirdDefinition expected = json.birds().get(i);
+            BirdDefinition actual = binary.birds().get(i);
+            String name = expected.getName();
+            assertEquals(expected.getId(), actual.getId(), name);
+            assertEquals(expected.getName(), actual.getName(), name);
+            assertEquals(expected.getScientificName(), actual.getScientificName(), name);
+            assertEquals(expected.getExpansion(), actual.getExpansion(), name);
+            assertEquals(expected.getPower().getPowerText(), actual.getPower().getPowerText(), name);
+            assertEquals(expected.getPower().getColour(), actual.getPower().getColour(), name);
+            assertEquals(expected.getWingspan(), actual.getWingspan(), name);
+            assertEquals(expected.getFeatherPoints(), actual.getFeatherPoints(), name);
+            assertEquals(expected.getNestCapacity(), actual.getNestCapacity(), name);
+            assertEquals(expected.getNestType(), actual.getNestType(), name);
+            assertEquals(expected.getHabitats(), actual.getHabitats(), name);
+            assertEquals(expected.isPredator(), actual.isPredator(), name);
+            assertEquals(expected.isFlocking(), actual.isFlocking(), name);
+            assertEquals(expected.isBonus(), actual.isBonus(), name);
+            assertEquals(expected.getFoodCost(), actual.getFoodCost(), name);
+            assertEquals(expected.getLanguageBonusCards(), actual.getLanguageBonusCards(), name);
+        }
+    }
+
+    @Test
+    void testBirdText_precomputedOnLoad() {
+        for (BirdDefinition bird : binary.birds()) {
+            BirdText text = bird.getText();
+            String name = bird.getName();
+            assertSame(text, bird.getText(), name);
+            String powerText = bird.getPower().getPowerText();
+            assertEquals(StringUtil.isEmpty(powerText) ? "" : StringUtil.replacePlaceholders(powerText), text.getPower(), name);
+            assertFalse(text.getPower().contains("[seed]"), name);
+            assertEquals(text.getHabitats().split(" ").length, bird.getHabitats().size(), name);
+            assertEquals(EmojiEnum.CARD.getEmoteId() + " " + name + " " + EmojiEnum.EGG.getEmoteId().repeat(2), text.asCard(2), name);
+            assertEquals(EmojiEnum.CARD.getEmoteId() + " " + name + " ", text.asCard(0), name);
+        }
+    }
+
+    @Test
+    void testBonuses_sameAsJson() {
+        assertFalse(json.bonuses().isEmpty());
+        assertEquals(json.bonuses().size(), binary.bonuses().size());
+        for (int i = 0; i < json.bonuses().size(); i++) {
+            BonusDefinition expected = json.bonuses().get(i);
+            BonusDefinition actual = binary.bonuses().get(i);
+            String name = expected.getName();
+            assertEquals(expected.getId(), actual.getId(), name);
+            assertEquals(expected.getName(), actual.getName(), name);
+            assertEquals(expected.getExpansion(), actual.getExpansion(), name);
+            assertEquals(expected.isAutomaCompatible(), actual.isAutomaCompatible(), name);
+            assertEquals(expected.isAutomaExclusive(), actual.isAutomaExclusive(), name);
+            assertEquals(expected.getCondition(), actual.getCondition(), name);
+            assertEquals(expected.getExplanatoryText(), actual.getExplanatoryText(), name);
+        }
+    }
+
+    @Test
+    void testGoals_sameAsJson() {
+        assertFalse(json.goals().isEmpty());
+        assertEquals(json.goals().size(), binary.goals().size());
+        for (int i = 0; i < json.goals().size(); i++) {
+            GoalDefinition expected = json.goals().get(i);
+            GoalDefinition actual = binary.goals().get(i);
+            String name = expected.getName();
+            assertEquals(expected.getId(), actual.getId(), name);
+            assertEquals(expected.getName(), actual.getName(), name);
+            assertEquals(expected.getExpansion(), actual.getExpansion(), name);
+            assertEquals(expected.isDuet(), actual.isDuet(), name);
+            assertEquals(expected.getCondition(), actual.getCondition(), name);
+            assertEquals(expected.getExplanatoryText(), actual.getExplanatoryText(), name);
+        }
+    }
+
+    // ***********************************
+    // Bird ids
+    // ***********************************
+
+    @Test
+    void testBirdIds_positionInCatalog() {
+        for (int i = 0; i < json.birds().size(); i++) {
+            assertEquals(i, json.birds().get(i).getId(), json.birds().get(i).getName());
+            assertEquals(i, binary.birds().get(i).getId(), binary.birds().get(i).getName());
+        }
+    }
+
+    // ***********************************
+    // Catalog indexes
+    // ***********************************
+
+    @Test
+    void testCatalogIndexes_resolveEveryCard() {
+        CardCatalog catalog = CardCatalog.getInstance();
+        catalog.getBirds().forEach(bird -> {
+            assertEquals(bird.getId(), catalog.getBirdId(bird.getName()));
+            assertSame(bird, catalog.getBird(bird.getId()));
+        });
+        catalog.getBonuses().forEach(bonus -> assertSame(bonus, catalog.getBonus(bonus.getId())));
+        catalog.getGoals().forEach(goal -> assertSame(goal, catalog.getGoal(goal.getId())));
+    }
+
+    @Test
+    void testCatalogIndexes_unknownCards() {
+        CardCatalog catalog = CardCatalog.getInstance();
+        assertEquals(-1, catalog.getBirdId("Not a bird"));
+        assertEquals(-1, catalog.getBonusIndex(0));
+        assertEquals(-1, catalog.getBonusIndex(999_999));
+    }
+
+    // ***********************************
+    // Deck templates
+    // ***********************************
+
+    @Test
+    void testDeckTemplate_sameCardsAsFilteringTheCatalog() {
+        CardCatalog catalog = CardCatalog.getInstance();
+        List<Expansion> expansions = List.of(Expansion.OCEANIA, Expansion.BASE, Expansion.EUROPE);
+        DeckTemplate template = catalog.getDeckTemplate(expansions);
+
+        int[] expectedBirds = catalog.getBirds().stream()
+                .filter(b -> expansions.contains(b.getExpansion()))
+                .mapToInt(CardDefinition::getId)
+                .toArray();
+        int[] expectedBonuses = IntStream.range(0, catalog.getBonuses().size())
+                .filter(i -> expansions.contains(catalog.getBonuses().get(i).getExpansion()))
+                .filter(i -> !catalog.getBonuses().get(i).isAutomaExclusive())
+                .toArray();
+        assertArrayEquals(expectedBirds, template.birdIds());
+        assertArrayEquals(expectedBonuses, template.bonusIndexes());
+    }
+
+    @Test
+    void testDeckTemplate_cachedPerExpansionMix() {
+        CardCatalog catalog = CardCatalog.getInstance();
+        DeckTemplate template = catalog.getDeckTemplate(List.of(Expansion.BASE, Expansion.ASIA));
+        assertSame(template, catalog.getDeckTemplate(List.of(Expansion.ASIA, Expansion.BASE)));
+        assertSame(catalog.getDeckTemplate(List.of(Expansion.values())), catalog.getDeckTemplate(List.of(Expansion.values())));
+    }
+}
@@ -0,0 +1,91 @@
+package test;
+
+import game.service.ChannelOutbox;
+import game.ui.discord.MessageView;
+import net.dv8tion.jda.api.exceptions.RateLimitedException;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
+import net.dv8tion.jda.api.interactions.components.buttons.Button;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChannelOutboxTest {
+
+    private static final List<ActionRow> PROMPT_ROWS = List.of(ActionRow.of(Button.success("~1", "Take Turn")));
+
+    private static void awaitSent(ChannelOutbox outbox, long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (outbox.getMetrics().getSent() + outbox.getMetrics().getFailed() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(outbox.getMetrics().getSent() >= count, outbox.getMetrics().toString());
+    }
+
+    @Test
+    void testMerge_joinsTextsIntoTheNextPrompt() {
+        List<MessageView> merged = ChannelOutbox.merge(List.of(
+                new MessageView("A played a bird", List.of()),
+                new MessageView("B please take your turn", PROMPT_ROWS),
+                new MessageView("B laid 2 eggs", List.of()),
+                new MessageView("C drew 1 card", List.of())), 2000);
+
+        assertEquals(List.of(
+                new MessageView("A played a bird\nB please take your turn", PROMPT_ROWS),
+                new MessageView("B laid 2 eggs\nC drew 1 card", List.of())), merged);
+    }
+
+    @Test
+    void testMerge_splitsTextsThatDontFit() {
+        List<MessageView> merged = ChannelOutbox.merge(List.of(
+                new MessageView("aaaa", List.of()),
+                new MessageView("bbbb", List.of()),
+                new MessageView("cccc", List.of())), 10);
+
+        assertEquals(List.of(new MessageView("aaaa\nbbbb", List.of()), new MessageView("cccc", List.of())), merged);
+    }
+
+    @Test
+    void testSend_batchesPerChannel() throws InterruptedException {
+        Map<Long, List<String>> sent = new ConcurrentHashMap<>();
+        ChannelOutbox outbox = new ChannelOutbox((channelId, message) ->
+                sent.computeIfAbsent(channelId, id -> new CopyOnWriteArrayList<>()).add(message.content()), Duration.ofMillis(50));
+
+        outbox.send(1L, "A confirmed their starting hand");
+        outbox.send(2L, "C confirmed their starting hand");
+        outbox.send(1L, "B confirmed their starting hand");
+
+        awaitSent(outbox, 2);
+        assertEquals(List.of("A confirmed their starting hand\nB confirmed their starting hand"), sent.get(1L));
+        assertEquals(List.of("C confirmed their starting hand"), sent.get(2L));
+        assertEquals(3, outbox.getMetrics().getQueued());
+        assertEquals(2, outbox.getMetrics().getSent());
+        assertEquals(0, outbox.getMetrics().getQueueDepth());
+    }
+
+    @Test
+    void testSend_retriesWhenRateLimited() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        ChannelOutbox outbox = new ChannelOutbox((channelId, message) -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new RateLimitedException("channels/1/messages", 10);
+            }
+        }, Duration.ofMillis(10));
+
+        outbox.send(1L, "A drew 2 cards");
+
+        awaitSent(outbox, 1);
+        assertEquals(3, attempts.get());
+        assertEquals(2, outbox.getMetrics().getRateLimited());
+        assertEquals(1, outbox.getMetrics().getSent());
+        assertEquals(0, outbox.getMetrics().getFailed());
+    }
+}
@@ -0,0 +1,73 @@
+package test;
+
+import game.service.TurnSessionStore;
+import game.ui.discord.ComponentIdCodec;
+import game.ui.discord.enumeration.DiscordObject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComponentIdCodecTest {
+
+    private static final int MAX_NONCE = (1 << TurnSessionStore.NONCE_BITS) - 1;
+
+    @Test
+    void testRoundTrip_everyObject() {
+        for (DiscordObject object : DiscordObject.values()) {
+            String id = ComponentIdCodec.encode(object, 42, 3, 1234);
+            long decoded = ComponentIdCodec.decode(id);
+            assertEquals(object, ComponentIdCodec.object(decoded), id);
+            assertEquals(3, ComponentIdCodec.index(decoded), id);
+            assertEquals(42, ComponentIdCodec.gameNumber(decoded), id);
+            assertEquals(1234, ComponentIdCodec.nonce(decoded), id);
+        }
+    }
+
+    @Test
+    void testRoundTrip_extremeValues() {
+        DiscordObject last = DiscordObject.values()[DiscordObject.values().length - 1];
+        String id = ComponentIdCodec.encode(last, Integer.MAX_VALUE, 15, MAX_NONCE);
+        long decoded = ComponentIdCodec.decode(id);
+        assertEquals(last, ComponentIdCodec.object(decoded));
+        assertEquals(15, ComponentIdCodec.index(decoded));
+        assertEquals(Integer.MAX_VALUE, ComponentIdCodec.gameNumber(decoded));
+        assertEquals(MAX_NONCE, ComponentIdCodec.nonce(decoded));
+
+        long first = ComponentIdCodec.decode(ComponentIdCodec.encode(DiscordObject.values()[0], 0, 0, 0));
+        assertEquals(DiscordObject.values()[0], ComponentIdCodec.object(first));
+        assertEquals(0, ComponentIdCodec.gameNumber(first));
+    }
+
+    @Test
+    void testEncode_shortIds() {
+        String id = ComponentIdCodec.encode(DiscordObject.TAKE_TURN_ACTION_CHOICE_PLAY_BIRD_CHOOSE_FOOD_ADD_WORM, Integer.MAX_VALUE, 15, MAX_NONCE);
+        assertEquals(ComponentIdCodec.PREFIX, id.charAt(0));
+        assertTrue(id.length() <= 12, id);
+    }
+
+    @Test
+    void testDecode_legacyIds() {
+        long decoded = ComponentIdCodec.decode("TAKE_TURN_ACTION_CHOICE_GAIN_FOOD_DIE_3:game_id-17");
+        assertEquals(DiscordObject.TAKE_TURN_ACTION_CHOICE_GAIN_FOOD_DIE_3, ComponentIdCodec.object(decoded));
+        assertEquals(3, ComponentIdCodec.index(decoded));
+        assertEquals(17, ComponentIdCodec.gameNumber(decoded));
+        assertEquals(0, ComponentIdCodec.nonce(decoded));
+
+        decoded = ComponentIdCodec.decode("PROMPT_TAKE_TURN_BUTTON:game_id-0");
+        assertEquals(DiscordObject.PROMPT_TAKE_TURN_BUTTON, ComponentIdCodec.object(decoded));
+        assertEquals(0, ComponentIdCodec.gameNumber(decoded));
+    }
+
+    @Test
+    void testDecode_invalidIds() {
+        assertEquals(ComponentIdCodec.INVALID, ComponentIdCodec.decode(""));
+        assertEquals(ComponentIdCodec.INVALID, ComponentIdCodec.decode("~"));
+        assertEquals(ComponentIdCodec.INVALID, ComponentIdCodec.decode("~a-b"));
+        assertEquals(ComponentIdCodec.INVALID, ComponentIdCodec.decode("~zzzzzzzzzzz"));
+        assertEquals(ComponentIdCodec.INVALID, ComponentIdCodec.decode("~47"));
+        assertEquals(ComponentIdCodec.INVALID, ComponentIdCodec.decode("NOT_AN_OBJECT:game_id-1"));
+        assertEquals(ComponentIdCodec.INVALID, ComponentIdCodec.decode("PROMPT_TAKE_TURN_BUTTON:game_id-x"));
+        assertEquals(ComponentIdCodec.INVALID, ComponentIdCodec.decode("PROMPT_TAKE_TURN_BUTTON"));
+    }
+}
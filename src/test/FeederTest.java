@@ -1,6 +1,5 @@
 package test;
 
-import game.Game;
 import game.components.Feeder;
 import game.components.subcomponents.Die;
 import game.components.subcomponents.DieFace;
@@ -9,7 +8,9 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.SplittableRandom;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -19,8 +20,7 @@ class FeederTest {
 
     @BeforeEach
     void setUp() {
-        Game.GAME_SEED = 42L;
-        feeder = new Feeder(false);
+        feeder = new Feeder(false, new SplittableRandom(42L));
     }
 
     /**
@@ -150,4 +150,38 @@ class FeederTest {
         feeder.getDiceInFeeder().remove(0);
         assertTrue(feeder.canBeRerolled());
     }
+
+    // ===== random streams =====
+
+    @Test
+    void testReRollFeeder_sameSeed_sameFaces() {
+        Feeder other = new Feeder(false, new SplittableRandom(42L));
+        for (int roll = 0; roll < 10; roll++) {
+            assertEquals(faces(feeder), faces(other));
+            feeder.reRollFeeder();
+            other.reRollFeeder();
+        }
+    }
+
+    // ===== version =====
+
+    @Test
+    void testVersion_bumpsWhenDiceAreTakenOrRolled() {
+        long version = feeder.getVersion();
+        feeder.getDice(List.of(0, 1));
+        assertTrue(feeder.getVersion() > version);
+
+        version = feeder.getVersion();
+        feeder.reRollFeeder();
+        assertTrue(feeder.getVersion() > version);
+
+        version = feeder.getVersion();
+        feeder.canBeRerolled();
+        feeder.seeFeeder();
+        assertEquals(version, feeder.getVersion());
+    }
+
+    private static List<DieFace> faces(Feeder feeder) {
+        return feeder.getDiceInFeeder().stream().map(Die::getVisibleFace).toList();
+    }
 }
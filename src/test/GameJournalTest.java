@@ -0,0 +1,426 @@
+package test;
+
+import game.Game;
+import game.Player;
+import game.components.enums.Expansion;
+import game.components.enums.FoodType;
+import game.components.enums.HabitatEnum;
+import game.components.meta.BoardAction;
+import game.components.subcomponents.BirdCard;
+import game.components.subcomponents.BonusCard;
+import game.components.subcomponents.Die;
+import game.exception.GameInputException;
+import game.service.GameService;
+import game.service.journal.GameEvent;
+import game.service.journal.GameEvent.*;
+import game.service.journal.GameEventCodec;
+import game.service.journal.GameJournal;
+import game.service.journal.GameSnapshot;
+import game.service.journal.GameSnapshotCodec;
+import game.service.journal.JournalStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameJournalTest {
+
+    private static final List<GameEvent> EVENTS = List.of(
+            new GameCreated(42L, 7, 123456789L, List.of(1L, 2L), 5, 2, List.of(Expansion.BASE, Expansion.OCEANIA)),
+            new StartingHandsDealt(),
+            new StartingHandPicked(1L, List.of(101, 102), List.of(1001), List.of(0, 1, 0, 2, 0, 0, 0)),
+            new FirstTurnStarted(),
+            new BirdPlayed(1L, 101, HabitatEnum.WETLAND, List.of(0, 1, 0, 0, 0, 0, 0), List.of(), 1),
+            new EggsLaid(2L, List.of(101, 103), List.of(2, 1)),
+            new BirdDrawnFromDeck(2L),
+            new CardsDrawn(2L, List.of(0, 2)),
+            new FoodTaken(1L, List.of(3, 1), List.of(FoodType.FISH, FoodType.SEED)),
+            new FeederRerolled(1L),
+            new TurnEnded(1L),
+            new Reseeded(-7L));
+
+    /**
+     * Players pick their starting hand and take a few turns of every kind
+     */
+    private static Game playSomeTurns(GameJournal journal) throws GameInputException {
+        return playSomeTurns(journal, 0);
+    }
+
+    private static Game playSomeTurns(GameJournal journal, int snapshotInterval) throws GameInputException {
+        Game game = new Game(0, 99L, 900, List.of(2_000_001L, 2_000_002L));
+        game.setJournal(journal);
+        game.setSnapshotInterval(snapshotInterval);
+        journal.record(game.getCreatedEvent());
+        game.startGame();
+        for (Player player : game.getPlayers()) {
+            player.getHand().getBirdCards().get(0).setSelected(true);
+            player.getHand().getBirdCards().get(1).setSelected(true);
+            player.getHand().getBonusCards().get(0).setSelected(true);
+            player.getHand().setFood(FoodType.SEED, 1);
+            player.getHand().setFood(FoodType.WORM, 2);
+            game.confirmStartingHandPick(player.getPlayerId());
+        }
+        game.startFirstTurn();
+
+        Player first = game.getCurrentPlayer();
+        BirdCard bird = first.getHand().getBirdCards().get(0);
+        game.playBird(first, bird, bird.getHabitats().get(0), FoodType.toCounts(List.of(FoodType.SEED)), List.of(), 0);
+        game.endTurn(first);
+
+        Player second = game.getCurrentPlayer();
+        game.drawBirdFromDeck(second);
+        game.confirmDrawBirdSelection(second, List.of(1));
+        game.endTurn(second);
+
+        Die die = game.getFeeder().getDiceInFeeder().get(2);
+        game.takeFood(first, List.of(2, 0), List.of(die.getVisibleFace().getFoodType().get(0), FoodType.WORM));
+        game.rerollFeeder(first);
+        game.endTurn(first);
+
+        game.endTurn(second);
+
+        game.rerollFeeder(first);
+        first.getHand().addTempEgg(bird);
+        first.getHand().addTempEgg(bird);
+        game.layEggs(first);
+        game.endTurn(first);
+        return game;
+    }
+
+    private static Game replay(List<GameEvent> events) {
+        Game game = Game.fromEvent((GameCreated) events.get(0));
+        events.subList(1, events.size()).forEach(game::apply);
+        return game;
+    }
+
+    /**
+     * Everything a replay must rebuild, as text
+     */
+    private static String state(Game game) {
+        StringBuilder state = new StringBuilder();
+        state.append(game.getState()).append(" turn ").append(game.getTurnCounter()).append(" player ").append(game.getCurrentPlayerIndex()).append('\n');
+        for (Player player : game.getPlayers()) {
+            state.append(player.getPlayerId()).append(' ').append(player.getState())
+                    .append(" hand ").append(player.getHand().getBirdCards().stream().map(BirdCard::getId).toList())
+                    .append(" bonus ").append(player.getHand().getBonusCards().stream().map(BonusCard::getId).toList())
+                    .append(" pantry ").append(new TreeMap<>(player.getHand().getPantry()))
+                    .append(" board ").append(player.getBoard().getPlayedBirds().stream()
+                            .map(b -> b.getId() + "x" + b.getNest().getNumberOfEggs()).collect(Collectors.joining(",")))
+                    .append('\n');
+        }
+        state.append("turns ").append(game.getTurnSummaries()).append('\n');
+        state.append("feeder ").append(game.getFeeder().getDiceInFeeder().stream().map(d -> d.getVisibleFace().name()).toList()).append('\n');
+        state.append("tray ").append(Arrays.stream(game.getBirdDeck().getTray()).map(BirdCard::getId).toList()).append('\n');
+        state.append("next ").append(game.getBirdDeck().drawCard().getId()).append(' ').append(game.getBonusDeck().drawCard().getId());
+        return state.toString();
+    }
+
+    @Test
+    void testCodec_everyEventRoundTrips() {
+        ByteArrayOutputStream journal = new ByteArrayOutputStream();
+        EVENTS.forEach(event -> journal.writeBytes(GameEventCodec.encode(event)));
+        GameEventCodec.Decoded decoded = GameEventCodec.decode(ByteBuffer.wrap(journal.toByteArray()));
+        assertEquals(EVENTS, decoded.events());
+        assertEquals(journal.size(), decoded.validLength());
+    }
+
+    @Test
+    void testCodec_stopsAtTornOrCorruptedEvent() {
+        byte[] first = GameEventCodec.encode(EVENTS.get(0));
+        byte[] second = GameEventCodec.encode(EVENTS.get(2));
+
+        ByteArrayOutputStream torn = new ByteArrayOutputStream();
+        torn.writeBytes(first);
+        torn.write(second, 0, second.length - 3);
+        GameEventCodec.Decoded decoded = GameEventCodec.decode(ByteBuffer.wrap(torn.toByteArray()));
+        assertEquals(List.of(EVENTS.get(0)), decoded.events());
+        assertEquals(first.length, decoded.validLength());
+
+        second[second.length - 1] ^= 1;
+        ByteArrayOutputStream corrupted = new ByteArrayOutputStream();
+        corrupted.writeBytes(first);
+        corrupted.writeBytes(second);
+        assertEquals(List.of(EVENTS.get(0)), GameEventCodec.decode(ByteBuffer.wrap(corrupted.toByteArray())).events());
+    }
+
+    @Test
+    void testJournalStore_refusesWholeEventItCannotDecode(@TempDir Path directory) throws Exception {
+        byte[] first = GameEventCodec.encode(EVENTS.get(0));
+        byte[] payload = {99};
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        byte[] unknown = ByteBuffer.allocate(8 + payload.length).putInt(payload.length).putInt((int) crc.getValue()).put(payload).array();
+        ByteArrayOutputStream journal = new ByteArrayOutputStream();
+        journal.writeBytes(first);
+        journal.writeBytes(unknown);
+        assertThrows(IllegalArgumentException.class, () -> GameEventCodec.decode(ByteBuffer.wrap(journal.toByteArray())));
+
+        Path segment = directory.resolve("game_id-901.00000001.journal");
+        Files.write(segment, journal.toByteArray());
+        try (JournalStore store = new JournalStore(directory)) {
+            assertThrows(IOException.class, () -> store.open("game_id-901"));
+            assertThrows(IOException.class, () -> store.read("game_id-901"));
+        }
+        assertEquals(journal.size(), Files.size(segment));
+    }
+
+    @Test
+    void testReplay_rebuildsTheSameGame() throws GameInputException {
+        List<GameEvent> events = new ArrayList<>();
+        Game played = playSomeTurns(events::add);
+        Game replayed = replay(events);
+        assertEquals(state(played), state(replayed));
+    }
+
+    @Test
+    void testReplay_birdsDrawnBeforeReopeningTheDrawMenu() throws GameInputException {
+        List<GameEvent> events = new ArrayList<>();
+        Game game = new Game(0, 98L, 902, List.of(2_000_021L, 2_000_022L));
+        game.setJournal(events::add);
+        events.add(game.getCreatedEvent());
+        game.startGame();
+        for (Player player : game.getPlayers()) {
+            player.getHand().getBirdCards().get(0).setSelected(true);
+            player.getHand().getBonusCards().get(0).setSelected(true);
+            game.confirmStartingHandPick(player.getPlayerId());
+        }
+        game.startFirstTurn();
+
+        Player player = game.getCurrentPlayer();
+        int handSize = player.getHand().getBirdCards().size();
+        game.drawBirdFromDeck(player);
+        // Opening the draw menu again, with a second /take_turn or once the session expired, starts a new session only
+        GameService.getInstance().startTurnSession(game, player, BoardAction.DRAW_CARDS);
+        GameService.getInstance().getTurnSessions().endGame(game.getGameId());
+        assertEquals(1, player.getHand().getTempDrawnBirds().size());
+        game.drawBirdFromDeck(player);
+        assertEquals(2, game.confirmDrawBirdSelection(player, List.of()));
+        game.endTurn(player);
+
+        assertEquals(handSize + 2, player.getHand().getBirdCards().size());
+        assertEquals(state(game), state(replay(events)));
+    }
+
+    @Test
+    void testJournalStore_recordsAndCutsTornTail(@TempDir Path directory) throws Exception {
+        List<GameEvent> events = new ArrayList<>();
+        try (JournalStore store = new JournalStore(directory)) {
+            GameJournal journal = store.open("game_id-900");
+            playSomeTurns(event -> {
+                events.add(event);
+                journal.record(event);
+            });
+            store.flush();
+            assertEquals(List.of("game_id-900"), store.list());
+            assertEquals(events, store.read("game_id-900"));
+            assertTrue(store.getSyncs() <= store.getBatches());
+
+            // A crash in the middle of a write
+            byte[] torn = GameEventCodec.encode(new TurnEnded(2_000_002L));
+            Files.write(directory.resolve("game_id-900.00000001.journal"), Arrays.copyOf(torn, 5), StandardOpenOption.APPEND);
+            assertEquals(events, store.read("game_id-900"));
+
+            GameJournal reopened = store.open("game_id-900");
+            reopened.record(new FeederRerolled(2_000_001L));
+            store.flush();
+            List<GameEvent> expected = new ArrayList<>(events);
+            expected.add(new FeederRerolled(2_000_001L));
+            assertEquals(expected, store.read("game_id-900"));
+
+            store.delete("game_id-900");
+            store.flush();
+            assertTrue(store.list().isEmpty());
+        }
+    }
+
+    @Test
+    void testJournalStore_replayedGameMatchesThePlayedOne(@TempDir Path directory) throws Exception {
+        Game played;
+        try (JournalStore store = new JournalStore(directory)) {
+            played = playSomeTurns(store.open("game_id-900"));
+        }
+        try (JournalStore store = new JournalStore(directory)) {
+            assertEquals(state(played), state(replay(store.read("game_id-900"))));
+        }
+    }
+
+    /**
+     * Journal keeping the events in memory, and the snapshots with the number of events recorded before them
+     */
+    private static class MemoryJournal implements GameJournal {
+        private final List<GameEvent> events = new ArrayList<>();
+        private final List<GameSnapshot> snapshots = new ArrayList<>();
+        private final List<Integer> snapshotPositions = new ArrayList<>();
+
+        @Override
+        public void record(GameEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void snapshot(GameSnapshot snapshot) {
+            snapshots.add(snapshot);
+            snapshotPositions.add(events.size());
+        }
+    }
+
+    private static Game restore(GameSnapshot snapshot, List<GameEvent> eventsAfter) {
+        Game game = Game.fromSnapshot(snapshot);
+        eventsAfter.forEach(game::apply);
+        return game;
+    }
+
+    @Test
+    void testSnapshot_everySnapshotRebuildsTheSameGame() throws GameInputException {
+        MemoryJournal journal = new MemoryJournal();
+        // state() draws cards, the played game is only looked at once
+        String played = state(playSomeTurns(journal, 4));
+        assertEquals(4, journal.snapshots.size());
+        for (int i = 0; i < journal.snapshots.size(); i++) {
+            GameSnapshot snapshot = journal.snapshots.get(i);
+            List<GameEvent> eventsAfter = journal.events.subList(journal.snapshotPositions.get(i), journal.events.size());
+            assertEquals(played, state(restore(snapshot, eventsAfter)));
+        }
+        // The reseeds are journaled, the whole journal still replays to the same game
+        assertEquals(played, state(replay(journal.events)));
+    }
+
+    @Test
+    void testSnapshotCodec_roundTripsAndRejectsCorruption() throws GameInputException {
+        MemoryJournal journal = new MemoryJournal();
+        playSomeTurns(journal, 4);
+        for (GameSnapshot snapshot : journal.snapshots) {
+            byte[] encoded = GameSnapshotCodec.encode(snapshot);
+            assertEquals(Optional.of(snapshot), GameSnapshotCodec.decode(ByteBuffer.wrap(encoded)));
+            encoded[encoded.length / 2] ^= 1;
+            assertTrue(GameSnapshotCodec.decode(ByteBuffer.wrap(encoded)).isEmpty());
+        }
+    }
+
+    @Test
+    void testJournalStore_snapshotTruncatesOlderSegments(@TempDir Path directory) throws Exception {
+        Game played;
+        try (JournalStore store = new JournalStore(directory)) {
+            played = playSomeTurns(store.open("game_id-900"), 4);
+            store.flush();
+            assertEquals(4, store.getSnapshots());
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of("game_id-900.00000005.journal", "game_id-900.00000005.snapshot"),
+                    files.map(f -> f.getFileName().toString()).sorted().toList());
+        }
+        try (JournalStore store = new JournalStore(directory)) {
+            JournalStore.Recovery recovery = store.recover("game_id-900");
+            assertEquals(state(played), state(restore(recovery.snapshot(), recovery.events())));
+
+            store.delete("game_id-900");
+            assertTrue(store.list().isEmpty());
+        }
+    }
+
+    @Test
+    void testCreatedEvent_rebuildsTheSameSetup() {
+        Game game = new Game(0, 0, 901, List.of(2_000_001L));
+        Game rebuilt = Game.fromEvent(game.getCreatedEvent());
+        assertEquals(game.getSeed(), rebuilt.getSeed());
+        assertEquals(game.getGameId(), rebuilt.getGameId());
+        assertEquals(state(game), state(rebuilt));
+    }
+
+    @Test
+    void testCreateGame_unjournaledGameLeavesNoJournal(@TempDir Path directory) throws Exception {
+        GameService service = GameService.getInstance();
+        service.enableJournal(directory);
+        try {
+            Game game = service.createGame(0, List.of(2_000_031L), false);
+            assertFalse(game.isJournaled());
+            assertTrue(service.recoverGames().isEmpty());
+            service.removeGame(game.getGameId());
+        } finally {
+            service.closeJournal();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void testEviction_idleGameComesBackFromItsJournal(@TempDir Path directory) throws Exception {
+        GameService service = GameService.getInstance();
+        AtomicLong now = new AtomicLong();
+        service.enableJournal(directory);
+        service.enableEviction(Duration.ofMinutes(10), now::get);
+        try {
+            long bob = 2_000_012L;
+            Game game = service.createGame(0, List.of(2_000_011L, bob));
+            String gameId = game.getGameId();
+            for (Player player : game.getPlayers()) {
+                player.getHand().getBirdCards().get(0).setSelected(true);
+                player.getHand().getBonusCards().get(0).setSelected(true);
+                service.confirmStartingHandPick(gameId, player.getPlayerId());
+            }
+
+            now.addAndGet(Duration.ofMinutes(9).toNanos());
+            assertEquals(0, service.evictIdleGames());
+            now.addAndGet(Duration.ofMinutes(1).toNanos());
+            assertEquals(1, service.evictIdleGames());
+            for (int i = 0; i < 500 && !service.isEvicted(gameId); i++) {
+                Thread.sleep(10);
+            }
+            assertTrue(service.isEvicted(gameId));
+            assertEquals(List.of(gameId), service.getActiveGameIds(bob));
+            assertTrue(service.getActiveGames(bob).isEmpty());
+
+            // Dispatched while the game is evicted, the task brings it back
+            CompletableFuture<Game> lookedUp = new CompletableFuture<>();
+            assertTrue(service.execute(gameId, () -> lookedUp.complete(service.getGame(gameId))));
+            Game back = lookedUp.get(5, TimeUnit.SECONDS);
+            assertNotSame(game, back);
+            assertFalse(service.isEvicted(gameId));
+            assertEquals(state(game), state(back));
+            assertEquals(0, service.evictIdleGames());
+
+            now.addAndGet(Duration.ofMinutes(10).toNanos());
+            assertEquals(1, service.evictIdleGames());
+            for (int i = 0; i < 500 && !service.isEvicted(gameId); i++) {
+                Thread.sleep(10);
+            }
+            List<CompletableFuture<Game>> lookups = Stream.generate(() -> CompletableFuture.supplyAsync(() -> service.getGame(gameId)))
+                    .limit(8)
+                    .toList();
+            Game again = lookups.get(0).get(5, TimeUnit.SECONDS);
+            assertEquals(state(game), state(again));
+            for (CompletableFuture<Game> lookup : lookups) {
+                assertSame(again, lookup.get(5, TimeUnit.SECONDS));
+            }
+            service.removeGame(gameId);
+        } finally {
+            service.disableEviction();
+            service.closeJournal();
+        }
+    }
+}
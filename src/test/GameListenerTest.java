@@ -0,0 +1,83 @@
+package test;
+
+import game.Game;
+import game.Player;
+import game.components.enums.FoodType;
+import game.service.GameListener;
+import game.service.GameService;
+import game.service.history.FinishedGame;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameListenerTest {
+
+    private static final long ALICE = 5_000_001L, BOB = 5_000_002L;
+
+    /**
+     * Keeps what the service told it, as text
+     */
+    private static class RecordingListener implements GameListener {
+        private final List<String> notices = new ArrayList<>();
+        private FinishedGame finishedGame;
+
+        @Override
+        public void turnStarted(Game game, Player player) {
+            notices.add("turn " + game.getTurnCounter() + " " + player.getPlayerId());
+        }
+
+        @Override
+        public void cardsDrawn(Game game, Player player, int cards) {
+            notices.add("drew " + cards + " " + player.getPlayerId());
+        }
+
+        @Override
+        public void gameFinished(Game game, FinishedGame finishedGame) {
+            notices.add("finished " + game.getGameId());
+            this.finishedGame = finishedGame;
+        }
+    }
+
+    @Test
+    void testService_playsAWholeGameWithoutDiscord() throws Exception {
+        GameService service = GameService.getInstance();
+        RecordingListener listener = new RecordingListener();
+        service.setListener(listener);
+        service.setPlayerNames(id -> "player" + id);
+        try {
+            Game game = service.createGame(0, List.of(ALICE, BOB));
+            for (Player player : game.getPlayers()) {
+                player.getHand().getBirdCards().get(0).setSelected(true);
+                player.getHand().getBonusCards().get(0).setSelected(true);
+                service.confirmStartingHandPick(game.getGameId(), player.getPlayerId());
+                service.checkAllPlayersReady(game);
+            }
+            assertEquals(List.of("turn 1 " + ALICE), listener.notices);
+
+            Player first = game.getCurrentPlayer();
+            game.drawBirdFromDeck(first);
+            service.confirmDrawCards(game, first, game.confirmDrawBirdSelection(first, List.of()));
+            while (!game.isFinished()) {
+                Player player = game.getCurrentPlayer();
+                FoodType food = game.getFeeder().getDiceInFeeder().get(0).getVisibleFace().getFoodType().get(0);
+                game.takeFood(player, List.of(0), List.of(food));
+                service.endTurn(game, player);
+            }
+
+            assertEquals(List.of("turn 1 " + ALICE, "drew 1 " + ALICE, "turn 1 " + BOB, "turn 2 " + ALICE), listener.notices.subList(0, 4));
+            assertEquals(2 * Game.TURNS_PER_PLAYER + 2, listener.notices.size());
+            assertEquals("finished " + game.getGameId(), listener.notices.get(listener.notices.size() - 1));
+            assertEquals(List.of("player" + ALICE, "player" + BOB), listener.finishedGame.boards().stream().map(FinishedGame.FinalBoard::playerName).toList());
+            assertNull(service.getGame(game.getGameId()));
+            assertTrue(service.getActiveGameIds(ALICE).isEmpty());
+        } finally {
+            service.setListener(GameListener.NONE);
+            service.setPlayerNames(Long::toString);
+        }
+    }
+}
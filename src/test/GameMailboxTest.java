@@ -0,0 +1,139 @@
+package test;
+
+import game.service.DispatchMetrics;
+import game.service.GameMailbox;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameMailboxTest {
+
+    private ExecutorService workers;
+
+    @BeforeEach
+    void setUp() {
+        workers = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Test
+    void testExecute_tasksRunInSubmissionOrder() throws InterruptedException {
+        GameMailbox mailbox = new GameMailbox("game_id-0", workers);
+        List<Integer> order = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        for (int i = 0; i < 1000; i++) {
+            int task = i;
+            mailbox.execute(() -> order.add(task));
+        }
+        mailbox.execute(done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(1000, order.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, order.get(i));
+        }
+    }
+
+    @Test
+    void testExecute_neverTwoTasksOfAGameAtOnce() throws InterruptedException {
+        GameMailbox mailbox = new GameMailbox("game_id-0", workers);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(400);
+        ExecutorService submitters = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 400; i++) {
+            submitters.execute(() -> mailbox.execute(() -> {
+                if (running.incrementAndGet() > 1) overlaps.incrementAndGet();
+                Thread.onSpinWait();
+                running.decrementAndGet();
+                done.countDown();
+            }));
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        submitters.shutdownNow();
+        assertEquals(0, overlaps.get());
+    }
+
+    @Test
+    void testExecute_failingTaskDoesNotBlockTheGame() throws InterruptedException {
+        GameMailbox mailbox = new GameMailbox("game_id-0", workers);
+        CountDownLatch done = new CountDownLatch(1);
+        mailbox.execute(() -> { throw new IllegalStateException("boom"); });
+        mailbox.execute(done::countDown);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testOffer_fullMailboxRejects() throws InterruptedException {
+        DispatchMetrics metrics = new DispatchMetrics();
+        GameMailbox mailbox = new GameMailbox("game_id-0", workers, 2, 100, metrics);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        assertTrue(mailbox.offer(() -> {
+            started.countDown();
+            awaitQuietly(blocker);
+            done.countDown();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // The running task has left the queue, 2 more fit
+        assertTrue(mailbox.offer(done::countDown));
+        assertTrue(mailbox.offer(() -> {}));
+        assertFalse(mailbox.offer(() -> {}));
+        assertEquals(1, metrics.getRejected());
+
+        blocker.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(3, metrics.getAccepted());
+    }
+
+    @Test
+    void testOffer_dispatcherCapacitySharedBetweenGames() throws InterruptedException {
+        DispatchMetrics metrics = new DispatchMetrics();
+        ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+        GameMailbox game0 = new GameMailbox("game_id-0", virtualThreads, 10, 2, metrics);
+        GameMailbox game1 = new GameMailbox("game_id-1", virtualThreads, 10, 2, metrics);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        game0.offer(() -> { started.countDown(); awaitQuietly(blocker); });
+        game1.offer(() -> { started.countDown(); awaitQuietly(blocker); });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertTrue(game0.offer(() -> {}));
+        assertTrue(game1.offer(() -> {}));
+        assertFalse(game0.offer(() -> {}));
+        assertEquals(2, metrics.getQueueDepth());
+
+        blocker.countDown();
+        virtualThreads.shutdown();
+        assertTrue(virtualThreads.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, metrics.getQueueDepth());
+        assertEquals(4, metrics.getCompleted());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package test;
+
+import game.Game;
+import game.service.GameService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameRegistryTest {
+
+    @Test
+    void testGetActiveGames_onlyTheUsersGamesInCreationOrder() {
+        GameService service = GameService.getInstance();
+        long alice = 1_000_001L, bob = 1_000_002L, carol = 1_000_003L;
+        Game first = service.createGame(0, List.of(alice, bob));
+        Game second = service.createGame(0, List.of(bob));
+        Game third = service.createGame(0, List.of(alice, carol));
+
+        assertNotEquals(first.getGameId(), second.getGameId());
+        assertEquals(List.of(first, third), service.getActiveGames(alice));
+        assertEquals(List.of(first, second), service.getActiveGames(bob));
+        assertEquals(List.of(third), service.getActiveGames(carol));
+        assertTrue(service.getActiveGames(1_000_004L).isEmpty());
+
+        service.removeGame(first.getGameId());
+        assertEquals(List.of(third), service.getActiveGames(alice));
+        assertEquals(List.of(second), service.getActiveGames(bob));
+        assertNull(service.getGame(first.getGameId()));
+
+        service.removeGame(second.getGameId());
+        service.removeGame(third.getGameId());
+        assertTrue(service.getActiveGames(bob).isEmpty());
+    }
+
+    @Test
+    void testExecute_unknownGameRunsNothing() {
+        GameService service = GameService.getInstance();
+        Game game = service.createGame(0, List.of(1_000_005L));
+        service.removeGame(game.getGameId());
+        AtomicBoolean ran = new AtomicBoolean();
+        assertFalse(service.execute(game.getGameId(), () -> ran.set(true)));
+        assertFalse(service.isActive(game.getGameId()));
+        assertFalse(ran.get());
+    }
+}
@@ -1,5 +1,7 @@
 package test;
 
+import game.components.catalog.BirdDefinition;
+import game.components.catalog.CardCatalog;
 import game.components.enums.FoodType;
 import game.service.GameService;
 import org.junit.jupiter.api.Test;
@@ -8,8 +10,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class GameServiceTest {
@@ -25,7 +30,7 @@ class GameServiceTest {
         spentFood.put(FoodType.SEED, 1);
         spentFood.put(FoodType.FISH, 1);
 
-        int result = GameService.getInstance().checkFoodCostNoSlash(foodCost, spentFood);
+        int result = checkFoodCostNoSlash(foodCost, spentFood);
         assertEquals(0, result); // Perfect match
     }
 
@@ -35,7 +40,7 @@ class GameServiceTest {
         Map<FoodType, Integer> spentFood = new HashMap<>();
         spentFood.put(FoodType.SEED, 1); // Missing FISH
 
-        int result = GameService.getInstance().checkFoodCostNoSlash(foodCost, spentFood);
+        int result = checkFoodCostNoSlash(foodCost, spentFood);
         assertEquals(-1, result); // One food unpaid
     }
 
@@ -46,7 +51,7 @@ class GameServiceTest {
         spentFood.put(FoodType.SEED, 1);
         spentFood.put(FoodType.FISH, 1);
 
-        int result = GameService.getInstance().checkFoodCostNoSlash(foodCost, spentFood);
+        int result = checkFoodCostNoSlash(foodCost, spentFood);
         assertEquals(0, result); // 1 WILD unpaid, but still have 1 FISH unspent → 0
     }
 
@@ -56,7 +61,7 @@ class GameServiceTest {
         Map<FoodType, Integer> spentFood = new HashMap<>();
         spentFood.put(FoodType.SEED, 2); // Overpaying
 
-        int result = GameService.getInstance().checkFoodCostNoSlash(foodCost, spentFood);
+        int result = checkFoodCostNoSlash(foodCost, spentFood);
         assertEquals(1, result); // 1 extra SEED
     }
 
@@ -67,7 +72,7 @@ class GameServiceTest {
         spentFood.put(FoodType.SEED, 1);
         spentFood.put(FoodType.FISH, 1); // Overpaying
 
-        int result = GameService.getInstance().checkFoodCostNoSlash(foodCost, spentFood);
+        int result = checkFoodCostNoSlash(foodCost, spentFood);
         assertEquals(1, result); // 1 extra FISH
     }
 
@@ -77,7 +82,7 @@ class GameServiceTest {
         Map<FoodType, Integer> spentFood = new HashMap<>();
         spentFood.put(FoodType.SEED, 1);
 
-        int result = GameService.getInstance().checkFoodCostNoSlash(foodCost, spentFood);
+        int result = checkFoodCostNoSlash(foodCost, spentFood);
         assertEquals(1, result); // Nothing to pay, some food in hand
     }
 
@@ -86,7 +91,7 @@ class GameServiceTest {
         List<FoodType> foodCost = List.of();
         Map<FoodType, Integer> spentFood = new HashMap<>();
 
-        int result = GameService.getInstance().checkFoodCostNoSlash(foodCost, spentFood);
+        int result = checkFoodCostNoSlash(foodCost, spentFood);
         assertEquals(0, result); // Nothing to pay, no food in hand
     }
 
@@ -102,7 +107,7 @@ class GameServiceTest {
                 FoodType.FISH, 1
         );
 
-        int result = GameService.getInstance().checkFoodCost(foodCosts, spentFood);
+        int result = checkFoodCost(foodCosts, spentFood);
         assertEquals(0, result);
     }
 
@@ -113,7 +118,7 @@ class GameServiceTest {
                 FoodType.SEED, 1
         );
 
-        int result = GameService.getInstance().checkFoodCost(foodCosts, spentFood);
+        int result = checkFoodCost(foodCosts, spentFood);
         assertTrue(result < 0);
     }
 
@@ -128,7 +133,7 @@ class GameServiceTest {
                 FoodType.WORM, 1
         );
 
-        int result = GameService.getInstance().checkFoodCost(foodCosts, spentFood);
+        int result = checkFoodCost(foodCosts, spentFood);
         assertEquals(0, result); // One combination matches exactly
     }
 
@@ -142,7 +147,7 @@ class GameServiceTest {
                 FoodType.FISH, 1
         );
 
-        int result = GameService.getInstance().checkFoodCost(foodCosts, spentFood);
+        int result = checkFoodCost(foodCosts, spentFood);
         assertTrue(result < 0); // None match fully, should return non-zero
     }
 
@@ -151,7 +156,7 @@ class GameServiceTest {
         List<List<FoodType>> foodCosts = new ArrayList<>();
         Map<FoodType, Integer> spentFood = Map.of(FoodType.SEED, 1);
 
-        int result = GameService.getInstance().checkFoodCost(foodCosts, spentFood);
+        int result = checkFoodCost(foodCosts, spentFood);
         assertTrue(result > 0); // Default value, nothing to compare
     }
 
@@ -160,7 +165,7 @@ class GameServiceTest {
         List<List<FoodType>> foodCosts = List.of(List.of(FoodType.SEED, FoodType.WORM));
         Map<FoodType, Integer> spentFood = new HashMap<>();
 
-        int result = GameService.getInstance().checkFoodCost(foodCosts, spentFood);
+        int result = checkFoodCost(foodCosts, spentFood);
         assertTrue(result < 0); // Missing all food
     }
 
@@ -171,7 +176,7 @@ class GameServiceTest {
                 FoodType.SEED, 1
         );
 
-        int result = GameService.getInstance().checkFoodCost(foodCosts, spentFood);
+        int result = checkFoodCost(foodCosts, spentFood);
         assertEquals(0, result); // Should be able to pay wild with anything
     }
 
@@ -182,7 +187,7 @@ class GameServiceTest {
                 FoodType.SEED, 2
         );
 
-        int result = GameService.getInstance().checkFoodCost(foodCosts, spentFood);
+        int result = checkFoodCost(foodCosts, spentFood);
         assertTrue(result > 0); // We used too much food
     }
 
@@ -195,7 +200,7 @@ class GameServiceTest {
                 FoodType.SEED, 1
         );
 
-        int result = GameService.getInstance().checkFoodCost(foodCosts, spentFood);
+        int result = checkFoodCost(foodCosts, spentFood);
         assertEquals(0, result); // Should be able to pay wild with anything
     }
 
@@ -206,7 +211,7 @@ class GameServiceTest {
                 FoodType.FRUIT, 6
         );
 
-        int result = GameService.getInstance().checkFoodCost(foodCosts, spentFood);
+        int result = checkFoodCost(foodCosts, spentFood);
         assertEquals(0, result); // Should be able to pay wild with anything
     }
 
@@ -218,7 +223,7 @@ class GameServiceTest {
                 FoodType.RODENT, 3
         );
 
-        int result = GameService.getInstance().checkFoodCost(foodCosts, spentFood);
+        int result = checkFoodCost(foodCosts, spentFood);
         assertEquals(0, result); // Should be able to pay wild with anything
     }
 
@@ -230,7 +235,7 @@ class GameServiceTest {
                 FoodType.RODENT, 3
         );
 
-        int result = GameService.getInstance().checkFoodCost(foodCosts, spentFood);
+        int result = checkFoodCost(foodCosts, spentFood);
         assertTrue(result > 0);
     }
 
@@ -242,7 +247,7 @@ class GameServiceTest {
                 FoodType.RODENT, 1
         );
 
-        int result = GameService.getInstance().checkFoodCost(foodCosts, spentFood);
+        int result = checkFoodCost(foodCosts, spentFood);
         assertTrue(result < 1);
     }
 
@@ -254,7 +259,155 @@ class GameServiceTest {
                 FoodType.RODENT, 2
         );
 
-        int result = GameService.getInstance().checkFoodCost(foodCosts, spentFood);
+        int result = checkFoodCost(foodCosts, spentFood);
         assertEquals(result, 0);
     }
+
+    // ***********************************
+    // checkFoodCost - count vectors
+    // ***********************************
+
+    @Test
+    void testCheckFoodCostVectors_randomCostsSameAsMaps() {
+        Random random = new Random(42L);
+        FoodType[] foodTypes = FoodType.values();
+        for (int i = 0; i < 20_000; i++) {
+            List<List<FoodType>> foodCosts = new ArrayList<>();
+            int alternatives = random.nextInt(4);
+            for (int a = 0; a < alternatives; a++) {
+                List<FoodType> foodCost = new ArrayList<>();
+                int size = random.nextInt(5);
+                for (int f = 0; f < size; f++) {
+                    foodCost.add(foodTypes[random.nextInt(foodTypes.length)]);
+                }
+                foodCosts.add(foodCost);
+            }
+            Map<FoodType, Integer> spentFood = new HashMap<>();
+            for (FoodType foodType : foodTypes) {
+                if (foodType != FoodType.WILD && random.nextBoolean()) {
+                    spentFood.put(foodType, random.nextInt(4));
+                }
+            }
+            checkFoodCost(foodCosts, spentFood);
+        }
+    }
+
+    @Test
+    void testCheckFoodCostVectors_everyBirdSameAsMaps() {
+        Random random = new Random(7L);
+        for (BirdDefinition bird : CardCatalog.getInstance().getBirds()) {
+            for (int i = 0; i < 10; i++) {
+                Map<FoodType, Integer> spentFood = new HashMap<>();
+                FoodType.getStartingHandFoodTypes().forEach(f -> spentFood.put(f, random.nextInt(3)));
+                spentFood.put(FoodType.NECTAR, random.nextInt(2));
+                int expected = mapCheckFoodCost(bird.getFoodCost(), spentFood);
+                assertEquals(expected, GameService.getInstance().checkFoodCost(bird.getFoodCostVectors(), FoodType.toCounts(spentFood)), bird.getName());
+            }
+        }
+    }
+
+    // ***********************************
+    // canAffordFoodCost
+    // ***********************************
+
+    @Test
+    void testCanAffordFoodCost_twoForOne() {
+        int[][] foodCosts = { FoodType.toCounts(List.of(FoodType.FISH, FoodType.FISH)) };
+        int[] pantry = FoodType.toCounts(Map.of(FoodType.FISH, 1, FoodType.SEED, 1, FoodType.FRUIT, 1));
+        assertTrue(GameService.getInstance().canAffordFoodCost(foodCosts, pantry));
+        pantry = FoodType.toCounts(Map.of(FoodType.FISH, 1));
+        assertFalse(GameService.getInstance().canAffordFoodCost(foodCosts, pantry));
+    }
+
+    @Test
+    void testCanAffordFoodCost_everyBirdSameAsTryingEverySpend() {
+        Random random = new Random(3L);
+        for (BirdDefinition bird : CardCatalog.getInstance().getBirds()) {
+            int[] pantry = new int[FoodType.values().length];
+            for (FoodType foodType : FoodType.values()) {
+                if (foodType != FoodType.WILD) pantry[foodType.ordinal()] = random.nextInt(3);
+            }
+            boolean expected = someSpendPays(bird.getFoodCostVectors(), pantry, new int[pantry.length], 0);
+            assertEquals(expected, GameService.getInstance().canAffordFoodCost(bird.getFoodCostVectors(), pantry), bird.getName());
+        }
+    }
+
+    private static boolean someSpendPays(int[][] foodCosts, int[] pantry, int[] spent, int foodIndex) {
+        if (foodIndex == pantry.length) {
+            return GameService.getInstance().checkFoodCost(foodCosts, spent) == 0;
+        }
+        for (int amount = 0; amount <= pantry[foodIndex]; amount++) {
+            spent[foodIndex] = amount;
+            if (someSpendPays(foodCosts, pantry, spent, foodIndex + 1)) {
+                return true;
+            }
+        }
+        spent[foodIndex] = 0;
+        return false;
+    }
+
+    /**
+     * Check with both the map and the count vector checkers, they must agree
+     */
+    private static int checkFoodCost(List<List<FoodType>> foodCosts, Map<FoodType, Integer> spentFood) {
+        int expected = mapCheckFoodCost(foodCosts, spentFood);
+        int[][] foodCostVectors = foodCosts.stream().map(FoodType::toCounts).toArray(int[][]::new);
+        int[] spentFoodCounts = FoodType.toCounts(spentFood);
+        assertEquals(expected, GameService.getInstance().checkFoodCost(foodCostVectors, spentFoodCounts), foodCosts + " " + spentFood);
+        assertArrayEquals(FoodType.toCounts(spentFood), spentFoodCounts);
+        return expected;
+    }
+
+    private static int checkFoodCostNoSlash(List<FoodType> foodCost, Map<FoodType, Integer> spentFood) {
+        int[] spentFoodCounts = FoodType.toCounts(spentFood);
+        int expected = mapCheckFoodCostNoSlash(foodCost, spentFood);
+        assertEquals(expected, GameService.getInstance().checkFoodCostNoSlash(FoodType.toCounts(foodCost), spentFoodCounts), foodCost + " " + spentFood);
+        return expected;
+    }
+
+    /**
+     * Reference checker over food lists and maps, the count vector checker of {@link GameService} must agree with it
+     * @param foodCosts the food cost of the bird we want to play, it's a list to account for slashes
+     * @param spentFood the food we are spending
+     * @return negative if we spent too little, positive if we spent too much, 0 if OK
+     */
+    private static int mapCheckFoodCost(List<List<FoodType>> foodCosts, Map<FoodType, Integer> spentFood) {
+        if (foodCosts.size() == 1) {
+            return mapCheckFoodCostNoSlash(foodCosts.get(0), new HashMap<>(spentFood));
+        }
+        int res = 10000;
+        for (List<FoodType> foodCost : foodCosts) {
+            res = mapCheckFoodCostNoSlash(foodCost, new HashMap<>(spentFood));
+            if (res == 0) {
+                return 0;
+            }
+        }
+        return res;
+    }
+
+    private static int mapCheckFoodCostNoSlash(List<FoodType> foodCost, Map<FoodType, Integer> spentFood) {
+        int leftoverFood = 0; // Food still unpaid from the food cost
+        int unspentFood = 0; // Food we still have in hand after paying the cost
+        int wildFood = 0;
+        for (FoodType foodInCost : foodCost) {
+            if (foodInCost == FoodType.WILD) {
+                wildFood++;
+            } else if (spentFood.getOrDefault(foodInCost, 0) > 0) {
+                spentFood.put(foodInCost, spentFood.get(foodInCost) - 1);
+            } else {
+                leftoverFood++;
+            }
+        }
+        unspentFood += spentFood.values().stream().mapToInt(i -> i).sum();
+        while (wildFood > 0 && unspentFood > 0) {
+            unspentFood--;
+            wildFood--;
+        }
+        leftoverFood += wildFood;
+        while (unspentFood > 1 && leftoverFood > 0) {
+            unspentFood -= 2;
+            leftoverFood--;
+        }
+        return unspentFood - leftoverFood;
+    }
 }
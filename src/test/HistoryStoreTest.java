@@ -0,0 +1,169 @@
+package test;
+
+import game.Game;
+import game.Player;
+import game.components.enums.FoodType;
+import game.exception.GameInputException;
+import game.service.GameService;
+import game.service.enumeration.GameState;
+import game.service.enumeration.PlayerState;
+import game.service.history.FinishedGame;
+import game.service.history.HistoryEntry;
+import game.service.history.HistoryStore;
+import game.service.history.TurnSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistoryStoreTest {
+
+    private static final long ALICE = 3_000_001L, BOB = 3_000_002L, CAROL = 3_000_003L;
+
+    /**
+     * Every turn of the game takes the first die of the feeder
+     */
+    private static Game playWholeGame() throws GameInputException {
+        Game game = new Game(0, 77L, 950, List.of(ALICE, BOB));
+        game.startGame();
+        for (Player player : game.getPlayers()) {
+            player.getHand().getBirdCards().get(0).setSelected(true);
+            player.getHand().getBonusCards().get(0).setSelected(true);
+            game.confirmStartingHandPick(player.getPlayerId());
+        }
+        game.startFirstTurn();
+        while (!game.isFinished()) {
+            Player player = game.getCurrentPlayer();
+            FoodType food = game.getFeeder().getDiceInFeeder().get(0).getVisibleFace().getFoodType().get(0);
+            game.takeFood(player, List.of(0), List.of(food));
+            game.endTurn(player);
+        }
+        return game;
+    }
+
+    private static FinishedGame finishedGame(String gameId, long finishedAt, long... playerIds) {
+        List<FinishedGame.FinalBoard> boards = Arrays.stream(playerIds)
+                .mapToObj(id -> new FinishedGame.FinalBoard(id, "user" + id, (int) (id % 50), 2, List.of(List.of(), List.of(), List.of())))
+                .toList();
+        return new FinishedGame(gameId, finishedAt, boards, List.of(TurnSummary.start(playerIds[0], 1).withEggsLaid(2)));
+    }
+
+    @Test
+    void testGame_finishesAfterEveryPlayersLastTurn() throws GameInputException {
+        Game game = playWholeGame();
+        assertEquals(GameState.GAME_FINISHED, game.getState());
+        assertTrue(game.getPlayers().stream().allMatch(p -> p.getState() == PlayerState.WAITING_FOR_TURN));
+        List<TurnSummary> turns = game.getTurnSummaries();
+        assertEquals(2 * Game.TURNS_PER_PLAYER, turns.size());
+        assertEquals(List.of(ALICE, BOB), turns.subList(0, 2).stream().map(TurnSummary::playerId).toList());
+        assertEquals(Game.TURNS_PER_PLAYER, turns.get(turns.size() - 1).turn());
+        assertTrue(turns.stream().allMatch(turn -> turn.foodGained().size() == 1));
+    }
+
+    @Test
+    void testStore_keepsTheWholeGame(@TempDir Path directory) throws Exception {
+        Game game = playWholeGame();
+        FinishedGame finished = FinishedGame.of(game, 1_700_000_000_000L, id -> "user" + id);
+        try (HistoryStore store = new HistoryStore(directory)) {
+            assertTrue(store.append(finished));
+            assertFalse(store.append(finished));
+            assertEquals(Optional.of(finished), store.get(game.getGameId()));
+        }
+        try (HistoryStore store = new HistoryStore(directory)) {
+            assertEquals(Optional.of(finished), store.get(game.getGameId()));
+            assertEquals(List.of(finished.toEntry()), store.byPlayer(BOB, Instant.EPOCH, 10));
+        }
+    }
+
+    @Test
+    void testStore_indexesByPlayerAndDate(@TempDir Path directory) throws Exception {
+        try (HistoryStore store = new HistoryStore(directory)) {
+            store.append(finishedGame("game_id-1", 1_000, ALICE, BOB));
+            store.append(finishedGame("game_id-2", 3_000, BOB, CAROL));
+            store.append(finishedGame("game_id-3", 2_000, ALICE, CAROL));
+        }
+        try (HistoryStore store = new HistoryStore(directory)) {
+            assertEquals(3, store.size());
+            assertEquals(List.of("game_id-3", "game_id-1"), ids(store.byPlayer(ALICE, Instant.EPOCH, 10)));
+            assertEquals(List.of("game_id-2"), ids(store.byPlayer(BOB, Instant.ofEpochMilli(2_000), 10)));
+            assertEquals(List.of("game_id-2"), ids(store.byPlayer(CAROL, Instant.EPOCH, 1)));
+            assertTrue(store.byPlayer(3_000_004L, Instant.EPOCH, 10).isEmpty());
+            assertEquals(List.of("game_id-1", "game_id-3"), ids(store.between(Instant.ofEpochMilli(1_000), Instant.ofEpochMilli(3_000))));
+            HistoryEntry entry = store.byPlayer(BOB, Instant.EPOCH, 1).get(0);
+            assertEquals(BOB % 50 + 2, entry.getScore(BOB));
+        }
+    }
+
+    @Test
+    void testStore_cutsTornGame(@TempDir Path directory) throws Exception {
+        try (HistoryStore store = new HistoryStore(directory)) {
+            store.append(finishedGame("game_id-1", 1_000, ALICE));
+        }
+        Path segment;
+        try (var files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        long validLength = Files.size(segment);
+        Files.write(segment, new byte[] { 0, 0, 0, 40, 1, 2 }, StandardOpenOption.APPEND);
+        try (HistoryStore store = new HistoryStore(directory)) {
+            assertEquals(validLength, Files.size(segment));
+            store.append(finishedGame("game_id-2", 2_000, ALICE));
+        }
+        try (HistoryStore store = new HistoryStore(directory)) {
+            assertEquals(List.of("game_id-2", "game_id-1"), ids(store.byPlayer(ALICE, Instant.EPOCH, 10)));
+            assertTrue(store.get("game_id-2").isPresent());
+        }
+    }
+
+    @Test
+    void testStore_refusesWholeGameItCannotDecode(@TempDir Path directory) throws Exception {
+        try (HistoryStore store = new HistoryStore(directory)) {
+            store.append(finishedGame("game_id-1", 1_000, ALICE));
+        }
+        Path segment;
+        try (var files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        byte[] payload = {1};
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        Files.write(segment, ByteBuffer.allocate(8 + payload.length).putInt(payload.length).putInt((int) crc.getValue()).put(payload).array(), StandardOpenOption.APPEND);
+        long length = Files.size(segment);
+        assertThrows(IOException.class, () -> new HistoryStore(directory));
+        assertEquals(length, Files.size(segment));
+    }
+
+    @Test
+    void testService_newGamesSkipTheIdsInTheHistory(@TempDir Path directory) throws Exception {
+        try (HistoryStore store = new HistoryStore(directory)) {
+            store.append(finishedGame("game_id-90000", 1_000, ALICE, BOB));
+        }
+        GameService service = GameService.getInstance();
+        service.enableHistory(directory);
+        try {
+            Game game = service.createGame(0, List.of(ALICE, BOB));
+            assertTrue(Integer.parseInt(game.getGameId().substring(Game.GAME_ID_PREFIX.length())) > 90000);
+            service.removeGame(game.getGameId());
+        } finally {
+            service.closeHistory();
+        }
+    }
+
+    private static List<String> ids(List<HistoryEntry> entries) {
+        return entries.stream().map(HistoryEntry::gameId).toList();
+    }
+}
@@ -0,0 +1,88 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import util.LogLevel;
+import util.LogWriter;
+import util.Logger;
+import util.RingBuffer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoggerTest {
+
+    @Test
+    void testRingBuffer_fullAndEmpty() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, buffer.poll());
+        }
+        assertNull(buffer.poll());
+        assertTrue(buffer.offer(5));
+        assertEquals(5, buffer.poll());
+    }
+
+    @Test
+    void testRingBuffer_concurrentProducersLoseNothing() throws InterruptedException {
+        RingBuffer<Integer> buffer = new RingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 20_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int offset = p * perProducer;
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(offset + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+        Set<Integer> received = new HashSet<>();
+        while (received.size() < producers * perProducer) {
+            Integer value = buffer.poll();
+            if (value != null) {
+                assertTrue(received.add(value), "Received twice : " + value);
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    void testSupplier_notEvaluatedWhenLevelDisabled() {
+        Logger logger = new Logger("LoggerTest", LogLevel.INFO);
+        AtomicInteger evaluations = new AtomicInteger();
+        logger.debug(() -> "debug " + evaluations.incrementAndGet());
+        assertFalse(logger.isEnabled(LogLevel.DEBUG));
+        assertEquals(0, evaluations.get());
+
+        logger.setLogLevel(LogLevel.IGNORE);
+        logger.error(() -> "error " + evaluations.incrementAndGet());
+        assertEquals(0, evaluations.get());
+    }
+
+    @Test
+    void testAppendJson_escapesTheMessage() {
+        StringBuilder builder = new StringBuilder();
+        LogWriter.appendJson(builder, new LogWriter.LogRecord(0, LogLevel.INFO, "GameService", "main",
+                "a \"quoted\"\nline\\\u0001"));
+        assertEquals("{\"time\":\"1970-01-01T00:00:00Z\",\"level\":\"INFO\",\"logger\":\"GameService\",\"thread\":\"main\"," +
+                "\"message\":\"a \\\"quoted\\\"\\nline\\\\\\u0001\"}\n", builder.toString());
+    }
+}
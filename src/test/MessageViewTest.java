@@ -0,0 +1,38 @@
+package test;
+
+import game.ui.discord.MessageView;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
+import net.dv8tion.jda.api.interactions.components.buttons.Button;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MessageViewTest {
+
+    private static MessageView view(String content, boolean firstDieSelected) {
+        Button die = firstDieSelected ? Button.success("~1", "Worm") : Button.secondary("~1", "Worm");
+        return new MessageView(content, List.of(ActionRow.of(die, Button.secondary("~2", "Seed")), ActionRow.of(Button.success("~3", "Submit"))));
+    }
+
+    @Test
+    void testDiff_sameViewRebuilt() {
+        assertEquals(MessageView.Change.NONE, view("Pick up to **2** food", false).diff(view("Pick up to **2** food", false)));
+    }
+
+    @Test
+    void testDiff_onlyWhatChanged() {
+        MessageView previous = view("Pick up to **2** food", false);
+        assertEquals(MessageView.Change.COMPONENTS, view("Pick up to **2** food", true).diff(previous));
+        assertEquals(MessageView.Change.CONTENT, view("Pick up to **1** food", false).diff(previous));
+        assertEquals(MessageView.Change.BOTH, view("Pick up to **1** food", true).diff(previous));
+    }
+
+    @Test
+    void testDiff_removedComponentsAndUnknownPrevious() {
+        MessageView previous = view("Gain Food", false);
+        assertEquals(MessageView.Change.COMPONENTS, new MessageView("Gain Food", List.of()).diff(previous));
+        assertEquals(MessageView.Change.BOTH, previous.diff(null));
+    }
+}
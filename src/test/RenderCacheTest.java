@@ -0,0 +1,63 @@
+package test;
+
+import game.Game;
+import game.ui.discord.RenderCache;
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RenderCacheTest {
+
+    private final RenderCache cache = new RenderCache();
+    private final AtomicInteger renders = new AtomicInteger();
+
+    private MessageEmbed render() {
+        return new EmbedBuilder().setDescription("render " + renders.incrementAndGet()).build();
+    }
+
+    @Test
+    void testGet_sameVersionReusesTheEmbed() {
+        MessageEmbed first = cache.get(RenderCache.View.TRAY, 3, this::render);
+        MessageEmbed second = cache.get(RenderCache.View.TRAY, 3, this::render);
+
+        assertSame(first, second);
+        assertEquals(1, renders.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void testGet_newVersionRenders() {
+        MessageEmbed first = cache.get(RenderCache.View.FEEDER, 1, this::render);
+        MessageEmbed second = cache.get(RenderCache.View.FEEDER, 2, this::render);
+
+        assertNotSame(first, second);
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    void testGet_viewsAndOwnersAreCachedSeparately() {
+        cache.get(RenderCache.View.BOARD, 1L, 5, this::render);
+        cache.get(RenderCache.View.BOARD, 2L, 5, this::render);
+        cache.get(RenderCache.View.HIDDEN_BOARD, 1L, 5, this::render);
+        cache.get(RenderCache.View.BOARD, 1L, 5, this::render);
+
+        assertEquals(3, renders.get());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void testOf_oneCachePerGameInstance() {
+        Game game = new Game(0, 1L, 970, List.of(7_000_001L));
+        Game brought = new Game(0, 1L, 970, List.of(7_000_001L));
+        assertSame(RenderCache.of(game), RenderCache.of(game));
+        assertNotSame(RenderCache.of(game), RenderCache.of(brought));
+    }
+}
@@ -0,0 +1,67 @@
+package test;
+
+import game.components.catalog.JsonCatalogLoader;
+import game.ui.discord.enumeration.EmojiEnum;
+import org.junit.jupiter.api.Test;
+import util.StringUtil;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class StringUtilTest {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\[([^]]+)]");
+
+    /**
+     * The regex implementation the scanner replaced
+     */
+    private static String replacePlaceholdersWithRegex(String text) {
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String replacement = EmojiEnum.getEmojiIdFromPlaceholder(matcher.group(1), matcher.group(0));
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    @Test
+    void testReplacePlaceholders_sameAsRegexOnEveryPowerText() throws IOException {
+        List<String> powerTexts = JsonCatalogLoader.load().birds().stream()
+                .map(bird -> bird.getPower().getPowerText())
+                .filter(Objects::nonNull)
+                .toList();
+        for (String powerText : powerTexts) {
+            assertEquals(replacePlaceholdersWithRegex(powerText), StringUtil.replacePlaceholders(powerText), powerText);
+        }
+    }
+
+    @Test
+    void testReplacePlaceholders_edgeCases() {
+        List<String> texts = List.of("", "[", "]", "[]", "[seed]", "[seed][fish]", "[[seed]", "[a[seed]", "[]seed]",
+                "gain 1 [seed", "[unknown] and [egg]", "[bonus-card]", "[Seed]", "x[wild]y", "[é]", "[seed]]");
+        for (String text : texts) {
+            assertEquals(replacePlaceholdersWithRegex(text), StringUtil.replacePlaceholders(text), text);
+        }
+    }
+
+    @Test
+    void testReplacePlaceholders_noPlaceholderReturnsTheText() {
+        String text = "Draw 2 cards";
+        assertSame(text, StringUtil.replacePlaceholders(text));
+    }
+
+    @Test
+    void testAppendReplacingPlaceholders_appendsToTheBuilder() {
+        StringBuilder builder = new StringBuilder("Food: ");
+        StringUtil.appendReplacingPlaceholders(builder, "[seed]");
+        assertEquals("Food: " + EmojiEnum.SEED.getEmoteId(), builder.toString());
+    }
+}
@@ -0,0 +1,117 @@
+package test;
+
+import game.Game;
+import game.Player;
+import game.components.meta.BoardAction;
+import game.exception.GameInputException;
+import game.service.GameService;
+import game.service.TurnSession;
+import game.service.TurnSessionStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TurnSessionStoreTest {
+
+    private static final Duration TTL = Duration.ofMinutes(15);
+
+    private AtomicLong clock;
+    private TurnSessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        store = new TurnSessionStore(TTL, clock::get);
+    }
+
+    @Test
+    void testGet_sessionOfTheUserInThatGame() {
+        TurnSession session = store.start("game_id-0", 1L, BoardAction.GAIN_FOOD);
+        store.start("game_id-0", 2L, BoardAction.LAY_EGGS);
+        store.start("game_id-1", 1L, BoardAction.DRAW_CARDS);
+
+        assertSame(session, store.get("game_id-0", 1L).orElseThrow());
+        assertEquals(BoardAction.LAY_EGGS, store.get("game_id-0", 2L).orElseThrow().getAction());
+        assertTrue(store.get("game_id-1", 2L).isEmpty());
+    }
+
+    @Test
+    void testStart_replacesThePreviousSession() {
+        TurnSession first = store.start("game_id-0", 1L, BoardAction.GAIN_FOOD);
+        first.setMaxFood(3);
+        TurnSession second = store.start("game_id-0", 1L, BoardAction.PLAY_BIRD);
+
+        assertNotSame(first, second);
+        assertSame(second, store.get("game_id-0", 1L).orElseThrow());
+        assertEquals(0, second.getMaxFood());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void testGet_expiresAfterTtl() {
+        store.start("game_id-0", 1L, BoardAction.GAIN_FOOD);
+        clock.addAndGet(TTL.toNanos());
+        assertTrue(store.get("game_id-0", 1L).isPresent());
+
+        clock.addAndGet(TTL.toNanos() + 1);
+        assertTrue(store.get("game_id-0", 1L).isEmpty());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void testGet_accessKeepsTheSessionAlive() {
+        store.start("game_id-0", 1L, BoardAction.LAY_EGGS);
+        for (int i = 0; i < 10; i++) {
+            clock.addAndGet(TTL.toNanos() / 2);
+            assertTrue(store.get("game_id-0", 1L).isPresent());
+        }
+    }
+
+    @Test
+    void testStart_sweepsExpiredSessions() {
+        store.start("game_id-0", 1L, BoardAction.GAIN_FOOD);
+        store.start("game_id-1", 2L, BoardAction.GAIN_FOOD);
+        clock.addAndGet(TTL.toNanos() + 1);
+        store.start("game_id-2", 3L, BoardAction.GAIN_FOOD);
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void testEnd_dropsSessions() {
+        store.start("game_id-0", 1L, BoardAction.GAIN_FOOD);
+        store.start("game_id-0", 2L, BoardAction.GAIN_FOOD);
+        store.start("game_id-1", 1L, BoardAction.GAIN_FOOD);
+
+        store.end("game_id-0", 1L);
+        assertTrue(store.get("game_id-0", 1L).isEmpty());
+        assertEquals(2, store.size());
+
+        store.endGame("game_id-0");
+        assertTrue(store.get("game_id-0", 2L).isEmpty());
+        assertTrue(store.get("game_id-1", 1L).isPresent());
+    }
+
+    @Test
+    void testGetTurnSession_olderNonceIsRejected() throws GameInputException {
+        GameService service = GameService.getInstance();
+        Game game = service.createGame(0, List.of(6_000_001L));
+        Player player = game.getPlayers().get(0);
+        try {
+            TurnSession first = service.startTurnSession(game, player, BoardAction.GAIN_FOOD);
+            TurnSession second = service.startTurnSession(game, player, BoardAction.LAY_EGGS);
+            assertThrows(GameInputException.class, () -> service.getTurnSession(game, player, first.getNonce()));
+            assertSame(second, service.getTurnSession(game, player, second.getNonce()));
+        } finally {
+            service.removeGame(game.getGameId());
+        }
+    }
+}